@@ -0,0 +1,98 @@
+package com.cloud.cloudstorage.benchmark;
+
+import com.cloud.cloudstorage.config.buffer.BufferPoolProperties;
+import com.cloud.cloudstorage.dto.StorageItemDto;
+import com.cloud.cloudstorage.mapper.ResourceMapper;
+import com.cloud.cloudstorage.service.*;
+import com.cloud.cloudstorage.service.impl.BufferPoolServiceImpl;
+import com.cloud.cloudstorage.service.impl.PathAdapterServiceImpl;
+import com.cloud.cloudstorage.service.impl.ResourceServiceImpl;
+import com.cloud.cloudstorage.service.impl.RootDirectoryProvisioner;
+import com.cloud.cloudstorage.service.impl.TransferMetricsServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mapstruct.factory.Mappers;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+final class BenchmarkFixtures {
+    static final long USER_ID = 1L;
+    static final String ROOT_DIR = "user-1-files/";
+    static final User USER = new User("benchmark-user", "benchmark-password",
+            List.of(new SimpleGrantedAuthority("ROLE_USER")));
+
+    private static final long SEED = 42L;
+    private static final int DIRECTORY_RATIO = 10;
+    private static final int MAX_DEPTH = 4;
+
+    private BenchmarkFixtures() {
+    }
+
+    static ResourceService createResourceService(StorageService storageService) {
+        PathAdapterServiceImpl pathAdapterService = new PathAdapterServiceImpl();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CurrentUserService currentUserService = stub(CurrentUserService.class);
+        when(currentUserService.getCurrentUserId(any())).thenReturn(USER_ID);
+
+        return new ResourceServiceImpl(
+                currentUserService,
+                pathAdapterService,
+                pathAdapterService,
+                storageService,
+                stub(ConditionCheckService.class),
+                stub(StorageUsageService.class),
+                stub(DirectoryStatsService.class),
+                stub(ObjectCacheService.class),
+                new BufferPoolServiceImpl(new BufferPoolProperties(), meterRegistry),
+                new TransferMetricsServiceImpl(meterRegistry),
+                Mappers.getMapper(ResourceMapper.class),
+                event -> {
+                },
+                stub(RootDirectoryProvisioner.class)
+        );
+    }
+
+    static <T> T stub(Class<T> type) {
+        return mock(type, withSettings().stubOnly());
+    }
+
+    static List<StorageItemDto> createChildren(String parentPath, int count) {
+        Random random = new Random(SEED);
+        List<StorageItemDto> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (i % DIRECTORY_RATIO == 0) {
+                items.add(new StorageItemDto(parentPath + String.format("dir-%06d/", i), 0));
+            } else {
+                items.add(new StorageItemDto(parentPath + String.format("file-%06d.txt", i), random.nextInt(1 << 20)));
+            }
+        }
+        return items;
+    }
+
+    static List<StorageItemDto> createTree(String rootPath, int count) {
+        Random random = new Random(SEED);
+        List<StorageItemDto> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StringBuilder path = new StringBuilder(rootPath);
+            int depth = random.nextInt(MAX_DEPTH);
+            for (int level = 0; level < depth; level++) {
+                path.append(String.format("dir-%02d-%02d/", level, random.nextInt(16)));
+            }
+
+            if (i % DIRECTORY_RATIO == 0) {
+                items.add(new StorageItemDto(path.append(String.format("dir-%06d/", i)).toString(), 0));
+            } else {
+                items.add(new StorageItemDto(path.append(String.format("file-%06d.txt", i)).toString(), random.nextInt(1 << 20)));
+            }
+        }
+        return items;
+    }
+}
@@ -0,0 +1,46 @@
+package com.cloud.cloudstorage.benchmark;
+
+import com.cloud.cloudstorage.dto.BaseResourceResponseDto;
+import com.cloud.cloudstorage.service.ResourceService;
+import com.cloud.cloudstorage.service.StorageService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class ListingSerializationBenchmark {
+    @Param({"100", "1000", "10000"})
+    private int itemCount;
+
+    private ObjectMapper objectMapper;
+    private List<BaseResourceResponseDto> listing;
+
+    @Setup
+    public void setUp() {
+        StorageService storageService = BenchmarkFixtures.stub(StorageService.class);
+        when(storageService.isResourceExisting(anyString())).thenReturn(true);
+        when(storageService.getDirectoryObjectsList(anyString()))
+                .thenReturn(BenchmarkFixtures.createChildren(BenchmarkFixtures.ROOT_DIR, itemCount));
+        ResourceService resourceService = BenchmarkFixtures.createResourceService(storageService);
+
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        listing = resourceService.getDirectoryContent("", BenchmarkFixtures.USER);
+    }
+
+    @Benchmark
+    public byte[] serializeListing() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(listing);
+    }
+}
@@ -0,0 +1,72 @@
+package com.cloud.cloudstorage.benchmark;
+
+import com.cloud.cloudstorage.dto.StorageItemDto;
+import com.cloud.cloudstorage.service.impl.PathAdapterServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class PathFormattingBenchmark {
+    private static final int PATH_COUNT = 1024;
+
+    private final PathAdapterServiceImpl pathAdapterService = new PathAdapterServiceImpl();
+    private String[] fullPaths;
+    private String[] requestPaths;
+
+    @Setup
+    public void setUp() {
+        fullPaths = BenchmarkFixtures.createTree(BenchmarkFixtures.ROOT_DIR, PATH_COUNT).stream()
+                .map(StorageItemDto::objectName)
+                .toArray(String[]::new);
+        requestPaths = new String[PATH_COUNT];
+        for (int i = 0; i < PATH_COUNT; i++) {
+            requestPaths[i] = "/" + pathAdapterService.formatFullPathForResponse(fullPaths[i]);
+        }
+    }
+
+    @Benchmark
+    public void createFullDirectoryPath(Blackhole blackhole) {
+        for (String requestPath : requestPaths) {
+            blackhole.consume(pathAdapterService.createFullDirectoryPath(BenchmarkFixtures.USER_ID, requestPath));
+        }
+    }
+
+    @Benchmark
+    public void formatParentPathForResponse(Blackhole blackhole) {
+        for (String fullPath : fullPaths) {
+            blackhole.consume(pathAdapterService.formatParentPathForResponse(fullPath));
+        }
+    }
+
+    @Benchmark
+    public void formatNameForResponse(Blackhole blackhole) {
+        for (String fullPath : fullPaths) {
+            if (fullPath.endsWith("/")) {
+                blackhole.consume(pathAdapterService.formatDirectoryNameForResponse(fullPath));
+            } else {
+                blackhole.consume(pathAdapterService.formatFilenameForResponse(fullPath));
+            }
+        }
+    }
+
+    @Benchmark
+    public void extractResourceName(Blackhole blackhole) {
+        for (String fullPath : fullPaths) {
+            blackhole.consume(pathAdapterService.extractResourceName(fullPath));
+        }
+    }
+
+    @Benchmark
+    public void formatPathForErrorMessage(Blackhole blackhole) {
+        for (String fullPath : fullPaths) {
+            blackhole.consume(pathAdapterService.formatPathForErrorMessage(fullPath));
+        }
+    }
+}
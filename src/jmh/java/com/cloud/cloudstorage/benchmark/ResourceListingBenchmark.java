@@ -0,0 +1,48 @@
+package com.cloud.cloudstorage.benchmark;
+
+import com.cloud.cloudstorage.dto.BaseResourceResponseDto;
+import com.cloud.cloudstorage.dto.StorageItemDto;
+import com.cloud.cloudstorage.service.ResourceService;
+import com.cloud.cloudstorage.service.StorageService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class ResourceListingBenchmark {
+    @Param({"1000", "10000", "100000"})
+    private int itemCount;
+
+    private ResourceService resourceService;
+
+    @Setup
+    public void setUp() {
+        List<StorageItemDto> children = BenchmarkFixtures.createChildren(BenchmarkFixtures.ROOT_DIR, itemCount);
+        List<StorageItemDto> tree = BenchmarkFixtures.createTree(BenchmarkFixtures.ROOT_DIR, itemCount);
+
+        StorageService storageService = BenchmarkFixtures.stub(StorageService.class);
+        when(storageService.isResourceExisting(anyString())).thenReturn(true);
+        when(storageService.getDirectoryObjectsList(anyString())).thenReturn(children);
+        when(storageService.getWholeDirectoryContentList(anyString())).thenReturn(tree);
+        resourceService = BenchmarkFixtures.createResourceService(storageService);
+    }
+
+    @Benchmark
+    public List<BaseResourceResponseDto> directoryContent() {
+        return resourceService.getDirectoryContent("", BenchmarkFixtures.USER);
+    }
+
+    @Benchmark
+    public List<BaseResourceResponseDto> searchedContent() {
+        return resourceService.getSearchedContent("file-0001", BenchmarkFixtures.USER);
+    }
+}
@@ -0,0 +1,55 @@
+package com.cloud.cloudstorage.benchmark;
+
+import com.cloud.cloudstorage.dto.StorageItemDto;
+import com.cloud.cloudstorage.dto.StreamResourceDto;
+import com.cloud.cloudstorage.service.ResourceService;
+import com.cloud.cloudstorage.service.StorageService;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class ZipArchiveBenchmark {
+    private static final String DIRECTORY_PATH = "archive/";
+    private static final int FILE_COUNT = 256;
+
+    @Param({"4096", "262144"})
+    private int fileSize;
+
+    private ResourceService resourceService;
+
+    @Setup
+    public void setUp() {
+        byte[] payload = new byte[fileSize];
+        new Random(42L).nextBytes(payload);
+        List<StorageItemDto> items = BenchmarkFixtures.createTree(BenchmarkFixtures.ROOT_DIR + DIRECTORY_PATH, FILE_COUNT);
+
+        StorageService storageService = BenchmarkFixtures.stub(StorageService.class);
+        when(storageService.isResourceExisting(anyString())).thenReturn(true);
+        when(storageService.getWholeDirectoryContentList(anyString())).thenReturn(items);
+        when(storageService.downloadResource(anyString())).thenAnswer(invocation -> {
+            String path = invocation.getArgument(0);
+            return new ByteArrayInputStream(path.endsWith("/") ? new byte[0] : payload);
+        });
+        resourceService = BenchmarkFixtures.createResourceService(storageService);
+    }
+
+    @Benchmark
+    public void directoryArchive() throws IOException {
+        StreamResourceDto resource = resourceService.downloadResource(DIRECTORY_PATH, BenchmarkFixtures.USER);
+        resource.body().writeTo(OutputStream.nullOutputStream());
+    }
+}
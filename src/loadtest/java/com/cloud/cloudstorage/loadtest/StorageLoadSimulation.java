@@ -0,0 +1,188 @@
+package com.cloud.cloudstorage.loadtest;
+
+import io.gatling.javaapi.core.ChainBuilder;
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Session;
+import io.gatling.javaapi.core.Simulation;
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+import io.gatling.javaapi.http.HttpRequestActionBuilder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.gatling.javaapi.core.CoreDsl.*;
+import static io.gatling.javaapi.http.HttpDsl.*;
+
+public class StorageLoadSimulation extends Simulation {
+    private static final String BASE_URL = System.getProperty("loadtest.base-url", "http://localhost:8080");
+    private static final int USERS = Integer.getInteger("loadtest.users", 20);
+    private static final int FILES_PER_USER = Integer.getInteger("loadtest.files-per-user", 50);
+    private static final int TREE_DEPTH = Integer.getInteger("loadtest.tree-depth", 3);
+    private static final int TREE_WIDTH = Integer.getInteger("loadtest.tree-width", 2);
+    private static final int SMALL_FILE_SIZE = Integer.getInteger("loadtest.small-file-size", 16 * 1024);
+    private static final int LARGE_FILE_SIZE = Integer.getInteger("loadtest.large-file-size", 8 * 1024 * 1024);
+    private static final Duration RAMP_UP = Duration.ofSeconds(Long.getLong("loadtest.ramp-up-seconds", 30));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 300));
+    private static final Duration THINK_TIME = Duration.ofMillis(Long.getLong("loadtest.think-time-millis", 200));
+
+    private static final String PASSWORD = "loadtest-password";
+    private static final String RUN_ID = Long.toString(System.currentTimeMillis() % 1_000_000, 36);
+    private static final String SEARCH_QUERY = "f-1";
+
+    private final List<String> directories = createDirectoryTree();
+    private final byte[] smallFile = createPayload(SMALL_FILE_SIZE);
+    private final byte[] largeFile = createPayload(LARGE_FILE_SIZE);
+
+    private final HttpProtocolBuilder httpProtocol = http
+            .baseUrl(BASE_URL)
+            .acceptHeader("application/json");
+
+    private final ChainBuilder signUp = exec(
+            http("sign up")
+                    .post("/api/auth/sign-up")
+                    .body(StringBody("{\"username\":\"#{username}\",\"password\":\"#{password}\",\"email\":\"#{email}\"}"))
+                    .asJson()
+                    .check(status().is(201)),
+            http("sign in")
+                    .post("/api/auth/sign-in")
+                    .body(StringBody("{\"username\":\"#{username}\",\"password\":\"#{password}\"}"))
+                    .asJson()
+                    .check(status().is(200))
+    );
+
+    private final ChainBuilder createTree = foreach(directories, "directory").on(
+            exec(http("create directory")
+                    .post("/api/directory")
+                    .queryParam("path", "#{directory}")
+                    .check(status().is(201)))
+    );
+
+    private final ChainBuilder seedFiles = repeat(FILES_PER_USER, "fileIndex").on(
+            exec(session -> session
+                    .set("uploadDirectory", randomDirectory())
+                    .set("fileName", "f-" + session.getInt("fileIndex") + ".bin"))
+                    .exec(upload("seed upload", smallFile))
+    );
+
+    private final ChainBuilder listDirectory = exec(session -> session.set("directory", randomDirectory()))
+            .exec(http("list directory")
+                    .get("/api/directory")
+                    .queryParam("path", "#{directory}"));
+
+    private final ChainBuilder search = exec(
+            http("search")
+                    .get("/api/resource/search")
+                    .queryParam("query", SEARCH_QUERY)
+    );
+
+    private final ChainBuilder uploadSmall = exec(this::withUniqueFile)
+            .exec(upload("upload small", smallFile));
+
+    private final ChainBuilder uploadLarge = exec(this::withUniqueFile)
+            .exec(upload("upload large", largeFile));
+
+    private final ChainBuilder downloadZip = exec(
+            http("download zip")
+                    .get("/api/resource/download")
+                    .queryParam("path", directories.getFirst())
+    );
+
+    private final ChainBuilder move = exec(this::withUniqueFile)
+            .exec(upload("upload move source", smallFile))
+            .exec(session -> session.set("targetDirectory", randomDirectory()))
+            .exec(http("move")
+                    .get("/api/resource/move")
+                    .queryParam("from", "#{uploadDirectory}#{fileName}")
+                    .queryParam("to", "#{targetDirectory}moved-#{fileName}"));
+
+    private final ScenarioBuilder workload = scenario("storage workload")
+            .feed(accounts())
+            .exec(signUp, createTree, seedFiles)
+            .during(DURATION).on(
+                    randomSwitch().on(
+                            percent(35.0).then(listDirectory),
+                            percent(20.0).then(search),
+                            percent(15.0).then(uploadSmall),
+                            percent(5.0).then(uploadLarge),
+                            percent(10.0).then(downloadZip),
+                            percent(15.0).then(move)
+                    ),
+                    pause(THINK_TIME)
+            );
+
+    {
+        setUp(workload.injectOpen(rampUsers(USERS).during(RAMP_UP)))
+                .protocols(httpProtocol)
+                .assertions(global().failedRequests().percent().lt(1.0));
+    }
+
+    private HttpRequestActionBuilder upload(String name, byte[] content) {
+        return http(name)
+                .post("/api/resource")
+                .queryParam("path", "#{uploadDirectory}")
+                .bodyPart(ByteArrayBodyPart("multipartFile", content)
+                        .fileName("#{fileName}")
+                        .contentType("application/octet-stream"))
+                .asMultipartForm()
+                .check(status().is(201));
+    }
+
+    private Session withUniqueFile(Session session) {
+        return session
+                .set("uploadDirectory", randomDirectory())
+                .set("fileName", "u-" + UUID.randomUUID() + ".bin");
+    }
+
+    private String randomDirectory() {
+        return directories.get(ThreadLocalRandom.current().nextInt(directories.size()));
+    }
+
+    private static Iterator<Map<String, Object>> accounts() {
+        AtomicInteger counter = new AtomicInteger();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Map<String, Object> next() {
+                String username = "lt" + RUN_ID + "-" + counter.getAndIncrement();
+                return Map.of(
+                        "username", username,
+                        "password", PASSWORD,
+                        "email", username + "@loadtest.local"
+                );
+            }
+        };
+    }
+
+    private static List<String> createDirectoryTree() {
+        List<String> result = new ArrayList<>();
+        List<String> level = List.of("");
+        for (int depth = 1; depth <= TREE_DEPTH; depth++) {
+            List<String> nextLevel = new ArrayList<>();
+            for (String parent : level) {
+                for (int branch = 0; branch < TREE_WIDTH; branch++) {
+                    nextLevel.add(parent + "d" + depth + "-" + branch + "/");
+                }
+            }
+            result.addAll(nextLevel);
+            level = nextLevel;
+        }
+        return result;
+    }
+
+    private static byte[] createPayload(int size) {
+        byte[] payload = new byte[size];
+        new Random(42L).nextBytes(payload);
+        return payload;
+    }
+}
@@ -6,6 +6,7 @@ import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
@@ -13,6 +14,7 @@ import org.springframework.web.context.request.ServletRequestAttributes;
 @Component
 @Aspect
 @Slf4j
+@ConditionalOnProperty(prefix = "logging.timing", name = "enabled", havingValue = "true")
 public class ControllerLoggingAspect {
 
     @Pointcut("execution(public * com.cloud.cloudstorage.controller.*.*(..))")
@@ -5,11 +5,13 @@ import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 @Component
 @Aspect
 @Slf4j
+@ConditionalOnProperty(prefix = "logging.timing", name = "enabled", havingValue = "true")
 public class ServiceLoggingAspect {
     @Pointcut("execution(public * com.cloud.cloudstorage.service.*.*(..))")
     public void serviceMethods() {
@@ -0,0 +1,44 @@
+package com.cloud.cloudstorage.aspect;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.stereotype.Component;
+
+@Component
+@Aspect
+public class StorageMetricsAspect {
+    private static final String NO_EXCEPTION = "none";
+
+    private final ObservationRegistry observationRegistry;
+
+    public StorageMetricsAspect(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Pointcut("execution(public * com.cloud.cloudstorage.service.StorageService+.*(..))")
+    public void storageMethods() {
+    }
+
+    @Around("storageMethods()")
+    public Object observeStorageMethod(ProceedingJoinPoint jp) throws Throwable {
+        String operation = jp.getSignature().getName();
+        Observation observation = Observation.createNotStarted("storage.operations", observationRegistry)
+                .contextualName("storage " + operation)
+                .lowCardinalityKeyValue("operation", operation)
+                .lowCardinalityKeyValue("exception", NO_EXCEPTION)
+                .start();
+        try (Observation.Scope ignored = observation.openScope()) {
+            return jp.proceed();
+        } catch (Throwable ex) {
+            observation.lowCardinalityKeyValue("exception", ex.getClass().getSimpleName());
+            observation.error(ex);
+            throw ex;
+        } finally {
+            observation.stop();
+        }
+    }
+}
@@ -22,5 +22,12 @@ import org.springframework.context.annotation.Configuration;
         paramName = "SESSION",
         description = "Authentication by sessions"
 )
+@SecurityScheme(
+        name = "bearerAuth",
+        type = SecuritySchemeType.HTTP,
+        scheme = "bearer",
+        bearerFormat = "JWT",
+        description = "Authentication by signed access tokens"
+)
 public class OpenApiConfig {
 }
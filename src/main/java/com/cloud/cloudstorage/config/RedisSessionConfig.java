@@ -1,9 +1,98 @@
 package com.cloud.cloudstorage.config;
 
+import com.cloud.cloudstorage.config.session.CoalescingSessionRepository;
+import com.cloud.cloudstorage.config.session.CompactSessionSerializer;
+import com.cloud.cloudstorage.config.session.SessionStoreProperties;
+import com.cloud.cloudstorage.service.PathBuilderService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.autoconfigure.session.SessionProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.session.data.redis.config.annotation.web.http.EnableRedisHttpSession;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.session.MapSession;
+import org.springframework.session.config.annotation.web.http.EnableSpringHttpSession;
+import org.springframework.session.data.redis.RedisSessionRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 
 @Configuration
-@EnableRedisHttpSession
+@EnableSpringHttpSession
 public class RedisSessionConfig {
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofMinutes(30);
+
+    @Bean
+    public CompactSessionSerializer compactSessionSerializer(
+            PathBuilderService pathBuilderService,
+            MeterRegistry meterRegistry
+    ) {
+        return new CompactSessionSerializer(pathBuilderService, meterRegistry);
+    }
+
+    @Bean
+    public CoalescingSessionRepository sessionRepository(
+            RedisConnectionFactory redisConnectionFactory,
+            StringRedisTemplate stringRedisTemplate,
+            CompactSessionSerializer compactSessionSerializer,
+            SessionProperties sessionProperties,
+            SessionStoreProperties sessionStoreProperties,
+            MeterRegistry meterRegistry
+    ) {
+        RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(redisConnectionFactory);
+        redisTemplate.setKeySerializer(RedisSerializer.string());
+        redisTemplate.setHashKeySerializer(RedisSerializer.string());
+        redisTemplate.setValueSerializer(compactSessionSerializer);
+        redisTemplate.setHashValueSerializer(compactSessionSerializer);
+        redisTemplate.afterPropertiesSet();
+
+        RedisSessionRepository redisSessionRepository = new RedisSessionRepository(redisTemplate);
+        redisSessionRepository.setRedisKeyNamespace(sessionStoreProperties.getNamespace());
+        Duration timeout = sessionProperties.getTimeout();
+        redisSessionRepository.setDefaultMaxInactiveInterval(timeout != null ? timeout : DEFAULT_TIMEOUT);
+
+        SessionStoreProperties.NearCache nearCacheProperties = sessionStoreProperties.getNearCache();
+        if (!nearCacheProperties.isEnabled()) {
+            return new CoalescingSessionRepository(redisSessionRepository, sessionStoreProperties.getLastAccessWriteInterval());
+        }
+
+        Cache<String, MapSession> nearCache = Caffeine.newBuilder()
+                .maximumSize(nearCacheProperties.getMaxSize())
+                .expireAfterWrite(nearCacheProperties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, nearCache, "sessions");
+        return new CoalescingSessionRepository(
+                redisSessionRepository,
+                sessionStoreProperties.getLastAccessWriteInterval(),
+                nearCache,
+                stringRedisTemplate,
+                nearCacheProperties.getInvalidationChannel()
+        );
+    }
+
+    @Bean
+    public RedisMessageListenerContainer sessionInvalidationListenerContainer(
+            RedisConnectionFactory redisConnectionFactory,
+            CoalescingSessionRepository sessionRepository,
+            SessionStoreProperties sessionStoreProperties
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        if (sessionStoreProperties.getNearCache().isEnabled()) {
+            container.addMessageListener(
+                    (message, pattern) -> sessionRepository.evictLocally(new String(message.getBody(), StandardCharsets.UTF_8)),
+                    new ChannelTopic(sessionStoreProperties.getNearCache().getInvalidationChannel())
+            );
+        }
+        return container;
+    }
 }
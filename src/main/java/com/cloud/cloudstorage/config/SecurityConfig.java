@@ -1,9 +1,15 @@
 package com.cloud.cloudstorage.config;
 
+import com.cloud.cloudstorage.config.security.BoundedPasswordEncoder;
+import com.cloud.cloudstorage.config.security.PasswordHashingProperties;
+import com.cloud.cloudstorage.config.security.SessionSecurityProperties;
+import com.cloud.cloudstorage.config.security.TokenProperties;
+import com.cloud.cloudstorage.config.security.UserPrincipalJwtConverter;
 import com.cloud.cloudstorage.dto.ErrorResponseDto;
 import com.cloud.cloudstorage.exception.UnauthorizedException;
 import com.cloud.cloudstorage.service.impl.MyUserDetailsService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.AllArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -17,10 +23,11 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
-import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.savedrequest.NullRequestCache;
 
 @Configuration
 @EnableWebSecurity
@@ -29,6 +36,9 @@ import org.springframework.security.web.SecurityFilterChain;
 public class SecurityConfig {
     private final MyUserDetailsService myUserDetailsService;
     private final ObjectMapper objectMapper;
+    private final SessionSecurityProperties sessionSecurityProperties;
+    private final TokenProperties tokenProperties;
+    private final UserPrincipalJwtConverter userPrincipalJwtConverter;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -39,13 +49,17 @@ public class SecurityConfig {
                         request
                                 .requestMatchers("/swagger-ui/**").permitAll()
                                 .requestMatchers("/swagger-ui.html").permitAll()
-                                .requestMatchers("/api/auth/sign-up", "/api/auth/sign-in").permitAll()
+                                .requestMatchers("/api/auth/sign-up", "/api/auth/sign-in", "/api/auth/refresh").permitAll()
                                 .requestMatchers("/api/directory").authenticated()
                                 .requestMatchers("/api/resource").authenticated()
                                 .requestMatchers("/api/user/me").authenticated()
                                 .requestMatchers("/api/resource/search").authenticated()
                                 .requestMatchers("/api/resource/move").authenticated()
                                 .requestMatchers("/api/resource/download").authenticated()
+                                .requestMatchers("/api/jobs/**").authenticated()
+                                .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                                .requestMatchers("/actuator/health").permitAll()
+                                .requestMatchers("/actuator/**").hasRole("ADMIN")
                                 .anyRequest().permitAll()
 
                 )
@@ -64,40 +78,57 @@ public class SecurityConfig {
                         .invalidateHttpSession(true)
                         .deleteCookies("JSESSIONID"))
                 .sessionManagement(session -> session
-                        .sessionCreationPolicy(SessionCreationPolicy.ALWAYS)
+                        .sessionCreationPolicy(sessionSecurityProperties.getCreationPolicy())
                         .sessionFixation().migrateSession()
                 )
+                .requestCache(cache -> cache.requestCache(new NullRequestCache()))
                 .userDetailsService(myUserDetailsService)
                 .formLogin(AbstractHttpConfigurer::disable)
                 .httpBasic(AbstractHttpConfigurer::disable)
                 .exceptionHandling(ex -> ex
-                        .authenticationEntryPoint(
-                                (request, response, authException) -> {
-                                    ErrorResponseDto errorResponse = new ErrorResponseDto(
-                                            UnauthorizedException.getErrorMessage(),
-                                            HttpStatus.UNAUTHORIZED,
-                                            request.getRequestURI()
-                                    );
-
-                                    response.setStatus(HttpStatus.UNAUTHORIZED.value());
-                                    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-                                    response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
-                                }));
+                        .authenticationEntryPoint(authenticationEntryPoint()));
 
+        if (tokenProperties.isEnabled()) {
+            http.oauth2ResourceServer(resourceServer -> resourceServer
+                    .jwt(jwt -> jwt.jwtAuthenticationConverter(userPrincipalJwtConverter))
+                    .authenticationEntryPoint(authenticationEntryPoint()));
+        }
 
         return http.build();
     }
 
+    private AuthenticationEntryPoint authenticationEntryPoint() {
+        return (request, response, authException) -> {
+            ErrorResponseDto errorResponse = new ErrorResponseDto(
+                    UnauthorizedException.getErrorMessage(),
+                    HttpStatus.UNAUTHORIZED,
+                    request.getRequestURI()
+            );
+
+            response.setStatus(HttpStatus.UNAUTHORIZED.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+        };
+    }
+
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(
+            PasswordHashingProperties passwordHashingProperties,
+            MeterRegistry meterRegistry
+    ) {
+        return new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(passwordHashingProperties.getStrength()),
+                passwordHashingProperties,
+                meterRegistry
+        );
     }
 
     @Bean
-    public DaoAuthenticationProvider daoAuthenticationProvider() {
+    public DaoAuthenticationProvider daoAuthenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider daoAuthenticationProvider = new DaoAuthenticationProvider();
-        daoAuthenticationProvider.setPasswordEncoder(passwordEncoder());
+        daoAuthenticationProvider.setPasswordEncoder(passwordEncoder);
         daoAuthenticationProvider.setUserDetailsService(myUserDetailsService);
+        daoAuthenticationProvider.setUserDetailsPasswordService(myUserDetailsService);
 
         return daoAuthenticationProvider;
     }
@@ -0,0 +1,46 @@
+package com.cloud.cloudstorage.config.accounting;
+
+import io.micrometer.context.ContextRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+
+@Configuration
+public class AccountingConfig {
+    private static final String CONTEXT_KEY = "request.calls";
+
+    public AccountingConfig() {
+        ContextRegistry.getInstance().registerThreadLocalAccessor(
+                CONTEXT_KEY,
+                RequestCallCounter::current,
+                RequestCallCounter::set,
+                RequestCallCounter::clear
+        );
+    }
+
+    @Bean
+    public TaskDecorator contextPropagatingTaskDecorator() {
+        return new ContextPropagatingTaskDecorator();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer databaseCallInspectorCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new DatabaseCallInspector());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void registerRedisCallListener(ApplicationReadyEvent event) {
+        event.getApplicationContext().getBeanProvider(RedisConnectionFactory.class).ifAvailable(connectionFactory -> {
+            if (connectionFactory instanceof LettuceConnectionFactory lettuceConnectionFactory) {
+                lettuceConnectionFactory.getRequiredNativeClient().addListener(new RedisCallListener());
+            }
+        });
+    }
+}
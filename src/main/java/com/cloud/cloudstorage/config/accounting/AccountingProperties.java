@@ -0,0 +1,29 @@
+package com.cloud.cloudstorage.config.accounting;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "accounting")
+@Getter
+@Setter
+public class AccountingProperties {
+    private boolean enabled = true;
+    private String header = "X-Storage-Calls";
+    private List<Budget> budgets = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Budget {
+        private String method;
+        private String uri;
+        private Long minio;
+        private Long database;
+        private Long redis;
+    }
+}
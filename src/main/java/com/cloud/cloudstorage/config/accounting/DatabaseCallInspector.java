@@ -0,0 +1,11 @@
+package com.cloud.cloudstorage.config.accounting;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class DatabaseCallInspector implements StatementInspector {
+    @Override
+    public String inspect(String sql) {
+        RequestCallCounter.recordDatabaseCall();
+        return sql;
+    }
+}
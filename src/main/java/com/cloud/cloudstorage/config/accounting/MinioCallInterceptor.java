@@ -0,0 +1,26 @@
+package com.cloud.cloudstorage.config.accounting;
+
+import okhttp3.Interceptor;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+import java.io.IOException;
+
+public class MinioCallInterceptor implements Interceptor {
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        RequestCallCounter.recordMinioCall();
+        RequestBody requestBody = chain.request().body();
+        if (requestBody != null) {
+            RequestCallCounter.recordMinioBytes(requestBody.contentLength());
+        }
+
+        Response response = chain.proceed(chain.request());
+        ResponseBody responseBody = response.body();
+        if (responseBody != null) {
+            RequestCallCounter.recordMinioBytes(responseBody.contentLength());
+        }
+        return response;
+    }
+}
@@ -0,0 +1,11 @@
+package com.cloud.cloudstorage.config.accounting;
+
+import io.lettuce.core.event.command.CommandListener;
+import io.lettuce.core.event.command.CommandStartedEvent;
+
+public class RedisCallListener implements CommandListener {
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        RequestCallCounter.recordRedisCall();
+    }
+}
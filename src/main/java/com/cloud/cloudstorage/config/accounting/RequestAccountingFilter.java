@@ -0,0 +1,156 @@
+package com.cloud.cloudstorage.config.accounting;
+
+import com.cloud.cloudstorage.config.logging.DebugRequestFilter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class RequestAccountingFilter extends OncePerRequestFilter {
+    private static final String UNKNOWN_URI = "UNKNOWN";
+    private static final String BUDGET_EXCEEDED_MESSAGE = "{} made {} {} calls, budget is {}";
+
+    private final AccountingProperties accountingProperties;
+    private final MeterRegistry meterRegistry;
+
+    public RequestAccountingFilter(AccountingProperties accountingProperties, MeterRegistry meterRegistry) {
+        this.accountingProperties = accountingProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !accountingProperties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        RequestCallCounter counter = RequestCallCounter.start();
+        try {
+            filterChain.doFilter(request, new AccountingResponseWrapper(request, response, counter));
+        } finally {
+            RequestCallCounter.clear();
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AccountingAsyncListener(request, counter));
+            } else {
+                record(request, counter);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestCallCounter counter) {
+        String uri = getUri(request);
+        String endpoint = request.getMethod() + " " + uri;
+        recordCalls(request, uri, "minio", counter.getMinioCalls());
+        recordCalls(request, uri, "database", counter.getDatabaseCalls());
+        recordCalls(request, uri, "redis", counter.getRedisCalls());
+        DistributionSummary.builder("request.storage.bytes")
+                .description("Bytes moved to and from MinIO per request")
+                .baseUnit("bytes")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(counter.getMinioBytes());
+
+        if (request.getAttribute(DebugRequestFilter.DEBUG_ATTRIBUTE) != null) {
+            log.info("Storage calls for {}: {}", endpoint, counter.toHeaderValue());
+        }
+
+        for (AccountingProperties.Budget budget : accountingProperties.getBudgets()) {
+            if (budget.getMethod().equalsIgnoreCase(request.getMethod()) && budget.getUri().equals(uri)) {
+                checkBudget(endpoint, "minio", counter.getMinioCalls(), budget.getMinio());
+                checkBudget(endpoint, "database", counter.getDatabaseCalls(), budget.getDatabase());
+                checkBudget(endpoint, "redis", counter.getRedisCalls(), budget.getRedis());
+            }
+        }
+    }
+
+    private void recordCalls(HttpServletRequest request, String uri, String backend, long calls) {
+        DistributionSummary.builder("request.storage.calls")
+                .description("Backend calls made while serving a request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .tag("backend", backend)
+                .register(meterRegistry)
+                .record(calls);
+    }
+
+    private void checkBudget(String endpoint, String backend, long calls, Long limit) {
+        if (limit == null || calls <= limit) {
+            return;
+        }
+
+        meterRegistry.counter("request.storage.budget.exceeded", "endpoint", endpoint, "backend", backend).increment();
+        log.warn(BUDGET_EXCEEDED_MESSAGE, endpoint, calls, backend, limit);
+    }
+
+    private String getUri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? UNKNOWN_URI : pattern.toString();
+    }
+
+    private class AccountingAsyncListener implements AsyncListener {
+        private final HttpServletRequest request;
+        private final RequestCallCounter counter;
+
+        private AccountingAsyncListener(HttpServletRequest request, RequestCallCounter counter) {
+            this.request = request;
+            this.counter = counter;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            record(request, counter);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+
+    private class AccountingResponseWrapper extends OnCommittedResponseWrapper {
+        private final HttpServletRequest request;
+        private final RequestCallCounter counter;
+
+        private AccountingResponseWrapper(HttpServletRequest request, HttpServletResponse response, RequestCallCounter counter) {
+            super(response);
+            this.request = request;
+            this.counter = counter;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            if (request.getAttribute(DebugRequestFilter.DEBUG_ATTRIBUTE) != null) {
+                setHeader(accountingProperties.getHeader(), counter.toHeaderValue());
+            }
+        }
+    }
+}
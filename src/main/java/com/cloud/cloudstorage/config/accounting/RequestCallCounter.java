@@ -0,0 +1,79 @@
+package com.cloud.cloudstorage.config.accounting;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public class RequestCallCounter {
+    private static final ThreadLocal<RequestCallCounter> CURRENT = new ThreadLocal<>();
+
+    private final AtomicLong minioCalls = new AtomicLong();
+    private final AtomicLong minioBytes = new AtomicLong();
+    private final AtomicLong databaseCalls = new AtomicLong();
+    private final AtomicLong redisCalls = new AtomicLong();
+
+    public static RequestCallCounter start() {
+        RequestCallCounter counter = new RequestCallCounter();
+        CURRENT.set(counter);
+        return counter;
+    }
+
+    public static RequestCallCounter current() {
+        return CURRENT.get();
+    }
+
+    public static void set(RequestCallCounter counter) {
+        CURRENT.set(counter);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public static void recordMinioCall() {
+        RequestCallCounter counter = CURRENT.get();
+        if (counter != null) {
+            counter.minioCalls.incrementAndGet();
+        }
+    }
+
+    public static void recordMinioBytes(long bytes) {
+        RequestCallCounter counter = CURRENT.get();
+        if (counter != null && bytes > 0) {
+            counter.minioBytes.addAndGet(bytes);
+        }
+    }
+
+    public static void recordDatabaseCall() {
+        RequestCallCounter counter = CURRENT.get();
+        if (counter != null) {
+            counter.databaseCalls.incrementAndGet();
+        }
+    }
+
+    public static void recordRedisCall() {
+        RequestCallCounter counter = CURRENT.get();
+        if (counter != null) {
+            counter.redisCalls.incrementAndGet();
+        }
+    }
+
+    public long getMinioCalls() {
+        return minioCalls.get();
+    }
+
+    public long getMinioBytes() {
+        return minioBytes.get();
+    }
+
+    public long getDatabaseCalls() {
+        return databaseCalls.get();
+    }
+
+    public long getRedisCalls() {
+        return redisCalls.get();
+    }
+
+    public String toHeaderValue() {
+        return String.format("minio=%d;minio-bytes=%d;db=%d;redis=%d",
+                getMinioCalls(), getMinioBytes(), getDatabaseCalls(), getRedisCalls());
+    }
+}
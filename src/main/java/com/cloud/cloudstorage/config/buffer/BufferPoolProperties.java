@@ -0,0 +1,17 @@
+package com.cloud.cloudstorage.config.buffer;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+@Component
+@ConfigurationProperties(prefix = "buffers")
+@Getter
+@Setter
+public class BufferPoolProperties {
+    private DataSize bufferSize = DataSize.ofKilobytes(64);
+    private int maxPooled = 256;
+    private boolean direct = false;
+}
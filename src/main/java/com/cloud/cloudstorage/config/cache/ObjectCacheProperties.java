@@ -0,0 +1,18 @@
+package com.cloud.cloudstorage.config.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+@Component
+@ConfigurationProperties(prefix = "cache.objects")
+@Getter
+@Setter
+public class ObjectCacheProperties {
+    private boolean enabled = false;
+    private String directory = System.getProperty("java.io.tmpdir") + "/cloud-storage-cache";
+    private DataSize maxSize = DataSize.ofGigabytes(1);
+    private DataSize maxObjectSize = DataSize.ofMegabytes(100);
+}
@@ -0,0 +1,25 @@
+package com.cloud.cloudstorage.config.cache;
+
+import com.cloud.cloudstorage.model.User;
+import com.cloud.cloudstorage.service.impl.MyUserDetailsService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UserCacheEvictionListener {
+    private final ObjectProvider<MyUserDetailsService> userDetailsService;
+
+    public UserCacheEvictionListener(ObjectProvider<MyUserDetailsService> userDetailsService) {
+        this.userDetailsService = userDetailsService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void evictUser(User user) {
+        userDetailsService.ifAvailable(service -> service.evictUser(user.getUsername()));
+    }
+}
@@ -0,0 +1,17 @@
+package com.cloud.cloudstorage.config.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "cache.users")
+@Getter
+@Setter
+public class UserCacheProperties {
+    private long maxSize = 10_000;
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+}
@@ -0,0 +1,21 @@
+package com.cloud.cloudstorage.config.job;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "jobs")
+@Getter
+@Setter
+public class JobProperties {
+    private int syncThreshold = 500;
+    private int maxConcurrentJobs = 2;
+    private int itemParallelism = 8;
+    private int batchSize = 200;
+    private Duration leaseDuration = Duration.ofMinutes(5);
+    private Duration heartbeatInterval = Duration.ofMinutes(1);
+}
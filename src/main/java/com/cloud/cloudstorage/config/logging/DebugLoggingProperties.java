@@ -0,0 +1,20 @@
+package com.cloud.cloudstorage.config.logging;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+
+@Component
+@ConfigurationProperties(prefix = "logging.debug")
+@Getter
+@Setter
+public class DebugLoggingProperties {
+    private Set<String> users = new HashSet<>();
+    private String token;
+    private String tokenHeader = "X-Debug-Token";
+    private String requestIdHeader = "X-Request-Id";
+}
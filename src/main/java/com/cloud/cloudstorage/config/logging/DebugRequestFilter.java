@@ -0,0 +1,73 @@
+package com.cloud.cloudstorage.config.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.AllArgsConstructor;
+import org.slf4j.MDC;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.UUID;
+
+@Component
+@AllArgsConstructor
+public class DebugRequestFilter extends OncePerRequestFilter {
+    public static final String DEBUG_ATTRIBUTE = DebugRequestFilter.class.getName() + ".DEBUG";
+    private static final String REQUEST_ID_MDC_KEY = "requestId";
+    private static final int MAX_REQUEST_ID_LENGTH = 64;
+
+    private final DebugLoggingProperties debugLoggingProperties;
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        String requestId = getRequestId(request);
+        response.setHeader(debugLoggingProperties.getRequestIdHeader(), requestId);
+        MDC.put(REQUEST_ID_MDC_KEY, requestId);
+        if (isDebugRequested(request)) {
+            MDC.put(DebugRequestTurboFilter.DEBUG_MDC_KEY, "true");
+            request.setAttribute(DEBUG_ATTRIBUTE, Boolean.TRUE);
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(REQUEST_ID_MDC_KEY);
+            MDC.remove(DebugRequestTurboFilter.DEBUG_MDC_KEY);
+        }
+    }
+
+    private String getRequestId(HttpServletRequest request) {
+        String requestId = request.getHeader(debugLoggingProperties.getRequestIdHeader());
+        if (StringUtils.hasText(requestId) && requestId.length() <= MAX_REQUEST_ID_LENGTH) {
+            return requestId;
+        }
+        return UUID.randomUUID().toString();
+    }
+
+    private boolean isDebugRequested(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && debugLoggingProperties.getUsers().contains(authentication.getName())) {
+            return true;
+        }
+
+        String token = debugLoggingProperties.getToken();
+        String providedToken = request.getHeader(debugLoggingProperties.getTokenHeader());
+        return StringUtils.hasText(token)
+                && providedToken != null
+                && MessageDigest.isEqual(
+                        token.getBytes(StandardCharsets.UTF_8),
+                        providedToken.getBytes(StandardCharsets.UTF_8)
+                );
+    }
+}
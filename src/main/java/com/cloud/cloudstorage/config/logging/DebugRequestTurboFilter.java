@@ -0,0 +1,20 @@
+package com.cloud.cloudstorage.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+public class DebugRequestTurboFilter extends TurboFilter {
+    public static final String DEBUG_MDC_KEY = "debug";
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (level.isGreaterOrEqual(Level.DEBUG) && MDC.get(DEBUG_MDC_KEY) != null) {
+            return FilterReply.ACCEPT;
+        }
+        return FilterReply.NEUTRAL;
+    }
+}
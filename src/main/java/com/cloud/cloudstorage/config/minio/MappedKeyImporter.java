@@ -0,0 +1,115 @@
+package com.cloud.cloudstorage.config.minio;
+
+import com.cloud.cloudstorage.exception.UnmappedObjectsException;
+import com.cloud.cloudstorage.repository.ResourceEntryRepository;
+import io.minio.ListObjectsArgs;
+import io.minio.Result;
+import io.minio.messages.Item;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Component
+@ConditionalOnProperty(prefix = "minio", name = "key-mode", havingValue = "mapped")
+@ConditionalOnProperty(prefix = "storage", name = "backend", havingValue = "minio", matchIfMissing = true)
+@Slf4j
+public class MappedKeyImporter implements ApplicationRunner {
+    private static final int LOOKUP_BATCH_SIZE = 1000;
+
+    private final MinioShardRouter shardRouter;
+    private final MinioProperties minioProperties;
+    private final ResourceEntryRepository resourceEntryRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public MappedKeyImporter(
+            MinioShardRouter shardRouter,
+            MinioProperties minioProperties,
+            ResourceEntryRepository resourceEntryRepository,
+            TransactionTemplate transactionTemplate
+    ) {
+        this.shardRouter = shardRouter;
+        this.minioProperties = minioProperties;
+        this.resourceEntryRepository = resourceEntryRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        for (MinioShard shard : shardRouter.getShards()) {
+            long imported = importBucket(shard);
+            if (imported > 0) {
+                log.info("Imported {} unmapped objects from shard {} bucket {}",
+                        imported, shard.name(), shard.bucket());
+            }
+        }
+    }
+
+    private long importBucket(MinioShard shard) throws Exception {
+        List<Item> batch = new ArrayList<>();
+        long imported = 0;
+        for (Result<Item> result : listAllObjects(shard)) {
+            batch.add(result.get());
+            if (batch.size() >= LOOKUP_BATCH_SIZE) {
+                imported += importBatch(shard, batch);
+            }
+        }
+        imported += importBatch(shard, batch);
+        return imported;
+    }
+
+    private int importBatch(MinioShard shard, List<Item> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<String> objectNames = batch.stream()
+                .map(Item::objectName)
+                .toList();
+        Set<String> known = new HashSet<>(resourceEntryRepository.findKnownKeys(objectNames));
+        List<Item> unmapped = batch.stream()
+                .filter(item -> !known.contains(item.objectName()))
+                .toList();
+        batch.clear();
+        if (unmapped.isEmpty()) {
+            return 0;
+        }
+        if (!minioProperties.isImportUnmappedObjects()) {
+            throw new UnmappedObjectsException(shard.bucket());
+        }
+
+        transactionTemplate.executeWithoutResult(status -> unmapped.forEach(this::importItem));
+        return unmapped.size();
+    }
+
+    private void importItem(Item item) {
+        String objectName = item.objectName();
+        int slashIndex = objectName.indexOf("/");
+        while (slashIndex != -1 && slashIndex < objectName.length() - 1) {
+            resourceEntryRepository.insertDirectoryIfMissing(objectName.substring(0, slashIndex + 1));
+            slashIndex = objectName.indexOf("/", slashIndex + 1);
+        }
+
+        if (objectName.endsWith("/")) {
+            resourceEntryRepository.insertDirectoryIfMissing(objectName);
+        } else {
+            resourceEntryRepository.insertFileIfMissing(objectName, objectName, item.size());
+        }
+    }
+
+    private Iterable<Result<Item>> listAllObjects(MinioShard shard) {
+        return shard.client().listObjects(
+                ListObjectsArgs.builder()
+                        .bucket(shard.bucket())
+                        .recursive(true)
+                        .build()
+        );
+    }
+}
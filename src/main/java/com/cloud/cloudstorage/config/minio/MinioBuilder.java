@@ -1,20 +1,115 @@
 package com.cloud.cloudstorage.config.minio;
 
-import io.minio.MinioClient;
+import com.cloud.cloudstorage.config.accounting.MinioCallInterceptor;
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.okhttp3.OkHttpObservationInterceptor;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.AllArgsConstructor;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 @AllArgsConstructor
+@ConditionalOnProperty(prefix = "storage", name = "backend", havingValue = "minio", matchIfMissing = true)
 public class MinioBuilder {
     private final MinioProperties minioProperties;
 
     @Bean
-    public MinioClient minioClient() {
-        return MinioClient.builder()
-                .endpoint(minioProperties.getUrl())
-                .credentials(minioProperties.getAccessKey(), minioProperties.getSecretKey())
+    public OkHttpClient minioHttpClient(MeterRegistry meterRegistry, ObservationRegistry observationRegistry) {
+        MinioProperties.Http http = minioProperties.getHttp();
+
+        ConnectionPool connectionPool = new ConnectionPool(
+                http.getMaxIdleConnections(),
+                http.getKeepAlive().toMillis(),
+                TimeUnit.MILLISECONDS
+        );
+        Dispatcher dispatcher = new Dispatcher(createDispatcherExecutor());
+        dispatcher.setMaxRequests(http.getMaxRequests());
+        dispatcher.setMaxRequestsPerHost(http.getMaxRequestsPerHost());
+        registerPoolMetrics(meterRegistry, connectionPool, dispatcher);
+
+        return new OkHttpClient.Builder()
+                .connectionPool(connectionPool)
+                .dispatcher(dispatcher)
+                .connectTimeout(http.getConnectTimeout())
+                .readTimeout(http.getReadTimeout())
+                .writeTimeout(http.getWriteTimeout())
+                .protocols(List.of(Protocol.HTTP_1_1))
+                .addInterceptor(new MinioCallInterceptor())
+                .addInterceptor(OkHttpObservationInterceptor.builder(observationRegistry, "minio.requests")
+                        .uriMapper(this::getOperationName)
+                        .build())
                 .build();
     }
+
+    private ExecutorService createDispatcherExecutor() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("minio-http-");
+        threadFactory.setDaemon(true);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                0,
+                Integer.MAX_VALUE,
+                60,
+                TimeUnit.SECONDS,
+                new SynchronousQueue<>(),
+                threadFactory
+        );
+        ContextSnapshotFactory snapshotFactory = ContextSnapshotFactory.builder().build();
+        return ContextExecutorService.wrap(executor, () -> snapshotFactory.captureAll());
+    }
+
+    private void registerPoolMetrics(MeterRegistry meterRegistry, ConnectionPool connectionPool, Dispatcher dispatcher) {
+        Gauge.builder("minio.connections.active", connectionPool,
+                        pool -> pool.connectionCount() - pool.idleConnectionCount())
+                .description("MinIO connections currently carrying a request")
+                .register(meterRegistry);
+        Gauge.builder("minio.connections.idle", connectionPool, ConnectionPool::idleConnectionCount)
+                .description("MinIO connections idle in the pool")
+                .register(meterRegistry);
+        Gauge.builder("minio.calls.running", dispatcher, Dispatcher::runningCallsCount)
+                .description("MinIO calls currently executing")
+                .register(meterRegistry);
+        Gauge.builder("minio.calls.queued", dispatcher, Dispatcher::queuedCallsCount)
+                .description("MinIO calls waiting for a free dispatcher slot")
+                .register(meterRegistry);
+    }
+
+    private String getOperationName(Request request) {
+        String method = request.method();
+        if (request.url().queryParameter("list-type") != null || request.url().queryParameter("prefix") != null) {
+            return "listObjects";
+        }
+        if (request.url().queryParameter("delete") != null) {
+            return "removeObjects";
+        }
+        if (request.url().queryParameter("uploadId") != null || request.url().queryParameter("uploads") != null) {
+            return "multipartUpload";
+        }
+        return switch (method) {
+            case "HEAD" -> isObjectRequest(request) ? "statObject" : "bucketExists";
+            case "GET" -> isObjectRequest(request) ? "getObject" : "bucketRequest";
+            case "PUT" -> request.header("x-amz-copy-source") != null ? "copyObject" : "putObject";
+            case "DELETE" -> "removeObject";
+            default -> method;
+        };
+    }
+
+    private boolean isObjectRequest(Request request) {
+        return request.url().pathSegments().size() > 1;
+    }
 }
@@ -0,0 +1,102 @@
+package com.cloud.cloudstorage.config.minio;
+
+import io.minio.ListObjectsArgs;
+import io.minio.RemoveObjectsArgs;
+import io.minio.Result;
+import io.minio.messages.DeleteError;
+import io.minio.messages.DeleteObject;
+import io.minio.messages.Item;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(prefix = "minio", name = "compact-directory-markers", havingValue = "true")
+@ConditionalOnProperty(prefix = "storage", name = "backend", havingValue = "minio", matchIfMissing = true)
+@Slf4j
+public class MinioDirectoryMarkerCompactor implements ApplicationRunner {
+    private static final int DELETE_BATCH_SIZE = 1000;
+
+    private final MinioShardRouter shardRouter;
+    private final MinioProperties minioProperties;
+
+    public MinioDirectoryMarkerCompactor(MinioShardRouter shardRouter, MinioProperties minioProperties) {
+        this.shardRouter = shardRouter;
+        this.minioProperties = minioProperties;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (!minioProperties.isImplicitDirectories()) {
+            log.warn("Directory marker compaction skipped: minio.implicit-directories is disabled");
+            return;
+        }
+
+        for (MinioShard shard : shardRouter.getShards()) {
+            long removed = compactBucket(shard);
+            log.info("Directory marker compaction finished for shard {} bucket {}: {} redundant markers removed",
+                    shard.name(), shard.bucket(), removed);
+        }
+    }
+
+    private long compactBucket(MinioShard shard) throws Exception {
+        List<DeleteObject> batch = new ArrayList<>();
+        long removed = 0;
+        String pendingMarker = null;
+
+        for (Result<Item> result : listAllObjects(shard)) {
+            String objectName = result.get().objectName();
+            if (pendingMarker != null && objectName.startsWith(pendingMarker)) {
+                batch.add(new DeleteObject(pendingMarker));
+            }
+            pendingMarker = objectName.endsWith("/") && !isRootMarker(objectName) ? objectName : null;
+
+            if (batch.size() >= DELETE_BATCH_SIZE) {
+                removed += removeBatch(shard, batch);
+            }
+        }
+        removed += removeBatch(shard, batch);
+        return removed;
+    }
+
+    private boolean isRootMarker(String objectName) {
+        return objectName.indexOf("/") == objectName.length() - 1;
+    }
+
+    private Iterable<Result<Item>> listAllObjects(MinioShard shard) {
+        return shard.client().listObjects(
+                ListObjectsArgs.builder()
+                        .bucket(shard.bucket())
+                        .recursive(true)
+                        .build()
+        );
+    }
+
+    private int removeBatch(MinioShard shard, List<DeleteObject> batch) throws Exception {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        Iterable<Result<DeleteError>> errors = shard.client().removeObjects(
+                RemoveObjectsArgs.builder()
+                        .bucket(shard.bucket())
+                        .objects(new ArrayList<>(batch))
+                        .build()
+        );
+        int failed = 0;
+        for (Result<DeleteError> error : errors) {
+            DeleteError deleteError = error.get();
+            log.warn("Failed to remove directory marker {}: {}", deleteError.objectName(), deleteError.message());
+            failed++;
+        }
+
+        int removed = batch.size() - failed;
+        batch.clear();
+        return removed;
+    }
+}
@@ -3,40 +3,41 @@ package com.cloud.cloudstorage.config.minio;
 import com.cloud.cloudstorage.exception.MinioBucketInitializationException;
 import io.minio.BucketExistsArgs;
 import io.minio.MakeBucketArgs;
-import io.minio.MinioClient;
 import jakarta.annotation.PostConstruct;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 @Component
+@ConditionalOnProperty(prefix = "storage", name = "backend", havingValue = "minio", matchIfMissing = true)
 public class MinioInitializer {
-    private final MinioClient minioClient;
-    private final String minioBucketName ;
+    private final MinioShardRouter shardRouter;
 
-    public MinioInitializer(MinioClient minioClient, MinioProperties minioProperties) {
-        this.minioClient = minioClient;
-        this.minioBucketName = minioProperties.getBucket();
+    public MinioInitializer(MinioShardRouter shardRouter) {
+        this.shardRouter = shardRouter;
     }
 
     @PostConstruct
     public void createRootBucketIfNotExists() {
         try {
-            if (!isBucketExists()) {
-                createNewBucket();
+            for (MinioShard shard : shardRouter.getShards()) {
+                if (!isBucketExists(shard)) {
+                    createNewBucket(shard);
+                }
             }
         } catch (Exception ex) {
             throw new MinioBucketInitializationException();
         }
     }
 
-    private boolean isBucketExists() throws Exception {
-        return minioClient.bucketExists(BucketExistsArgs.builder()
-                .bucket(minioBucketName)
+    private boolean isBucketExists(MinioShard shard) throws Exception {
+        return shard.client().bucketExists(BucketExistsArgs.builder()
+                .bucket(shard.bucket())
                 .build());
     }
 
-    private void createNewBucket() throws Exception{
-        minioClient.makeBucket(MakeBucketArgs.builder()
-                .bucket(minioBucketName)
+    private void createNewBucket(MinioShard shard) throws Exception{
+        shard.client().makeBucket(MakeBucketArgs.builder()
+                .bucket(shard.bucket())
                 .build());
     }
 }
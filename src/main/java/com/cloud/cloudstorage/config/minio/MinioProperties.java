@@ -5,6 +5,10 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
 @Component
 @ConfigurationProperties(prefix = "minio")
 @Getter
@@ -14,4 +18,33 @@ public class MinioProperties {
     private String url;
     private String accessKey;
     private String secretKey;
+    private String keyMode = "path";
+    private boolean importUnmappedObjects;
+    private boolean implicitDirectories;
+    private boolean compactDirectoryMarkers;
+    private Http http = new Http();
+    private List<Shard> shards = new ArrayList<>();
+    private Duration shardOverrideRefresh = Duration.ofSeconds(30);
+
+    @Getter
+    @Setter
+    public static class Http {
+        private int maxIdleConnections = 64;
+        private Duration keepAlive = Duration.ofMinutes(5);
+        private Duration connectTimeout = Duration.ofSeconds(10);
+        private Duration readTimeout = Duration.ofMinutes(5);
+        private Duration writeTimeout = Duration.ofMinutes(5);
+        private int maxRequests = 256;
+        private int maxRequestsPerHost = 128;
+    }
+
+    @Getter
+    @Setter
+    public static class Shard {
+        private String name;
+        private String url;
+        private String bucket;
+        private String accessKey;
+        private String secretKey;
+    }
 }
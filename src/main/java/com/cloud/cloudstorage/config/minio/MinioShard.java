@@ -0,0 +1,9 @@
+package com.cloud.cloudstorage.config.minio;
+
+import io.minio.MinioClient;
+
+public record MinioShard(
+        String name,
+        MinioClient client,
+        String bucket
+) {}
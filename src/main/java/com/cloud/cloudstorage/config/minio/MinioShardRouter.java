@@ -0,0 +1,176 @@
+package com.cloud.cloudstorage.config.minio;
+
+import com.cloud.cloudstorage.exception.ShardNotExistsException;
+import com.cloud.cloudstorage.model.UserShard;
+import com.cloud.cloudstorage.repository.UserShardRepository;
+import io.minio.MinioClient;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.OkHttpClient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "storage", name = "backend", havingValue = "minio", matchIfMissing = true)
+public class MinioShardRouter {
+    private static final String DEFAULT_SHARD_NAME = "default";
+    private static final int VIRTUAL_NODES_PER_SHARD = 128;
+    private static final Duration REFRESH_OVERLAP = Duration.ofMinutes(5);
+
+    private final UserShardRepository userShardRepository;
+    private final Map<String, MinioShard> shards = new LinkedHashMap<>();
+    private final NavigableMap<Long, MinioShard> ring = new TreeMap<>();
+    private volatile Map<String, MinioShard> assignments = Map.of();
+    private volatile Set<String> writeBlockedRoots = Set.of();
+    private volatile Instant lastRefreshAt;
+
+    public MinioShardRouter(
+            MinioProperties minioProperties,
+            OkHttpClient minioHttpClient,
+            UserShardRepository userShardRepository
+    ) {
+        this.userShardRepository = userShardRepository;
+        createShards(minioProperties, minioHttpClient);
+        shards.values().forEach(this::addToRing);
+    }
+
+    public MinioShard route(String path) {
+        String rootDir = extractRootDir(path);
+        MinioShard assignedShard = assignments.get(rootDir);
+        return assignedShard != null ? assignedShard : getHashedShard(rootDir);
+    }
+
+    public MinioShard getHashedShard(String rootDir) {
+        Map.Entry<Long, MinioShard> entry = ring.ceilingEntry(hash(rootDir));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    public MinioShard getShard(String name) {
+        MinioShard shard = shards.get(name);
+        if (shard == null) {
+            throw new ShardNotExistsException(name);
+        }
+        return shard;
+    }
+
+    public boolean isWriteBlocked(String path) {
+        return writeBlockedRoots.contains(extractRootDir(path));
+    }
+
+    public synchronized void setWriteBlocked(String rootDir, boolean blocked) {
+        Set<String> updated = new HashSet<>(writeBlockedRoots);
+        if (blocked) {
+            updated.add(rootDir);
+        } else {
+            updated.remove(rootDir);
+        }
+        writeBlockedRoots = Set.copyOf(updated);
+    }
+
+    public Collection<MinioShard> getShards() {
+        return Collections.unmodifiableCollection(shards.values());
+    }
+
+    public synchronized void assign(String rootDir, String shardName) {
+        Map<String, MinioShard> updated = new HashMap<>(assignments);
+        updated.put(rootDir, getShard(shardName));
+        assignments = Map.copyOf(updated);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${minio.shard-override-refresh:PT30S}")
+    public void refreshAssignments() {
+        Instant refreshStartedAt = Instant.now();
+        Instant previousRefreshAt = lastRefreshAt;
+        List<UserShard> changed = previousRefreshAt == null
+                ? userShardRepository.findAll()
+                : userShardRepository.findByUpdatedAtAfter(previousRefreshAt.minus(REFRESH_OVERLAP));
+        Set<String> blocked = new HashSet<>();
+        userShardRepository.findMigrationsInProgress().forEach(userShard -> blocked.add(userShard.getRootDir()));
+
+        MinioShard fallbackShard = shards.values().iterator().next();
+        Map<String, MinioShard> loaded = new HashMap<>();
+        int unknown = 0;
+        for (UserShard userShard : changed) {
+            MinioShard shard = shards.get(userShard.getShardName());
+            if (shard == null) {
+                shard = fallbackShard;
+                unknown++;
+            }
+            loaded.put(userShard.getRootDir(), shard);
+        }
+        if (unknown > 0) {
+            log.warn("{} users are assigned to unconfigured shards and are routed to shard {}",
+                    unknown, fallbackShard.name());
+        }
+
+        synchronized (this) {
+            if (previousRefreshAt != null) {
+                Map<String, MinioShard> merged = new HashMap<>(assignments);
+                merged.putAll(loaded);
+                loaded = merged;
+            }
+            assignments = Map.copyOf(loaded);
+            writeBlockedRoots = Set.copyOf(blocked);
+        }
+        lastRefreshAt = refreshStartedAt;
+    }
+
+    private void createShards(MinioProperties minioProperties, OkHttpClient minioHttpClient) {
+        List<MinioProperties.Shard> configuredShards = minioProperties.getShards();
+        if (configuredShards.isEmpty()) {
+            MinioClient client = createClient(minioHttpClient, minioProperties.getUrl(),
+                    minioProperties.getAccessKey(), minioProperties.getSecretKey());
+            shards.put(DEFAULT_SHARD_NAME, new MinioShard(DEFAULT_SHARD_NAME, client, minioProperties.getBucket()));
+            return;
+        }
+
+        Map<String, MinioClient> clientsByEndpoint = new HashMap<>();
+        for (MinioProperties.Shard shard : configuredShards) {
+            MinioClient client = clientsByEndpoint.computeIfAbsent(
+                    shard.getUrl() + "|" + shard.getAccessKey(),
+                    key -> createClient(minioHttpClient, shard.getUrl(), shard.getAccessKey(), shard.getSecretKey())
+            );
+            shards.put(shard.getName(), new MinioShard(shard.getName(), client, shard.getBucket()));
+        }
+    }
+
+    private MinioClient createClient(OkHttpClient httpClient, String url, String accessKey, String secretKey) {
+        return MinioClient.builder()
+                .endpoint(url)
+                .credentials(accessKey, secretKey)
+                .httpClient(httpClient)
+                .build();
+    }
+
+    private void addToRing(MinioShard shard) {
+        for (int i = 0; i < VIRTUAL_NODES_PER_SHARD; i++) {
+            ring.put(hash(shard.name() + "#" + i), shard);
+        }
+    }
+
+    private String extractRootDir(String path) {
+        int slashIndex = path.indexOf("/");
+        return slashIndex == -1 ? path : path.substring(0, slashIndex + 1);
+    }
+
+    private long hash(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(value.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.cloud.cloudstorage.config.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class LocalRateLimiter implements RateLimiter {
+    private static final String LOCAL_PERMIT_ID = "local";
+
+    private final Cache<String, TokenBucket> buckets;
+    private final ConcurrentMap<String, Integer> permits = new ConcurrentHashMap<>();
+
+    public LocalRateLimiter(long maxKeys, Duration idleTimeout) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(idleTimeout)
+                .build();
+    }
+
+    @Override
+    public Duration tryConsume(String key, RateLimitProperties.OperationLimit limit) {
+        return buckets.get(key, ignored -> new TokenBucket(limit.getCapacity(), limit.getRefillPeriod()))
+                .tryConsume(System.nanoTime());
+    }
+
+    @Override
+    public Optional<String> tryAcquirePermit(String key, RateLimitProperties.OperationLimit limit) {
+        AtomicBoolean acquired = new AtomicBoolean();
+        permits.compute(key, (ignored, inFlight) -> {
+            int current = inFlight == null ? 0 : inFlight;
+            if (current >= limit.getMaxConcurrent()) {
+                return inFlight;
+            }
+            acquired.set(true);
+            return current + 1;
+        });
+        return acquired.get() ? Optional.of(LOCAL_PERMIT_ID) : Optional.empty();
+    }
+
+    @Override
+    public void releasePermit(String key, String permitId) {
+        permits.computeIfPresent(key, (ignored, inFlight) -> inFlight <= 1 ? null : inFlight - 1);
+    }
+
+    private static final class TokenBucket {
+        private final double capacity;
+        private final double tokensPerNano;
+        private double tokens;
+        private long lastRefillNanos;
+
+        private TokenBucket(int capacity, Duration refillPeriod) {
+            this.capacity = capacity;
+            this.tokensPerNano = capacity / (double) refillPeriod.toNanos();
+            this.tokens = capacity;
+            this.lastRefillNanos = System.nanoTime();
+        }
+
+        private synchronized Duration tryConsume(long nowNanos) {
+            tokens = Math.min(capacity, tokens + (nowNanos - lastRefillNanos) * tokensPerNano);
+            lastRefillNanos = nowNanos;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return Duration.ZERO;
+            }
+            return Duration.ofNanos((long) Math.ceil((1 - tokens) / tokensPerNano));
+        }
+    }
+}
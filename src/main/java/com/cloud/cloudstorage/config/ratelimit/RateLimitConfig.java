@@ -0,0 +1,30 @@
+package com.cloud.cloudstorage.config.ratelimit;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+@Configuration
+public class RateLimitConfig {
+
+    @Bean
+    public RateLimiter rateLimiter(
+            RateLimitProperties rateLimitProperties,
+            ObjectProvider<StringRedisTemplate> redisTemplate
+    ) {
+        if (rateLimitProperties.getBackend() == RateLimitProperties.Backend.REDIS) {
+            return new RedisRateLimiter(redisTemplate.getObject(), rateLimitProperties);
+        }
+        return new LocalRateLimiter(rateLimitProperties.getLocalMaxKeys(), getIdleTimeout(rateLimitProperties));
+    }
+
+    private Duration getIdleTimeout(RateLimitProperties rateLimitProperties) {
+        return rateLimitProperties.getOperations().values().stream()
+                .map(RateLimitProperties.OperationLimit::getRefillPeriod)
+                .max(Duration::compareTo)
+                .orElse(Duration.ofMinutes(1));
+    }
+}
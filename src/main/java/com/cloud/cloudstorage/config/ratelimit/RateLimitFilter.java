@@ -0,0 +1,147 @@
+package com.cloud.cloudstorage.config.ratelimit;
+
+import com.cloud.cloudstorage.dto.ErrorResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+
+@Component
+@AllArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final String MESSAGE = "Too many requests, please retry later";
+    private static final String RATE_REASON = "rate";
+    private static final String CONCURRENCY_REASON = "concurrency";
+
+    private final RateLimitProperties rateLimitProperties;
+    private final RateLimiter rateLimiter;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !rateLimitProperties.isEnabled() || RateLimitedOperation.resolve(request).isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        Optional<RateLimitedOperation> operation = RateLimitedOperation.resolve(request);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        RateLimitProperties.OperationLimit limit = operation
+                .map(rateLimitProperties.getOperations()::get)
+                .orElse(null);
+        if (limit == null || authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String name = operation.get().name().toLowerCase(Locale.ROOT);
+        String key = name + ":" + authentication.getName();
+        if (limit.getCapacity() > 0) {
+            Duration retryAfter = rateLimiter.tryConsume(key, limit);
+            if (!retryAfter.isZero()) {
+                writeTooManyRequestsResponse(request, response, name, RATE_REASON, retryAfter);
+                return;
+            }
+        }
+        if (limit.getMaxConcurrent() <= 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        Optional<String> permitId = rateLimiter.tryAcquirePermit(key, limit);
+        if (permitId.isEmpty()) {
+            writeTooManyRequestsResponse(
+                    request, response, name, CONCURRENCY_REASON, rateLimitProperties.getConcurrencyRetryAfter());
+            return;
+        }
+
+        boolean released = true;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new PermitReleasingListener(key, permitId.get()));
+                released = false;
+            }
+        } finally {
+            if (released) {
+                rateLimiter.releasePermit(key, permitId.get());
+            }
+        }
+    }
+
+    private void writeTooManyRequestsResponse(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            String operation,
+            String reason,
+            Duration retryAfter
+    ) throws IOException {
+        meterRegistry.counter("rate.limit.rejections", "operation", operation, "reason", reason).increment();
+
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+                MESSAGE,
+                HttpStatus.TOO_MANY_REQUESTS,
+                request.getRequestURI()
+        );
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, toCeilSeconds(retryAfter))));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+    }
+
+    private long toCeilSeconds(Duration duration) {
+        long seconds = duration.toSeconds();
+        return duration.toNanosPart() > 0 ? seconds + 1 : seconds;
+    }
+
+    private class PermitReleasingListener implements AsyncListener {
+        private final String key;
+        private final String permitId;
+
+        private PermitReleasingListener(String key, String permitId) {
+            this.key = key;
+            this.permitId = permitId;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            rateLimiter.releasePermit(key, permitId);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.cloud.cloudstorage.config.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+@Getter
+@Setter
+public class RateLimitProperties {
+    private boolean enabled = true;
+    private Backend backend = Backend.LOCAL;
+    private String redisKeyPrefix = "rate-limit";
+    private Duration concurrencyLease = Duration.ofMinutes(10);
+    private Duration concurrencyRetryAfter = Duration.ofSeconds(1);
+    private long localMaxKeys = 100_000;
+    private Map<RateLimitedOperation, OperationLimit> operations = new EnumMap<>(RateLimitedOperation.class);
+
+    public enum Backend {
+        LOCAL,
+        REDIS
+    }
+
+    @Getter
+    @Setter
+    public static class OperationLimit {
+        private int capacity = 60;
+        private Duration refillPeriod = Duration.ofMinutes(1);
+        private int maxConcurrent = 4;
+    }
+}
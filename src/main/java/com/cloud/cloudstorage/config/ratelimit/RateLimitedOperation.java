@@ -0,0 +1,41 @@
+package com.cloud.cloudstorage.config.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+
+import java.util.Optional;
+
+public enum RateLimitedOperation {
+    SEARCH,
+    ZIP,
+    UPLOAD,
+    MOVE;
+
+    private static final String DIRECTORY_SUFFIX = "/";
+
+    public static Optional<RateLimitedOperation> resolve(HttpServletRequest request) {
+        String method = request.getMethod();
+        String path = request.getServletPath();
+        if (HttpMethod.GET.matches(method)) {
+            return switch (path) {
+                case "/api/resource/search" -> Optional.of(SEARCH);
+                case "/api/resource/download" -> isDirectory(request) ? Optional.of(ZIP) : Optional.empty();
+                case "/api/resource/move" -> Optional.of(MOVE);
+                default -> Optional.empty();
+            };
+        }
+        if (HttpMethod.POST.matches(method)) {
+            return switch (path) {
+                case "/api/resource" -> Optional.of(UPLOAD);
+                case "/api/jobs/move", "/api/jobs/copy" -> Optional.of(MOVE);
+                default -> Optional.empty();
+            };
+        }
+        return Optional.empty();
+    }
+
+    private static boolean isDirectory(HttpServletRequest request) {
+        String path = request.getParameter("path");
+        return path != null && path.endsWith(DIRECTORY_SUFFIX);
+    }
+}
@@ -0,0 +1,10 @@
+package com.cloud.cloudstorage.config.ratelimit;
+
+import java.time.Duration;
+import java.util.Optional;
+
+public interface RateLimiter {
+    Duration tryConsume(String key, RateLimitProperties.OperationLimit limit);
+    Optional<String> tryAcquirePermit(String key, RateLimitProperties.OperationLimit limit);
+    void releasePermit(String key, String permitId);
+}
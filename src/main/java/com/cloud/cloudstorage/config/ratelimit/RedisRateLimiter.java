@@ -0,0 +1,77 @@
+package com.cloud.cloudstorage.config.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Slf4j
+public class RedisRateLimiter implements RateLimiter {
+    private static final RedisScript<Long> TOKEN_BUCKET_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/token-bucket.lua"), Long.class);
+    private static final RedisScript<Long> ACQUIRE_PERMIT_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/acquire-permit.lua"), Long.class);
+    private static final RedisScript<Long> RELEASE_PERMIT_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/release-permit.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RateLimitProperties rateLimitProperties;
+
+    public RedisRateLimiter(StringRedisTemplate redisTemplate, RateLimitProperties rateLimitProperties) {
+        this.redisTemplate = redisTemplate;
+        this.rateLimitProperties = rateLimitProperties;
+    }
+
+    @Override
+    public Duration tryConsume(String key, RateLimitProperties.OperationLimit limit) {
+        try {
+            Long waitMillis = redisTemplate.execute(
+                    TOKEN_BUCKET_SCRIPT,
+                    List.of(createKey("bucket", key)),
+                    String.valueOf(limit.getCapacity()),
+                    String.valueOf(limit.getRefillPeriod().toMillis())
+            );
+            return waitMillis == null ? Duration.ZERO : Duration.ofMillis(waitMillis);
+        } catch (DataAccessException e) {
+            log.warn("Rate limit bucket for {} is unavailable, request admitted", key, e);
+            return Duration.ZERO;
+        }
+    }
+
+    @Override
+    public Optional<String> tryAcquirePermit(String key, RateLimitProperties.OperationLimit limit) {
+        String permitId = UUID.randomUUID().toString();
+        try {
+            Long acquired = redisTemplate.execute(
+                    ACQUIRE_PERMIT_SCRIPT,
+                    List.of(createKey("permits", key)),
+                    String.valueOf(limit.getMaxConcurrent()),
+                    String.valueOf(rateLimitProperties.getConcurrencyLease().toMillis()),
+                    permitId
+            );
+            return acquired == null || acquired == 1L ? Optional.of(permitId) : Optional.empty();
+        } catch (DataAccessException e) {
+            log.warn("Concurrency permits for {} are unavailable, request admitted", key, e);
+            return Optional.of(permitId);
+        }
+    }
+
+    @Override
+    public void releasePermit(String key, String permitId) {
+        try {
+            redisTemplate.execute(RELEASE_PERMIT_SCRIPT, List.of(createKey("permits", key)), permitId);
+        } catch (DataAccessException e) {
+            log.warn("Failed to release concurrency permit for {}", key, e);
+        }
+    }
+
+    private String createKey(String type, String key) {
+        return rateLimitProperties.getRedisKeyPrefix() + ":" + type + ":" + key;
+    }
+}
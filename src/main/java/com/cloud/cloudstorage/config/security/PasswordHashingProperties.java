@@ -0,0 +1,19 @@
+package com.cloud.cloudstorage.config.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "security.password-hashing")
+@Getter
+@Setter
+public class PasswordHashingProperties {
+    private int strength = 10;
+    private int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    private int queueCapacity = 64;
+    private Duration maxWait = Duration.ofSeconds(5);
+}
@@ -0,0 +1,15 @@
+package com.cloud.cloudstorage.config.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "security.session")
+@Getter
+@Setter
+public class SessionSecurityProperties {
+    private SessionCreationPolicy creationPolicy = SessionCreationPolicy.IF_REQUIRED;
+}
@@ -0,0 +1,12 @@
+package com.cloud.cloudstorage.config.security;
+
+public final class TokenClaims {
+    public static final String USER_ID = "uid";
+    public static final String ROLES = "roles";
+    public static final String TOKEN_TYPE = "token_type";
+    public static final String ACCESS = "access";
+    public static final String REFRESH = "refresh";
+
+    private TokenClaims() {
+    }
+}
@@ -0,0 +1,45 @@
+package com.cloud.cloudstorage.config.security;
+
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+
+@Configuration
+@ConditionalOnProperty(prefix = "security.token", name = "enabled", havingValue = "true")
+public class TokenConfig {
+    private static final int MIN_SECRET_LENGTH = 32;
+
+    @Bean
+    public JwtEncoder jwtEncoder(TokenProperties tokenProperties) {
+        return new NimbusJwtEncoder(new ImmutableSecret<>(createSecretKey(tokenProperties)));
+    }
+
+    @Bean
+    public JwtDecoder jwtDecoder(TokenProperties tokenProperties) {
+        NimbusJwtDecoder decoder = NimbusJwtDecoder.withSecretKey(createSecretKey(tokenProperties))
+                .macAlgorithm(MacAlgorithm.HS256)
+                .build();
+        decoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(tokenProperties.getIssuer()));
+        return decoder;
+    }
+
+    private SecretKey createSecretKey(TokenProperties tokenProperties) {
+        String secret = tokenProperties.getSecret();
+        if (secret == null || secret.getBytes(StandardCharsets.UTF_8).length < MIN_SECRET_LENGTH) {
+            throw new IllegalStateException(
+                    "security.token.secret must be at least " + MIN_SECRET_LENGTH + " bytes long");
+        }
+        return new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+    }
+}
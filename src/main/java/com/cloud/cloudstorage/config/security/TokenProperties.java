@@ -0,0 +1,20 @@
+package com.cloud.cloudstorage.config.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "security.token")
+@Getter
+@Setter
+public class TokenProperties {
+    private boolean enabled = false;
+    private String secret;
+    private String issuer = "cloud-storage";
+    private Duration accessTokenTtl = Duration.ofMinutes(15);
+    private Duration refreshTokenTtl = Duration.ofDays(7);
+}
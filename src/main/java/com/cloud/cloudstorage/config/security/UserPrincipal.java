@@ -0,0 +1,29 @@
+package com.cloud.cloudstorage.config.security;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.io.Serial;
+import java.util.Collection;
+
+@Getter
+public class UserPrincipal extends User {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final Long id;
+    private final String rootDir;
+
+    public UserPrincipal(
+            Long id,
+            String rootDir,
+            String username,
+            String password,
+            Collection<? extends GrantedAuthority> authorities
+    ) {
+        super(username, password, authorities);
+        this.id = id;
+        this.rootDir = rootDir;
+    }
+}
@@ -0,0 +1,48 @@
+package com.cloud.cloudstorage.config.security;
+
+import com.cloud.cloudstorage.service.PathBuilderService;
+import lombok.AllArgsConstructor;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@AllArgsConstructor
+public class UserPrincipalJwtConverter implements Converter<Jwt, AbstractAuthenticationToken> {
+    private final PathBuilderService pathBuilderService;
+
+    @Override
+    public AbstractAuthenticationToken convert(Jwt jwt) {
+        Number userIdClaim = jwt.getClaim(TokenClaims.USER_ID);
+        if (!TokenClaims.ACCESS.equals(jwt.getClaimAsString(TokenClaims.TOKEN_TYPE)) || userIdClaim == null) {
+            throw new InvalidBearerTokenException("Access token is required");
+        }
+
+        Long userId = userIdClaim.longValue();
+        List<GrantedAuthority> authorities = mapRolesToAuthorities(jwt.getClaimAsStringList(TokenClaims.ROLES));
+        UserPrincipal principal = new UserPrincipal(
+                userId,
+                pathBuilderService.createRootDirName(userId),
+                jwt.getSubject(),
+                "",
+                authorities
+        );
+        return UsernamePasswordAuthenticationToken.authenticated(principal, null, authorities);
+    }
+
+    private List<GrantedAuthority> mapRolesToAuthorities(List<String> roles) {
+        if (roles == null) {
+            return List.of();
+        }
+        return roles.stream()
+                .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(role))
+                .toList();
+    }
+}
@@ -0,0 +1,215 @@
+package com.cloud.cloudstorage.config.session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.session.MapSession;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+import org.springframework.session.data.redis.RedisSessionRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+@Slf4j
+public class CoalescingSessionRepository implements SessionRepository<CoalescingSessionRepository.CoalescedSession> {
+    private final RedisSessionRepository delegate;
+    private final Duration lastAccessWriteInterval;
+    private final Cache<String, MapSession> nearCache;
+    private final StringRedisTemplate redisTemplate;
+    private final String invalidationChannel;
+
+    public CoalescingSessionRepository(RedisSessionRepository delegate, Duration lastAccessWriteInterval) {
+        this(delegate, lastAccessWriteInterval, null, null, null);
+    }
+
+    public CoalescingSessionRepository(
+            RedisSessionRepository delegate,
+            Duration lastAccessWriteInterval,
+            Cache<String, MapSession> nearCache,
+            StringRedisTemplate redisTemplate,
+            String invalidationChannel
+    ) {
+        this.delegate = delegate;
+        this.lastAccessWriteInterval = lastAccessWriteInterval;
+        this.nearCache = nearCache;
+        this.redisTemplate = redisTemplate;
+        this.invalidationChannel = invalidationChannel;
+    }
+
+    @Override
+    public CoalescedSession createSession() {
+        return new CoalescedSession(delegate.createSession());
+    }
+
+    @Override
+    public void save(CoalescedSession session) {
+        if (session.delegate == null) {
+            return;
+        }
+
+        String originalId = session.originalId;
+        delegate.save(session.delegate);
+        if (nearCache != null) {
+            evict(originalId);
+            if (!originalId.equals(session.getId())) {
+                evict(session.getId());
+            }
+            nearCache.put(session.getId(), new MapSession(session.delegate));
+        }
+    }
+
+    @Override
+    public CoalescedSession findById(String id) {
+        if (nearCache != null) {
+            MapSession snapshot = nearCache.getIfPresent(id);
+            if (snapshot != null && !snapshot.isExpired()) {
+                return new CoalescedSession(id, snapshot);
+            }
+        }
+
+        RedisSessionRepository.RedisSession session = delegate.findById(id);
+        if (session == null) {
+            return null;
+        }
+        if (nearCache != null) {
+            nearCache.put(id, new MapSession(session));
+        }
+        return new CoalescedSession(session);
+    }
+
+    @Override
+    public void deleteById(String id) {
+        delegate.deleteById(id);
+        evict(id);
+    }
+
+    public void evictLocally(String id) {
+        if (nearCache != null) {
+            nearCache.invalidate(id);
+        }
+    }
+
+    private void evict(String id) {
+        if (nearCache == null) {
+            return;
+        }
+        nearCache.invalidate(id);
+        try {
+            redisTemplate.convertAndSend(invalidationChannel, id);
+        } catch (Exception ex) {
+            log.warn("Failed to publish session invalidation, other instances keep their snapshot until it expires", ex);
+        }
+    }
+
+    public final class CoalescedSession implements Session {
+        private final String originalId;
+        private final MapSession snapshot;
+        private RedisSessionRepository.RedisSession delegate;
+
+        private CoalescedSession(RedisSessionRepository.RedisSession delegate) {
+            this.originalId = delegate.getId();
+            this.snapshot = null;
+            this.delegate = delegate;
+        }
+
+        private CoalescedSession(String id, MapSession snapshot) {
+            this.originalId = id;
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public void setLastAccessedTime(Instant lastAccessedTime) {
+            Duration sinceLastWrite = Duration.between(getLastAccessedTime(), lastAccessedTime);
+            if (sinceLastWrite.compareTo(lastAccessWriteInterval) >= 0 && loadDelegate() != null) {
+                delegate.setLastAccessedTime(lastAccessedTime);
+            }
+        }
+
+        @Override
+        public String getId() {
+            return delegate != null ? delegate.getId() : originalId;
+        }
+
+        @Override
+        public String changeSessionId() {
+            return materialize().changeSessionId();
+        }
+
+        @Override
+        public <T> T getAttribute(String attributeName) {
+            if (delegate != null) {
+                return delegate.getAttribute(attributeName);
+            }
+            return copyIfSecurityContext(snapshot.getAttribute(attributeName));
+        }
+
+        @Override
+        public Set<String> getAttributeNames() {
+            return delegate != null ? delegate.getAttributeNames() : snapshot.getAttributeNames();
+        }
+
+        @Override
+        public void setAttribute(String attributeName, Object attributeValue) {
+            materialize().setAttribute(attributeName, attributeValue);
+        }
+
+        @Override
+        public void removeAttribute(String attributeName) {
+            materialize().removeAttribute(attributeName);
+        }
+
+        @Override
+        public Instant getCreationTime() {
+            return delegate != null ? delegate.getCreationTime() : snapshot.getCreationTime();
+        }
+
+        @Override
+        public Instant getLastAccessedTime() {
+            return delegate != null ? delegate.getLastAccessedTime() : snapshot.getLastAccessedTime();
+        }
+
+        @Override
+        public void setMaxInactiveInterval(Duration interval) {
+            materialize().setMaxInactiveInterval(interval);
+        }
+
+        @Override
+        public Duration getMaxInactiveInterval() {
+            return delegate != null ? delegate.getMaxInactiveInterval() : snapshot.getMaxInactiveInterval();
+        }
+
+        @Override
+        public boolean isExpired() {
+            return delegate != null ? delegate.isExpired() : snapshot.isExpired();
+        }
+
+        private RedisSessionRepository.RedisSession materialize() {
+            if (loadDelegate() == null) {
+                throw new IllegalStateException("Session " + originalId + " no longer exists");
+            }
+            return delegate;
+        }
+
+        private RedisSessionRepository.RedisSession loadDelegate() {
+            if (delegate == null) {
+                delegate = CoalescingSessionRepository.this.delegate.findById(originalId);
+                if (delegate == null) {
+                    evictLocally(originalId);
+                }
+            }
+            return delegate;
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> T copyIfSecurityContext(Object value) {
+            if (value instanceof SecurityContext securityContext) {
+                return (T) new SecurityContextImpl(securityContext.getAuthentication());
+            }
+            return (T) value;
+        }
+    }
+}
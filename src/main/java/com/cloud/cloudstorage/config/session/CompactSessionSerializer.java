@@ -0,0 +1,161 @@
+package com.cloud.cloudstorage.config.session;
+
+import com.cloud.cloudstorage.config.security.UserPrincipal;
+import com.cloud.cloudstorage.service.PathBuilderService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UTFDataFormatException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+public class CompactSessionSerializer implements RedisSerializer<Object> {
+    private static final byte SECURITY_CONTEXT = 1;
+    private static final byte LONG = 2;
+    private static final byte INTEGER = 3;
+    private static final byte LEGACY_STRING = 4;
+    private static final byte STRING = 5;
+    private static final String NO_PASSWORD = "";
+
+    private final PathBuilderService pathBuilderService;
+    private final JdkSerializationRedisSerializer fallbackSerializer = new JdkSerializationRedisSerializer();
+    private final DistributionSummary compactPayloadSize;
+    private final DistributionSummary jdkPayloadSize;
+
+    public CompactSessionSerializer(PathBuilderService pathBuilderService, MeterRegistry meterRegistry) {
+        this.pathBuilderService = pathBuilderService;
+        this.compactPayloadSize = createPayloadSizeSummary(meterRegistry, "compact");
+        this.jdkPayloadSize = createPayloadSizeSummary(meterRegistry, "jdk");
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+
+        byte[] bytes = serializeCompact(value);
+        if (bytes != null) {
+            compactPayloadSize.record(bytes.length);
+            return bytes;
+        }
+        bytes = fallbackSerializer.serialize(value);
+        jdkPayloadSize.record(bytes.length);
+        return bytes;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1))) {
+            return switch (bytes[0]) {
+                case SECURITY_CONTEXT -> readSecurityContext(input);
+                case LONG -> input.readLong();
+                case INTEGER -> input.readInt();
+                case LEGACY_STRING -> input.readUTF();
+                case STRING -> readString(input);
+                default -> fallbackSerializer.deserialize(bytes);
+            };
+        } catch (IOException ex) {
+            throw new SerializationException("Cannot deserialize session value", ex);
+        }
+    }
+
+    private byte[] serializeCompact(Object value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            if (value instanceof Long longValue) {
+                output.writeByte(LONG);
+                output.writeLong(longValue);
+            } else if (value instanceof Integer integerValue) {
+                output.writeByte(INTEGER);
+                output.writeInt(integerValue);
+            } else if (value instanceof String stringValue) {
+                output.writeByte(STRING);
+                writeString(output, stringValue);
+            } else if (value instanceof SecurityContext securityContext && getPrincipal(securityContext) != null) {
+                output.writeByte(SECURITY_CONTEXT);
+                writeSecurityContext(output, securityContext);
+            } else {
+                return null;
+            }
+        } catch (UTFDataFormatException ex) {
+            return null;
+        } catch (IOException ex) {
+            throw new SerializationException("Cannot serialize session value", ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    private void writeString(DataOutputStream output, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private String readString(DataInputStream input) throws IOException {
+        byte[] bytes = new byte[input.readInt()];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void writeSecurityContext(DataOutputStream output, SecurityContext securityContext) throws IOException {
+        Authentication authentication = securityContext.getAuthentication();
+        UserPrincipal principal = getPrincipal(securityContext);
+        output.writeLong(principal.getId());
+        output.writeUTF(principal.getUsername());
+        output.writeShort(authentication.getAuthorities().size());
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            output.writeUTF(authority.getAuthority());
+        }
+    }
+
+    private SecurityContext readSecurityContext(DataInputStream input) throws IOException {
+        long id = input.readLong();
+        String username = input.readUTF();
+        int authorityCount = input.readUnsignedShort();
+        List<GrantedAuthority> authorities = new ArrayList<>(authorityCount);
+        for (int i = 0; i < authorityCount; i++) {
+            authorities.add(new SimpleGrantedAuthority(input.readUTF()));
+        }
+
+        UserPrincipal principal = new UserPrincipal(
+                id, pathBuilderService.createRootDirName(id), username, NO_PASSWORD, authorities);
+        return new SecurityContextImpl(UsernamePasswordAuthenticationToken.authenticated(principal, null, authorities));
+    }
+
+    private UserPrincipal getPrincipal(SecurityContext securityContext) {
+        Authentication authentication = securityContext.getAuthentication();
+        if (authentication instanceof UsernamePasswordAuthenticationToken
+                && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal;
+        }
+        return null;
+    }
+
+    private DistributionSummary createPayloadSizeSummary(MeterRegistry meterRegistry, String format) {
+        return DistributionSummary.builder("session.payload.size")
+                .description("Serialized size of session values written to Redis")
+                .baseUnit("bytes")
+                .tag("format", format)
+                .register(meterRegistry);
+    }
+}
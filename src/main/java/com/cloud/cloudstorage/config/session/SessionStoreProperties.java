@@ -0,0 +1,26 @@
+package com.cloud.cloudstorage.config.session;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "session.store")
+@Getter
+@Setter
+public class SessionStoreProperties {
+    private String namespace = "spring:session";
+    private Duration lastAccessWriteInterval = Duration.ofMinutes(1);
+    private NearCache nearCache = new NearCache();
+
+    @Getter
+    @Setter
+    public static class NearCache {
+        private boolean enabled = false;
+        private Duration ttl = Duration.ofSeconds(5);
+        private long maxSize = 10_000;
+        private String invalidationChannel = "cloud-storage:session-invalidation";
+    }
@@ -0,0 +1,16 @@
+package com.cloud.cloudstorage.config.storage;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+@Component
+@ConfigurationProperties(prefix = "storage.local")
+@Getter
+@Setter
+public class LocalStorageProperties {
+    private String directory = System.getProperty("java.io.tmpdir") + "/cloud-storage-data";
+    private DataSize mapChunkSize = DataSize.ofMegabytes(64);
+}
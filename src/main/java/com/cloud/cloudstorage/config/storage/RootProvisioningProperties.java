@@ -0,0 +1,19 @@
+package com.cloud.cloudstorage.config.storage;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "storage.root-provisioning")
+@Getter
+@Setter
+public class RootProvisioningProperties {
+    private int threads = 2;
+    private int maxAttempts = 5;
+    private Duration backoff = Duration.ofSeconds(1);
+    private long cacheSize = 100_000;
+}
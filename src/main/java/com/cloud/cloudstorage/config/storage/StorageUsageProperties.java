@@ -0,0 +1,16 @@
+package com.cloud.cloudstorage.config.storage;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+@Component
+@ConfigurationProperties(prefix = "storage.usage")
+@Getter
+@Setter
+public class StorageUsageProperties {
+    private DataSize quota;
+    private String reconcileCron = "0 0 3 * * *";
+}
@@ -0,0 +1,75 @@
+package com.cloud.cloudstorage.config.storage;
+
+import com.cloud.cloudstorage.dto.ErrorResponseDto;
+import com.cloud.cloudstorage.exception.StorageQuotaExceededException;
+import com.cloud.cloudstorage.service.CurrentUserService;
+import com.cloud.cloudstorage.service.StorageUsageService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+@Component
+@AllArgsConstructor
+public class UploadQuotaFilter extends OncePerRequestFilter {
+    private static final String UPLOAD_PATH = "/api/resource";
+    private static final long MULTIPART_OVERHEAD_BYTES = DataSize.ofKilobytes(64).toBytes();
+
+    private final CurrentUserService currentUserService;
+    private final StorageUsageService storageUsageService;
+    private final StorageUsageProperties storageUsageProperties;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return storageUsageProperties.getQuota() == null
+                || !HttpMethod.POST.matches(request.getMethod())
+                || !UPLOAD_PATH.equals(request.getServletPath());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        long contentLength = request.getContentLengthLong();
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (contentLength > MULTIPART_OVERHEAD_BYTES
+                && authentication != null
+                && authentication.getPrincipal() instanceof User user) {
+            Long userId = currentUserService.getCurrentUserId(user);
+            long remainingQuota = storageUsageService.getRemainingQuota(userId);
+            if (contentLength - MULTIPART_OVERHEAD_BYTES > remainingQuota) {
+                writeQuotaExceededResponse(request, response);
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private void writeQuotaExceededResponse(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+                StorageQuotaExceededException.getErrorMessage(),
+                HttpStatus.CONTENT_TOO_LARGE,
+                request.getRequestURI()
+        );
+
+        response.setStatus(HttpStatus.CONTENT_TOO_LARGE.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+    }
+}
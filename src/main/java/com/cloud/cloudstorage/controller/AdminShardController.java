@@ -0,0 +1,89 @@
+package com.cloud.cloudstorage.controller;
+
+import com.cloud.cloudstorage.dto.ShardAssignmentResponseDto;
+import com.cloud.cloudstorage.service.ShardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+@ApiResponses(
+        {
+                @ApiResponse(responseCode = "500", description = "Unknown exception"),
+                @ApiResponse(responseCode = "401", description = "Unauthorized user"),
+                @ApiResponse(responseCode = "403", description = "User is not an administrator")
+        }
+)
+@Tag(name = "Shard administration API", description = "Endpoints for inspecting and rebalancing storage shards")
+@SecurityRequirement(name = "cookieAuth")
+@RestController
+@RequestMapping("/api/admin/shards")
+@Validated
+@AllArgsConstructor
+@ConditionalOnProperty(prefix = "storage", name = "backend", havingValue = "minio", matchIfMissing = true)
+public class AdminShardController {
+    private final ShardService shardService;
+
+    @Operation(
+            summary = "Get shard assignment of user",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Assignment successfully received")
+            }
+    )
+    @GetMapping("/users/{userId}")
+    public ResponseEntity<ShardAssignmentResponseDto> getAssignment(@PathVariable Long userId) {
+        ShardAssignmentResponseDto assignment = shardService.getAssignment(userId);
+        return new ResponseEntity<>(assignment, HttpStatus.OK);
+    }
+
+    @Operation(
+            summary = "Move user to another shard",
+            description = "Copies the user's objects to the target shard in background, switches routing and removes the source copy.",
+            parameters = {
+                    @Parameter(name = "userId", required = true, in = ParameterIn.QUERY),
+                    @Parameter(name = "shard", required = true, in = ParameterIn.QUERY)
+            },
+            responses = {
+                    @ApiResponse(responseCode = "202", description = "Migration accepted"),
+                    @ApiResponse(responseCode = "404", description = "Shard not found"),
+                    @ApiResponse(responseCode = "409", description = "Migration is already in progress")
+            }
+    )
+    @PostMapping("/migrations")
+    public ResponseEntity<ShardAssignmentResponseDto> migrate(
+            @NotNull(message = "Param \"userId\" should not be empty")
+            @RequestParam
+            Long userId,
+            @NotBlank(message = "Param \"shard\" should not be empty")
+            @RequestParam
+            String shard
+    ) {
+        ShardAssignmentResponseDto assignment = shardService.startMigration(userId, shard);
+        return new ResponseEntity<>(assignment, HttpStatus.ACCEPTED);
+    }
+
+    @Operation(
+            summary = "Reset interrupted migration of user",
+            description = "Returns a user whose migration was interrupted by a restart to the shard that holds a complete copy of the data, unblocks writes and removes partial copies from other shards.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Assignment successfully reset"),
+                    @ApiResponse(responseCode = "409", description = "Migration is still running on this instance")
+            }
+    )
+    @PostMapping("/users/{userId}/reset")
+    public ResponseEntity<ShardAssignmentResponseDto> resetMigration(@PathVariable Long userId) {
+        ShardAssignmentResponseDto assignment = shardService.resetMigration(userId);
+        return new ResponseEntity<>(assignment, HttpStatus.OK);
+    }
+}
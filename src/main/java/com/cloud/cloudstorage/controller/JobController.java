@@ -0,0 +1,151 @@
+package com.cloud.cloudstorage.controller;
+
+import com.cloud.cloudstorage.dto.JobResponseDto;
+import com.cloud.cloudstorage.dto.enums.JobStatus;
+import com.cloud.cloudstorage.dto.enums.JobType;
+import com.cloud.cloudstorage.service.JobService;
+import com.cloud.cloudstorage.validation.ValidPath;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+@ApiResponses(
+        {
+                @ApiResponse(responseCode = "500", description = "Unknown exception"),
+                @ApiResponse(responseCode = "401", description = "Unauthorized user"),
+                @ApiResponse(responseCode = "429", description = "Too many requests, see Retry-After header")
+        }
+)
+@Tag(name = "Job API", description = "Endpoints for long-running move, copy and delete operations")
+@SecurityRequirement(name = "cookieAuth")
+@RestController
+@RequestMapping("/api/jobs")
+@Validated
+@AllArgsConstructor
+public class JobController {
+    private final JobService jobService;
+
+    @Operation(
+            summary = "Move/rename resource in background",
+            description = "Small resources are moved immediately, large directories are moved by a background job.",
+            parameters = {
+                    @Parameter(name = "from", required = true, in = ParameterIn.QUERY),
+                    @Parameter(name = "to", required = true, in = ParameterIn.QUERY)
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Moving completed synchronously"),
+                    @ApiResponse(responseCode = "202", description = "Moving job accepted"),
+                    @ApiResponse(responseCode = "400", description = "Invalid path"),
+                    @ApiResponse(responseCode = "404", description = "Resource not found"),
+                    @ApiResponse(responseCode = "409", description = "Resource with target path 'to' already exists")
+            }
+    )
+    @PostMapping("/move")
+    public ResponseEntity<JobResponseDto> move(
+            @NotBlank(message = "Param \"from\" should not be empty")
+            @ValidPath(message = "Incorrect character in path: \\")
+            @RequestParam
+            String from,
+            @NotBlank(message = "Param \"to\" should not be empty")
+            @ValidPath(message = "Incorrect character in path: \\")
+            @RequestParam
+            String to,
+            @AuthenticationPrincipal
+            User user
+    ) {
+        JobResponseDto jobResponseDto = jobService.submitJob(JobType.MOVE, from, to, user);
+        return createResponse(jobResponseDto);
+    }
+
+    @Operation(
+            summary = "Copy resource in background",
+            description = "Small resources are copied immediately, large directories are copied by a background job.",
+            parameters = {
+                    @Parameter(name = "from", required = true, in = ParameterIn.QUERY),
+                    @Parameter(name = "to", required = true, in = ParameterIn.QUERY)
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Copying completed synchronously"),
+                    @ApiResponse(responseCode = "202", description = "Copying job accepted"),
+                    @ApiResponse(responseCode = "400", description = "Invalid path"),
+                    @ApiResponse(responseCode = "404", description = "Resource not found"),
+                    @ApiResponse(responseCode = "409", description = "Resource with target path 'to' already exists")
+            }
+    )
+    @PostMapping("/copy")
+    public ResponseEntity<JobResponseDto> copy(
+            @NotBlank(message = "Param \"from\" should not be empty")
+            @ValidPath(message = "Incorrect character in path: \\")
+            @RequestParam
+            String from,
+            @NotBlank(message = "Param \"to\" should not be empty")
+            @ValidPath(message = "Incorrect character in path: \\")
+            @RequestParam
+            String to,
+            @AuthenticationPrincipal
+            User user
+    ) {
+        JobResponseDto jobResponseDto = jobService.submitJob(JobType.COPY, from, to, user);
+        return createResponse(jobResponseDto);
+    }
+
+    @Operation(
+            summary = "Delete resource in background",
+            description = "Small resources are deleted immediately, large directories are deleted by a background job.",
+            parameters = {@Parameter(name = "path", required = true, in = ParameterIn.QUERY)},
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Deleting completed synchronously"),
+                    @ApiResponse(responseCode = "202", description = "Deleting job accepted"),
+                    @ApiResponse(responseCode = "400", description = "Invalid path"),
+                    @ApiResponse(responseCode = "404", description = "Resource not found")
+            }
+    )
+    @PostMapping("/delete")
+    public ResponseEntity<JobResponseDto> delete(
+            @NotBlank(message = "Param \"path\" should not be empty")
+            @ValidPath(message = "Incorrect character in path: \\")
+            @RequestParam
+            String path,
+            @AuthenticationPrincipal
+            User user
+    ) {
+        JobResponseDto jobResponseDto = jobService.submitJob(JobType.DELETE, path, null, user);
+        return createResponse(jobResponseDto);
+    }
+
+    @Operation(
+            summary = "Get job status",
+            description = "Returns progress of the job and the first per-item errors.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Job status received successfully"),
+                    @ApiResponse(responseCode = "404", description = "Job not found")
+            }
+    )
+    @GetMapping("/{id}")
+    public ResponseEntity<JobResponseDto> get(
+            @PathVariable
+            Long id,
+            @AuthenticationPrincipal
+            User user
+    ) {
+        JobResponseDto jobResponseDto = jobService.getJob(id, user);
+        return new ResponseEntity<>(jobResponseDto, HttpStatus.OK);
+    }
+
+    private ResponseEntity<JobResponseDto> createResponse(JobResponseDto jobResponseDto) {
+        HttpStatus status = jobResponseDto.status() == JobStatus.COMPLETED ? HttpStatus.OK : HttpStatus.ACCEPTED;
+        return new ResponseEntity<>(jobResponseDto, status);
+    }
+}
@@ -31,7 +31,8 @@ import java.util.List;
 @ApiResponses(
         {
                 @ApiResponse(responseCode = "500", description = "Unknown exception"),
-                @ApiResponse(responseCode = "401", description = "Unauthorized user")
+                @ApiResponse(responseCode = "401", description = "Unauthorized user"),
+                @ApiResponse(responseCode = "429", description = "Too many requests, see Retry-After header")
         }
 )
 @Tag(name = "Resource API", description = "Endpoints for general actions with files and directories")
@@ -1,5 +1,7 @@
 package com.cloud.cloudstorage.controller;
 
+import com.cloud.cloudstorage.dto.CurrentUserResponseDto;
+import com.cloud.cloudstorage.dto.TokenRefreshDto;
 import com.cloud.cloudstorage.dto.UserAuthDto;
 import com.cloud.cloudstorage.dto.UserCreateDto;
 import com.cloud.cloudstorage.dto.UserResponseDto;
@@ -65,6 +67,19 @@ public class UserController {
         return new ResponseEntity<>(userResponseDto, HttpStatus.OK);
     }
 
+    @Operation(
+            summary = "Refresh signed tokens",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "New token pair successfully issued"),
+                    @ApiResponse(responseCode = "401", description = "Refresh token is invalid or expired")
+            }
+    )
+    @PostMapping("/auth/refresh")
+    public ResponseEntity<UserResponseDto> refresh(@Valid @RequestBody TokenRefreshDto tokenRefreshDto) {
+        UserResponseDto userResponseDto = userAccountService.refreshTokens(tokenRefreshDto);
+        return new ResponseEntity<>(userResponseDto, HttpStatus.OK);
+    }
+
     @Operation(
             summary = "User logout",
             security = @SecurityRequirement(name = "cookieAuth"),
@@ -79,15 +94,15 @@ public class UserController {
 
     @Operation(
             summary = "Get current user details",
-            security = @SecurityRequirement(name = "cookieAuth"),
+            security = {@SecurityRequirement(name = "cookieAuth"), @SecurityRequirement(name = "bearerAuth")},
             responses = {
                     @ApiResponse(responseCode = "200", description = "Users details successfully received"),
                     @ApiResponse(responseCode = "401", description = "Unauthorized user")
             }
     )
     @GetMapping("/user/me")
-    public ResponseEntity<UserResponseDto> me(@AuthenticationPrincipal User user) {
-        UserResponseDto userResponseDto = currentUserService.getCurrentUserDetails(user);
-        return new ResponseEntity<>(userResponseDto, HttpStatus.OK);
+    public ResponseEntity<CurrentUserResponseDto> me(@AuthenticationPrincipal User user) {
+        CurrentUserResponseDto currentUserResponseDto = currentUserService.getCurrentUserDetails(user);
+        return new ResponseEntity<>(currentUserResponseDto, HttpStatus.OK);
     }
 }
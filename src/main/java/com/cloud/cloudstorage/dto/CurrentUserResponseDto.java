@@ -0,0 +1,11 @@
+package com.cloud.cloudstorage.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Response DTO with details of the authenticated user")
+public record CurrentUserResponseDto(
+        @Schema(description = "Registered username of the user")
+        String username,
+        @Schema(description = "Storage usage of the user")
+        StorageUsageResponseDto storageUsage
+) {}
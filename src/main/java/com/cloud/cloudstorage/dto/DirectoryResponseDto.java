@@ -1,9 +1,19 @@
 package com.cloud.cloudstorage.dto;
 
 import com.cloud.cloudstorage.dto.enums.ResourceType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
 
+@Getter
 public class DirectoryResponseDto extends BaseResourceResponseDto {
-    public DirectoryResponseDto(String path, String name, ResourceType type) {
+    @Schema(description = "Total size of all files inside the directory in bytes, empty until the owner's usage is reconciled")
+    private final Long size;
+    @Schema(description = "Number of files inside the directory, empty until the owner's usage is reconciled")
+    private final Long objectCount;
+
+    public DirectoryResponseDto(String path, String name, Long size, Long objectCount, ResourceType type) {
         super(path, name, type);
+        this.size = size;
+        this.objectCount = objectCount;
     }
 }
@@ -0,0 +1,11 @@
+package com.cloud.cloudstorage.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Failed item of a background job")
+public record JobItemErrorDto(
+        @Schema(description = "Path of the item that failed")
+        String path,
+        @Schema(description = "Error message")
+        String message
+) {}
@@ -0,0 +1,29 @@
+package com.cloud.cloudstorage.dto;
+
+import com.cloud.cloudstorage.dto.enums.JobStatus;
+import com.cloud.cloudstorage.dto.enums.JobType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Status and progress of a background job")
+public record JobResponseDto(
+        @Schema(description = "Id of the job, empty for jobs completed synchronously")
+        Long id,
+        @Schema(description = "Type of the job")
+        JobType type,
+        @Schema(description = "Status of the job")
+        JobStatus status,
+        @Schema(description = "Source path of the job")
+        String from,
+        @Schema(description = "Target path of the job, empty for delete jobs")
+        String to,
+        @Schema(description = "Total number of items, empty until the job has been planned")
+        Integer totalItems,
+        @Schema(description = "Number of processed items")
+        int processedItems,
+        @Schema(description = "Number of failed items")
+        int failedItems,
+        @Schema(description = "First errors of failed items")
+        List<JobItemErrorDto> errors
+) {}
@@ -0,0 +1,7 @@
+package com.cloud.cloudstorage.dto;
+
+public record ObjectMetadataDto(
+        String objectKey,
+        String etag,
+        long size
+) {}
@@ -0,0 +1,8 @@
+package com.cloud.cloudstorage.dto;
+
+import java.io.InputStream;
+
+public record ObjectStreamDto(
+        ObjectMetadataDto metadata,
+        InputStream stream
+) {}
@@ -0,0 +1,10 @@
+package com.cloud.cloudstorage.dto;
+
+public record ResourceStatsDto(
+        long size,
+        long objectCount
+) {
+    public static ResourceStatsDto empty() {
+        return new ResourceStatsDto(0, 0);
+    }
+}
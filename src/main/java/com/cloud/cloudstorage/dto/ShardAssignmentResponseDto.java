@@ -0,0 +1,16 @@
+package com.cloud.cloudstorage.dto;
+
+import com.cloud.cloudstorage.dto.enums.ShardState;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Storage shard assignment of a user")
+public record ShardAssignmentResponseDto(
+        @Schema(description = "Id of the user")
+        Long userId,
+        @Schema(description = "Shard currently serving the user")
+        String shard,
+        @Schema(description = "Shard the user is being migrated to, empty if no migration is running")
+        String targetShard,
+        @Schema(description = "State of the assignment")
+        ShardState state
+) {}
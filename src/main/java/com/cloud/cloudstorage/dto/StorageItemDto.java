@@ -0,0 +1,10 @@
+package com.cloud.cloudstorage.dto;
+
+public record StorageItemDto(
+        String objectName,
+        long size
+) {
+    public boolean isDirectory() {
+        return objectName.endsWith("/");
+    }
+}
@@ -0,0 +1,13 @@
+package com.cloud.cloudstorage.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Storage usage of the user")
+public record StorageUsageResponseDto(
+        @Schema(description = "Total size of stored files in bytes")
+        long usedBytes,
+        @Schema(description = "Number of stored files")
+        long objectCount,
+        @Schema(description = "Storage quota in bytes, empty if unlimited")
+        Long quotaBytes
+) {}
@@ -0,0 +1,22 @@
+package com.cloud.cloudstorage.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Schema(description = "DTO for refreshing signed tokens")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class TokenRefreshDto {
+    @Schema(
+            description = "Refresh token issued on sign-in or previous refresh",
+            requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    @NotBlank(message = "Refresh token must not be blank")
+    private String refreshToken;
+}
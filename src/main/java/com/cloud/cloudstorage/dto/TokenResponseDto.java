@@ -0,0 +1,15 @@
+package com.cloud.cloudstorage.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Signed tokens issued in stateless authentication mode")
+public record TokenResponseDto(
+        @Schema(description = "Type of the access token, always Bearer")
+        String tokenType,
+        @Schema(description = "Short-lived access token for the Authorization header")
+        String accessToken,
+        @Schema(description = "Lifetime of the access token in seconds")
+        long expiresIn,
+        @Schema(description = "Token for obtaining a new token pair")
+        String refreshToken
+) {}
@@ -1,9 +1,13 @@
 package com.cloud.cloudstorage.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema(description = "Response DTO with information about registered user")
 public record UserResponseDto (
         @Schema(description = "Registered username of the user")
-        String username
-) { }
\ No newline at end of file
+        String username,
+        @Schema(description = "Signed tokens, present only in stateless authentication mode")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        TokenResponseDto token
+) { }
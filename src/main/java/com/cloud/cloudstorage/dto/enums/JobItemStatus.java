@@ -0,0 +1,7 @@
+package com.cloud.cloudstorage.dto.enums;
+
+public enum JobItemStatus {
+    PENDING,
+    DONE,
+    FAILED
+}
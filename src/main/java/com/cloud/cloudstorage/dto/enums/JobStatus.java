@@ -0,0 +1,8 @@
+package com.cloud.cloudstorage.dto.enums;
+
+public enum JobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
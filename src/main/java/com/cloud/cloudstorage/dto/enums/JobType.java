@@ -0,0 +1,7 @@
+package com.cloud.cloudstorage.dto.enums;
+
+public enum JobType {
+    MOVE,
+    COPY,
+    DELETE
+}
@@ -0,0 +1,8 @@
+package com.cloud.cloudstorage.dto.enums;
+
+public enum ShardState {
+    ACTIVE,
+    MIGRATING,
+    CLEANING_UP,
+    FAILED
+}
@@ -0,0 +1,4 @@
+package com.cloud.cloudstorage.event;
+
+public record RootDirectoryRequestedEvent(Long userId) {
+}
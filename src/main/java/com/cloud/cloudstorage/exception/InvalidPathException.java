@@ -0,0 +1,15 @@
+package com.cloud.cloudstorage.exception;
+
+import com.cloud.cloudstorage.exception.marker.ExpectedException;
+
+public class InvalidPathException extends RuntimeException implements ExpectedException {
+    private static final String MESSAGE_TEMPLATE = "Path - %s must not contain '.' or '..' segments";
+
+    public InvalidPathException(String path) {
+        super(createErrorMessage(path));
+    }
+
+    public static String createErrorMessage(String path) {
+        return String.format(MESSAGE_TEMPLATE, path);
+    }
+}
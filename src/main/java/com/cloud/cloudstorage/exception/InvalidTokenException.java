@@ -0,0 +1,15 @@
+package com.cloud.cloudstorage.exception;
+
+import com.cloud.cloudstorage.exception.marker.ExpectedException;
+
+public class InvalidTokenException extends RuntimeException implements ExpectedException {
+    private static final String MESSAGE = "Refresh token is invalid or expired";
+
+    public InvalidTokenException() {
+        super(getErrorMessage());
+    }
+
+    public static String getErrorMessage() {
+        return MESSAGE;
+    }
+}
@@ -0,0 +1,15 @@
+package com.cloud.cloudstorage.exception;
+
+import com.cloud.cloudstorage.exception.marker.ExpectedException;
+
+public class JobNotExistsException extends RuntimeException implements ExpectedException {
+    private static final String MESSAGE_TEMPLATE = "Job %d not exists";
+
+    public JobNotExistsException(Long id) {
+        super(createErrorMessage(id));
+    }
+
+    public static String createErrorMessage(Long id) {
+        return String.format(MESSAGE_TEMPLATE, id);
+    }
+}
@@ -0,0 +1,15 @@
+package com.cloud.cloudstorage.exception;
+
+import com.cloud.cloudstorage.exception.marker.ExpectedException;
+
+public class LocalStorageInitializationException extends RuntimeException implements ExpectedException {
+    private static final String MESSAGE = "Failed initialization local storage directory";
+
+    public LocalStorageInitializationException() {
+        super(getErrorMessage());
+    }
+
+    public static String getErrorMessage() {
+        return MESSAGE;
+    }
+}
@@ -0,0 +1,15 @@
+package com.cloud.cloudstorage.exception;
+
+import com.cloud.cloudstorage.exception.marker.ExpectedException;
+
+public class PasswordHashingRejectedException extends RuntimeException implements ExpectedException {
+    private static final String MESSAGE = "Too many authentication requests, try again later";
+
+    public PasswordHashingRejectedException() {
+        super(getErrorMessage());
+    }
+
+    public static String getErrorMessage() {
+        return MESSAGE;
+    }
+}
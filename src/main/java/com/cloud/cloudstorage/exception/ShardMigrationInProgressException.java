@@ -0,0 +1,15 @@
+package com.cloud.cloudstorage.exception;
+
+import com.cloud.cloudstorage.exception.marker.ExpectedException;
+
+public class ShardMigrationInProgressException extends RuntimeException implements ExpectedException {
+    private static final String MESSAGE_TEMPLATE = "Shard migration for user %d is already in progress";
+
+    public ShardMigrationInProgressException(Long userId) {
+        super(createErrorMessage(userId));
+    }
+
+    public static String createErrorMessage(Long userId) {
+        return String.format(MESSAGE_TEMPLATE, userId);
+    }
+}
@@ -0,0 +1,15 @@
+package com.cloud.cloudstorage.exception;
+
+import com.cloud.cloudstorage.exception.marker.ExpectedException;
+
+public class ShardMigrationWriteBlockedException extends RuntimeException implements ExpectedException {
+    private static final String MESSAGE = "Storage is read-only while it is moved to another shard, try again later";
+
+    public ShardMigrationWriteBlockedException() {
+        super(getErrorMessage());
+    }
+
+    public static String getErrorMessage() {
+        return MESSAGE;
+    }
+}
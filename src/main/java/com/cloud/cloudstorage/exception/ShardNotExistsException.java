@@ -0,0 +1,15 @@
+package com.cloud.cloudstorage.exception;
+
+import com.cloud.cloudstorage.exception.marker.ExpectedException;
+
+public class ShardNotExistsException extends RuntimeException implements ExpectedException {
+    private static final String MESSAGE_TEMPLATE = "Shard %s not exists";
+
+    public ShardNotExistsException(String name) {
+        super(createErrorMessage(name));
+    }
+
+    public static String createErrorMessage(String name) {
+        return String.format(MESSAGE_TEMPLATE, name);
+    }
+}
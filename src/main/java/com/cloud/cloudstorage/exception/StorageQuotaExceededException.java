@@ -0,0 +1,15 @@
+package com.cloud.cloudstorage.exception;
+
+import com.cloud.cloudstorage.exception.marker.ExpectedException;
+
+public class StorageQuotaExceededException extends RuntimeException implements ExpectedException {
+    private static final String MESSAGE = "Storage quota exceeded";
+
+    public StorageQuotaExceededException() {
+        super(getErrorMessage());
+    }
+
+    public static String getErrorMessage() {
+        return MESSAGE;
+    }
+}
@@ -0,0 +1,15 @@
+package com.cloud.cloudstorage.exception;
+
+import com.cloud.cloudstorage.exception.marker.ExpectedException;
+
+public class TokenAuthenticationDisabledException extends RuntimeException implements ExpectedException {
+    private static final String MESSAGE = "Token authentication is disabled";
+
+    public TokenAuthenticationDisabledException() {
+        super(getErrorMessage());
+    }
+
+    public static String getErrorMessage() {
+        return MESSAGE;
+    }
+}
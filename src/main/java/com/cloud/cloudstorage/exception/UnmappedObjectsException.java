@@ -0,0 +1,16 @@
+package com.cloud.cloudstorage.exception;
+
+import com.cloud.cloudstorage.exception.marker.ExpectedException;
+
+public class UnmappedObjectsException extends RuntimeException implements ExpectedException {
+    private static final String MESSAGE_TEMPLATE =
+            "Bucket %s contains objects without resource entries, enable minio.import-unmapped-objects to import them";
+
+    public UnmappedObjectsException(String bucket) {
+        super(createErrorMessage(bucket));
+    }
+
+    public static String createErrorMessage(String bucket) {
+        return String.format(MESSAGE_TEMPLATE, bucket);
+    }
+}
@@ -10,10 +10,14 @@ public interface ResourceMapper {
 
     @Mapping(target = "path", source = "parentPathForResponse")
     @Mapping(target = "name", source = "directoryNameForResponse")
+    @Mapping(target = "size", source = "size")
+    @Mapping(target = "objectCount", source = "objectCount")
     @Mapping(target = "type", constant = "DIRECTORY")
      DirectoryResponseDto createDirectoryResponseDto(
             String parentPathForResponse,
-            String directoryNameForResponse);
+            String directoryNameForResponse,
+            Long size,
+            Long objectCount);
 
     @Mapping(target = "path", source = "parentPathForResponse")
     @Mapping(target = "name", source = "filenameForResponse")
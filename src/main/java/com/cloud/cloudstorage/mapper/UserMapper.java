@@ -1,5 +1,6 @@
 package com.cloud.cloudstorage.mapper;
 
+import com.cloud.cloudstorage.dto.TokenResponseDto;
 import com.cloud.cloudstorage.dto.UserCreateDto;
 import com.cloud.cloudstorage.dto.UserResponseDto;
 import com.cloud.cloudstorage.model.Role;
@@ -17,5 +18,7 @@ public interface UserMapper {
     @Mapping(target = "id", ignore = true)
     User toUser(UserCreateDto userCreateDto, String password, List<Role> roles);
 
-    UserResponseDto toDto(String username);
+    @Mapping(target = "username", source = "username")
+    @Mapping(target = "token", source = "token")
+    UserResponseDto toDto(String username, TokenResponseDto token);
 }
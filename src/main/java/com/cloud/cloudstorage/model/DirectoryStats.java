@@ -0,0 +1,22 @@
+package com.cloud.cloudstorage.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+@Table(schema = "storage", name = "directory_stats")
+@Entity
+@Getter
+@Setter
+public class DirectoryStats {
+    @Id
+    @Column(length = 2048)
+    private String path;
+    @Column(nullable = false)
+    private long size;
+    @Column(name = "object_count", nullable = false)
+    private long objectCount;
+}
@@ -0,0 +1,45 @@
+package com.cloud.cloudstorage.model;
+
+import com.cloud.cloudstorage.dto.enums.JobStatus;
+import com.cloud.cloudstorage.dto.enums.JobType;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Table(schema = "storage", name = "jobs")
+@Entity
+@Getter
+@Setter
+public class Job {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private JobType type;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private JobStatus status;
+    @Column(name = "source_path", nullable = false)
+    private String sourcePath;
+    @Column(name = "target_path")
+    private String targetPath;
+    @Column(name = "total_items")
+    private Integer totalItems;
+    @Column(name = "processed_items", nullable = false)
+    private int processedItems;
+    @Column(name = "failed_items", nullable = false)
+    private int failedItems;
+    @Column(name = "lease_expires_at")
+    private Instant leaseExpiresAt;
+    @Column(name = "lease_owner")
+    private String leaseOwner;
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
@@ -0,0 +1,29 @@
+package com.cloud.cloudstorage.model;
+
+import com.cloud.cloudstorage.dto.enums.JobItemStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+@Table(schema = "storage", name = "job_items")
+@Entity
+@Getter
+@Setter
+public class JobItem {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+    @Column(name = "object_name", nullable = false)
+    private String objectName;
+    @Column(nullable = false)
+    private boolean directory;
+    @Column(nullable = false)
+    private long size;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private JobItemStatus status;
+    @Column(name = "error_message")
+    private String errorMessage;
+}
@@ -0,0 +1,21 @@
+package com.cloud.cloudstorage.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+@Table(schema = "storage", name = "resource_entries")
+@Entity
+@Getter
+@Setter
+public class ResourceEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(unique = true, nullable = false)
+    private String path;
+    @Column(name = "object_key")
+    private String objectKey;
+    @Column(nullable = false)
+    private long size;
+}
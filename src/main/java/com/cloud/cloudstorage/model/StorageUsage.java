@@ -0,0 +1,25 @@
+package com.cloud.cloudstorage.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Table(schema = "storage", name = "storage_usage")
+@Entity
+@Getter
+@Setter
+public class StorageUsage {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+    @Column(name = "used_bytes", nullable = false)
+    private long usedBytes;
+    @Column(name = "object_count", nullable = false)
+    private long objectCount;
+    @Column(nullable = false)
+    private long version;
+    @Column(name = "reconciled_at")
+    private Instant reconciledAt;
+}
@@ -1,5 +1,6 @@
 package com.cloud.cloudstorage.model;
 
+import com.cloud.cloudstorage.config.cache.UserCacheEvictionListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -8,6 +9,7 @@ import java.util.List;
 
 @Table(schema = "storage", name = "users")
 @Entity
+@EntityListeners(UserCacheEvictionListener.class)
 @Getter
 @Setter
 public class User {
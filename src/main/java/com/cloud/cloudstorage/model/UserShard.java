@@ -0,0 +1,27 @@
+package com.cloud.cloudstorage.model;
+
+import com.cloud.cloudstorage.dto.enums.ShardState;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Table(schema = "storage", name = "user_shards")
+@Entity
+@Getter
+@Setter
+public class UserShard {
+    @Id
+    @Column(name = "root_dir")
+    private String rootDir;
+    @Column(name = "shard_name", nullable = false)
+    private String shardName;
+    @Column(name = "target_shard_name")
+    private String targetShardName;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ShardState state;
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
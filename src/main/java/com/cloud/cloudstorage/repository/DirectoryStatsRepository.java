@@ -0,0 +1,49 @@
+package com.cloud.cloudstorage.repository;
+
+import com.cloud.cloudstorage.dto.ResourceStatsDto;
+import com.cloud.cloudstorage.model.DirectoryStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DirectoryStatsRepository extends JpaRepository<DirectoryStats, String> {
+
+    @Query("""
+            SELECT new com.cloud.cloudstorage.dto.ResourceStatsDto(s.size, s.objectCount)
+            FROM DirectoryStats s
+            WHERE s.path = :path
+            """)
+    Optional<ResourceStatsDto> findStatsByPath(@Param("path") String path);
+
+    @Query("""
+            SELECT s.path AS path, s.size AS size, s.objectCount AS objectCount
+            FROM DirectoryStats s
+            WHERE s.path IN :paths
+            """)
+    List<DirectoryStatsView> findStatsByPaths(@Param("paths") Collection<String> paths);
+
+    interface DirectoryStatsView {
+        String getPath();
+        long getSize();
+        long getObjectCount();
+    }
+
+    @Modifying
+    @Query(value = """
+            UPDATE storage.directory_stats
+            SET path = :to || substring(path from char_length(:from) + 1)
+            WHERE path LIKE :pattern
+            """, nativeQuery = true)
+    int movePrefix(@Param("from") String from, @Param("to") String to, @Param("pattern") String pattern);
+
+    @Modifying
+    @Query(value = "DELETE FROM storage.directory_stats WHERE path LIKE :pattern", nativeQuery = true)
+    int deleteAllByPattern(@Param("pattern") String pattern);
+}
@@ -0,0 +1,32 @@
+package com.cloud.cloudstorage.repository;
+
+import com.cloud.cloudstorage.dto.enums.JobItemStatus;
+import com.cloud.cloudstorage.model.JobItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface JobItemRepository extends JpaRepository<JobItem, Long> {
+    List<JobItem> findTop100ByJobIdAndStatusOrderById(Long jobId, JobItemStatus status);
+
+    @Query(value = """
+            SELECT * FROM storage.job_items
+            WHERE job_id = :jobId AND status = 'PENDING' AND directory = :directory
+            ORDER BY id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<JobItem> findPendingItems(
+            @Param("jobId") Long jobId,
+            @Param("directory") boolean directory,
+            @Param("limit") int limit
+    );
+
+    @Modifying
+    @Query(value = "DELETE FROM storage.job_items WHERE job_id = :jobId", nativeQuery = true)
+    int deleteAllByJobId(@Param("jobId") Long jobId);
+}
@@ -0,0 +1,103 @@
+package com.cloud.cloudstorage.repository;
+
+import com.cloud.cloudstorage.model.Job;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+@Repository
+public interface JobRepository extends JpaRepository<Job, Long> {
+    Optional<Job> findByIdAndUserId(Long id, Long userId);
+
+    @Query(value = """
+            SELECT * FROM storage.jobs
+            WHERE status = 'PENDING'
+               OR (status = 'RUNNING' AND lease_expires_at < :now)
+            ORDER BY id
+            LIMIT 1
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    Optional<Job> findNextClaimable(@Param("now") Instant now);
+
+    @Modifying
+    @Query(value = """
+            UPDATE storage.jobs
+            SET lease_expires_at = :leaseExpiresAt,
+                updated_at = :now
+            WHERE id = :id AND lease_owner = :owner AND status = 'RUNNING'
+            """, nativeQuery = true)
+    int extendLease(
+            @Param("id") Long id,
+            @Param("owner") String owner,
+            @Param("leaseExpiresAt") Instant leaseExpiresAt,
+            @Param("now") Instant now
+    );
+
+    @Modifying
+    @Query(value = """
+            UPDATE storage.jobs
+            SET total_items = :totalItems,
+                updated_at = :now
+            WHERE id = :id AND lease_owner = :owner AND status = 'RUNNING'
+            """, nativeQuery = true)
+    int setTotalItems(
+            @Param("id") Long id,
+            @Param("owner") String owner,
+            @Param("totalItems") int totalItems,
+            @Param("now") Instant now
+    );
+
+    @Modifying
+    @Query(value = """
+            UPDATE storage.jobs
+            SET processed_items = processed_items + :processed,
+                failed_items = failed_items + :failed,
+                lease_expires_at = :leaseExpiresAt,
+                updated_at = :now
+            WHERE id = :id AND lease_owner = :owner AND status = 'RUNNING'
+            """, nativeQuery = true)
+    int addProgress(
+            @Param("id") Long id,
+            @Param("owner") String owner,
+            @Param("processed") int processed,
+            @Param("failed") int failed,
+            @Param("leaseExpiresAt") Instant leaseExpiresAt,
+            @Param("now") Instant now
+    );
+
+    @Modifying
+    @Query(value = """
+            UPDATE storage.jobs
+            SET status = :status,
+                lease_expires_at = NULL,
+                updated_at = :now
+            WHERE id = :id AND lease_owner = :owner AND status = 'RUNNING'
+            """, nativeQuery = true)
+    int finish(
+            @Param("id") Long id,
+            @Param("owner") String owner,
+            @Param("status") String status,
+            @Param("now") Instant now
+    );
+
+    @Modifying
+    @Query(value = """
+            UPDATE storage.jobs
+            SET status = 'FAILED',
+                total_items = 1,
+                failed_items = 1,
+                lease_expires_at = NULL,
+                updated_at = :now
+            WHERE id = :id AND lease_owner = :owner AND status = 'RUNNING'
+            """, nativeQuery = true)
+    int fail(
+            @Param("id") Long id,
+            @Param("owner") String owner,
+            @Param("now") Instant now
+    );
+}
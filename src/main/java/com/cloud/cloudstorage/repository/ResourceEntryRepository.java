@@ -0,0 +1,104 @@
+package com.cloud.cloudstorage.repository;
+
+import com.cloud.cloudstorage.model.ResourceEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ResourceEntryRepository extends JpaRepository<ResourceEntry, Long> {
+    boolean existsByPath(String path);
+    Optional<ResourceEntry> findByPath(String path);
+
+    @Query(value = """
+            SELECT * FROM storage.resource_entries
+            WHERE path LIKE :pattern
+              AND path <> :prefix
+              AND strpos(rtrim(substring(path from char_length(:prefix) + 1), '/'), '/') = 0
+            ORDER BY path
+            """, nativeQuery = true)
+    List<ResourceEntry> findChildren(@Param("prefix") String prefix, @Param("pattern") String pattern);
+
+    @Query(value = """
+            SELECT * FROM storage.resource_entries
+            WHERE path LIKE :pattern
+              AND path <> :prefix
+            ORDER BY path
+            """, nativeQuery = true)
+    List<ResourceEntry> findDescendants(@Param("prefix") String prefix, @Param("pattern") String pattern);
+
+    @Query(value = """
+            SELECT * FROM storage.resource_entries
+            WHERE path LIKE :pattern
+              AND path <> :prefix
+            ORDER BY path
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<ResourceEntry> findDescendants(
+            @Param("prefix") String prefix,
+            @Param("pattern") String pattern,
+            @Param("limit") int limit
+    );
+
+    @Query(value = """
+            SELECT * FROM storage.resource_entries
+            WHERE path LIKE :pattern
+            """, nativeQuery = true)
+    List<ResourceEntry> findAllByPattern(@Param("pattern") String pattern);
+
+    @Query(value = """
+            SELECT object_key FROM storage.resource_entries
+            WHERE path LIKE :pattern
+              AND object_key IS NOT NULL
+            """, nativeQuery = true)
+    List<String> findObjectKeys(@Param("pattern") String pattern);
+
+    @Query(value = """
+            SELECT path FROM storage.resource_entries WHERE path IN (:keys)
+            UNION
+            SELECT object_key FROM storage.resource_entries WHERE object_key IN (:keys)
+            """, nativeQuery = true)
+    List<String> findKnownKeys(@Param("keys") Collection<String> keys);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO storage.resource_entries (path)
+            VALUES (:path)
+            ON CONFLICT (path) DO NOTHING
+            """, nativeQuery = true)
+    int insertDirectoryIfMissing(@Param("path") String path);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO storage.resource_entries (path, object_key, size)
+            VALUES (:path, :objectKey, :size)
+            ON CONFLICT (path) DO NOTHING
+            """, nativeQuery = true)
+    int insertFileIfMissing(@Param("path") String path, @Param("objectKey") String objectKey, @Param("size") long size);
+
+    @Modifying
+    @Query(value = """
+            UPDATE storage.resource_entries
+            SET path = :to || substring(path from char_length(:from) + 1)
+            WHERE path LIKE :pattern
+            """, nativeQuery = true)
+    int movePrefix(@Param("from") String from, @Param("to") String to, @Param("pattern") String pattern);
+
+    @Modifying
+    @Query(value = "UPDATE storage.resource_entries SET path = :to WHERE path = :from", nativeQuery = true)
+    int movePath(@Param("from") String from, @Param("to") String to);
+
+    @Modifying
+    @Query(value = "DELETE FROM storage.resource_entries WHERE path LIKE :pattern", nativeQuery = true)
+    int deleteAllByPattern(@Param("pattern") String pattern);
+
+    @Modifying
+    @Query(value = "DELETE FROM storage.resource_entries WHERE path = :path", nativeQuery = true)
+    int deleteByPath(@Param("path") String path);
+}
@@ -0,0 +1,105 @@
+package com.cloud.cloudstorage.repository;
+
+import com.cloud.cloudstorage.dto.ResourceStatsDto;
+import com.cloud.cloudstorage.model.StorageUsage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface StorageUsageRepository extends JpaRepository<StorageUsage, Long> {
+
+    @Query("""
+            SELECT new com.cloud.cloudstorage.dto.ResourceStatsDto(u.usedBytes, u.objectCount)
+            FROM StorageUsage u
+            WHERE u.userId = :userId
+            """)
+    Optional<ResourceStatsDto> findStatsByUserId(@Param("userId") Long userId);
+
+    @Query("""
+            SELECT u.usedBytes
+            FROM StorageUsage u
+            WHERE u.userId = :userId
+              AND u.reconciledAt IS NOT NULL
+            """)
+    Optional<Long> findReconciledUsedBytes(@Param("userId") Long userId);
+
+    boolean existsByUserIdAndReconciledAtIsNotNull(Long userId);
+
+    @Query("SELECT u.version FROM StorageUsage u WHERE u.userId = :userId")
+    Optional<Long> findVersionByUserId(@Param("userId") Long userId);
+
+    @Query("""
+            SELECT u.userId
+            FROM StorageUsage u
+            WHERE u.reconciledAt IS NULL
+              AND u.userId > :afterUserId
+            ORDER BY u.userId
+            """)
+    List<Long> findUnreconciledUserIds(@Param("afterUserId") Long afterUserId, Pageable pageable);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO storage.storage_usage (user_id) VALUES (:userId)
+            ON CONFLICT (user_id) DO NOTHING
+            """, nativeQuery = true)
+    int createIfMissing(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO storage.storage_usage (user_id, reconciled_at) VALUES (:userId, :reconciledAt)
+            ON CONFLICT (user_id) DO NOTHING
+            """, nativeQuery = true)
+    int createReconciled(@Param("userId") Long userId, @Param("reconciledAt") Instant reconciledAt);
+
+    @Modifying
+    @Query(value = """
+            UPDATE storage.storage_usage
+            SET used_bytes = GREATEST(used_bytes + :bytes, 0),
+                object_count = GREATEST(object_count + :objects, 0),
+                version = version + 1
+            WHERE user_id = :userId
+            """, nativeQuery = true)
+    int addUsage(@Param("userId") Long userId, @Param("bytes") long bytes, @Param("objects") long objects);
+
+    @Modifying
+    @Query(value = """
+            UPDATE storage.storage_usage
+            SET used_bytes = used_bytes + :bytes,
+                object_count = object_count + :objects,
+                version = version + 1
+            WHERE user_id = :userId
+              AND (used_bytes + :bytes <= :quota OR reconciled_at IS NULL)
+            """, nativeQuery = true)
+    int reserveUsage(
+            @Param("userId") Long userId,
+            @Param("bytes") long bytes,
+            @Param("objects") long objects,
+            @Param("quota") long quota
+    );
+
+    @Modifying
+    @Query(value = """
+            UPDATE storage.storage_usage
+            SET used_bytes = :bytes,
+                object_count = :objects,
+                version = version + 1,
+                reconciled_at = :reconciledAt
+            WHERE user_id = :userId
+              AND version = :version
+            """, nativeQuery = true)
+    int replaceUsage(
+            @Param("userId") Long userId,
+            @Param("bytes") long bytes,
+            @Param("objects") long objects,
+            @Param("reconciledAt") Instant reconciledAt,
+            @Param("version") long version
+    );
+}
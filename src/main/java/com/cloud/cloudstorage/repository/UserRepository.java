@@ -1,6 +1,7 @@
 package com.cloud.cloudstorage.repository;
 
 import com.cloud.cloudstorage.model.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -10,5 +11,7 @@ import java.util.Optional;
 public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsUserByUsername(String username);
     Optional<User> findUserByUsername(String username);
+    @EntityGraph(attributePaths = "roles")
+    Optional<User> findWithRolesByUsername(String username);
     boolean existsUserByEmail(String email);
 }
@@ -0,0 +1,20 @@
+package com.cloud.cloudstorage.repository;
+
+import com.cloud.cloudstorage.model.UserShard;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface UserShardRepository extends JpaRepository<UserShard, String> {
+    List<UserShard> findByUpdatedAtAfter(Instant updatedAt);
+
+    @Query(value = """
+            SELECT * FROM storage.user_shards
+            WHERE state IN ('MIGRATING', 'CLEANING_UP')
+            """, nativeQuery = true)
+    List<UserShard> findMigrationsInProgress();
+}
@@ -1,7 +1,9 @@
 package com.cloud.cloudstorage.service;
 
+import com.cloud.cloudstorage.config.security.UserPrincipal;
 import jakarta.servlet.http.HttpServletRequest;
 
 public interface AuthenticationService {
     void authenticate(String username, String password, HttpServletRequest request);
+    UserPrincipal verifyCredentials(String username, String password);
 }
@@ -0,0 +1,12 @@
+package com.cloud.cloudstorage.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+public interface BufferPoolService {
+    ByteBuffer acquire();
+    void release(ByteBuffer buffer);
+    long copy(InputStream source, OutputStream target) throws IOException;
+}
@@ -0,0 +1,14 @@
+package com.cloud.cloudstorage.service;
+
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+public interface ConditionCheckService {
+    void checkAll(List<Check> checks);
+
+    record Check(
+            BooleanSupplier condition,
+            Supplier<? extends RuntimeException> exceptionSupplier
+    ) {}
+}
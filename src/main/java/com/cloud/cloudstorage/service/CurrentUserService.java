@@ -1,9 +1,9 @@
 package com.cloud.cloudstorage.service;
 
-import com.cloud.cloudstorage.dto.UserResponseDto;
+import com.cloud.cloudstorage.dto.CurrentUserResponseDto;
 import org.springframework.security.core.userdetails.User;
 
 public interface CurrentUserService {
-    UserResponseDto getCurrentUserDetails(User user);
+    CurrentUserResponseDto getCurrentUserDetails(User user);
     Long getCurrentUserId(User user);
 }
\ No newline at end of file
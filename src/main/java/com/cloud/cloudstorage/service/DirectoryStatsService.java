@@ -0,0 +1,20 @@
+package com.cloud.cloudstorage.service;
+
+import com.cloud.cloudstorage.dto.ResourceStatsDto;
+import com.cloud.cloudstorage.dto.StorageItemDto;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface DirectoryStatsService {
+    void addFiles(Map<String, Long> fileSizesByPath);
+    void addFile(String fullFilePath, long size);
+    void removeFile(String fullFilePath, long size);
+    void moveFile(String fullPathFrom, String fullPathTo, long size);
+    void moveDirectory(String fullPathFrom, String fullPathTo);
+    void removeResource(String fullPath, ResourceStatsDto removedStats);
+    void replaceStats(String rootDir, List<StorageItemDto> items);
+    ResourceStatsDto getStats(String directoryPath);
+    Map<String, ResourceStatsDto> getStats(Collection<String> directoryPaths);
+}
@@ -0,0 +1,10 @@
+package com.cloud.cloudstorage.service;
+
+import com.cloud.cloudstorage.dto.JobResponseDto;
+import com.cloud.cloudstorage.dto.enums.JobType;
+import org.springframework.security.core.userdetails.User;
+
+public interface JobService {
+    JobResponseDto submitJob(JobType type, String from, String to, User user);
+    JobResponseDto getJob(Long id, User user);
+}
@@ -0,0 +1,13 @@
+package com.cloud.cloudstorage.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+public interface ObjectCacheService {
+    boolean isEnabled();
+    boolean isCacheable(long size);
+    String getCachedEtag(String cacheKey);
+    boolean transferCached(String cacheKey, String etag, OutputStream target) throws IOException;
+    void copyThrough(String cacheKey, String etag, InputStream source, OutputStream target) throws IOException;
+}
@@ -19,4 +19,6 @@ public interface ResourceService {
     void deleteResource(String path, User user);
     BaseResourceResponseDto getResourceInfo(String path, User user);
     boolean isResourceExisting(String path);
+    void validateResourceExists(String path, User user);
+    void validateMovingConditions(String from, String to, User user);
 }
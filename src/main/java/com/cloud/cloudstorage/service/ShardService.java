@@ -0,0 +1,10 @@
+package com.cloud.cloudstorage.service;
+
+import com.cloud.cloudstorage.dto.ShardAssignmentResponseDto;
+
+public interface ShardService {
+    void assignShard(String rootDirName);
+    ShardAssignmentResponseDto getAssignment(Long userId);
+    ShardAssignmentResponseDto startMigration(Long userId, String targetShardName);
+    ShardAssignmentResponseDto resetMigration(Long userId);
+}
@@ -0,0 +1,32 @@
+package com.cloud.cloudstorage.service;
+
+import com.cloud.cloudstorage.dto.ObjectMetadataDto;
+import com.cloud.cloudstorage.dto.ObjectStreamDto;
+import com.cloud.cloudstorage.dto.ResourceStatsDto;
+import com.cloud.cloudstorage.dto.StorageItemDto;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+
+public interface StorageService {
+    void putRootDirectory(String rootDirName);
+    void putEmptyDirectory(String fullPath);
+    void putIntermediateDirectories(String fullParentPath, String relativeFilePath);
+    void putFile(String fullFilePath, MultipartFile multipartFile);
+    boolean isResourceExisting(String path);
+    boolean hasImplicitDirectories();
+    boolean supportsAtomicMoves();
+    List<StorageItemDto> getDirectoryObjectsList(String directoryPath);
+    List<StorageItemDto> getWholeDirectoryContentList(String rootDir);
+    List<StorageItemDto> getWholeDirectoryContentList(String rootDir, int limit);
+    void moveResource(String fullPathFrom, String fullPathTo);
+    void copyObject(String fullPathFrom, String fullPathTo);
+    void removeObject(String fullPath);
+    long getObjectSize(String fullPath);
+    ObjectMetadataDto getObjectMetadata(String fullPath);
+    InputStream downloadResource(String fullPath);
+    Optional<ObjectStreamDto> downloadResourceIfChanged(String fullPath, String etag);
+    ResourceStatsDto deleteResource(String fullPath);
+}
@@ -0,0 +1,13 @@
+package com.cloud.cloudstorage.service;
+
+import com.cloud.cloudstorage.dto.StorageUsageResponseDto;
+
+public interface StorageUsageService {
+    void createUsage(Long userId);
+    void reserveStorage(Long userId, long bytes, long objects);
+    void recordUsage(Long userId, long bytes, long objects);
+    long getRemainingQuota(Long userId);
+    boolean isReconciled(Long userId);
+    StorageUsageResponseDto getUsage(Long userId);
+    boolean reconcileUsage(Long userId);
+}
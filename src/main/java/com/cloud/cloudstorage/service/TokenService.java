@@ -0,0 +1,9 @@
+package com.cloud.cloudstorage.service;
+
+import com.cloud.cloudstorage.config.security.UserPrincipal;
+import com.cloud.cloudstorage.dto.TokenResponseDto;
+
+public interface TokenService {
+    TokenResponseDto issueTokens(UserPrincipal principal);
+    UserPrincipal verifyRefreshToken(String refreshToken);
+}
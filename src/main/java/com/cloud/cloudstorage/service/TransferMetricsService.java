@@ -0,0 +1,8 @@
+package com.cloud.cloudstorage.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+public interface TransferMetricsService {
+    StreamingResponseBody instrumentDownload(StreamingResponseBody body, String type);
+    void recordUpload(long bytes);
+}
@@ -1,5 +1,6 @@
 package com.cloud.cloudstorage.service;
 
+import com.cloud.cloudstorage.dto.TokenRefreshDto;
 import com.cloud.cloudstorage.dto.UserAuthDto;
 import com.cloud.cloudstorage.dto.UserCreateDto;
 import com.cloud.cloudstorage.dto.UserResponseDto;
@@ -8,4 +9,5 @@ import jakarta.servlet.http.HttpServletRequest;
 public interface UserAccountService {
     UserResponseDto registerNewUser(UserCreateDto userCreateDto, HttpServletRequest request);
     UserResponseDto authorizeUser(UserAuthDto userAuthDto, HttpServletRequest request);
+    UserResponseDto refreshTokens(TokenRefreshDto tokenRefreshDto);
 }
\ No newline at end of file
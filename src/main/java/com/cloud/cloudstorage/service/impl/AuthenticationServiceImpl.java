@@ -1,5 +1,6 @@
 package com.cloud.cloudstorage.service.impl;
 
+import com.cloud.cloudstorage.config.security.UserPrincipal;
 import com.cloud.cloudstorage.service.AuthenticationService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
@@ -23,6 +24,11 @@ public class AuthenticationServiceImpl implements AuthenticationService {
         createSession(authentication, request);
     }
 
+    @Override
+    public UserPrincipal verifyCredentials(String username, String password) {
+        return (UserPrincipal) getAuthentication(username, password).getPrincipal();
+    }
+
     private Authentication getAuthentication(String username, String password) {
         return authenticationManager
                 .authenticate(new UsernamePasswordAuthenticationToken(
@@ -0,0 +1,109 @@
+package com.cloud.cloudstorage.service.impl;
+
+import com.cloud.cloudstorage.config.buffer.BufferPoolProperties;
+import com.cloud.cloudstorage.service.BufferPoolService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+@Service
+public class BufferPoolServiceImpl implements BufferPoolService {
+    private final int bufferSize;
+    private final boolean direct;
+    private final BlockingQueue<ByteBuffer> pool;
+    private final Counter acquiredCounter;
+    private final Counter allocatedCounter;
+    private final Counter allocatedBytesCounter;
+    private final Counter discardedCounter;
+
+    public BufferPoolServiceImpl(BufferPoolProperties bufferPoolProperties, MeterRegistry meterRegistry) {
+        this.bufferSize = Math.toIntExact(bufferPoolProperties.getBufferSize().toBytes());
+        this.direct = bufferPoolProperties.isDirect();
+        this.pool = new ArrayBlockingQueue<>(bufferPoolProperties.getMaxPooled());
+
+        this.acquiredCounter = Counter.builder("buffer.pool.acquired")
+                .description("Buffers taken from the pool")
+                .register(meterRegistry);
+        this.allocatedCounter = Counter.builder("buffer.pool.allocated")
+                .description("Buffers allocated because the pool was empty")
+                .register(meterRegistry);
+        this.allocatedBytesCounter = Counter.builder("buffer.pool.allocated.bytes")
+                .description("Bytes allocated for new buffers")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.discardedCounter = Counter.builder("buffer.pool.discarded")
+                .description("Buffers dropped because the pool was full")
+                .register(meterRegistry);
+        Gauge.builder("buffer.pool.available", pool, BlockingQueue::size)
+                .description("Buffers currently idle in the pool")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ByteBuffer acquire() {
+        acquiredCounter.increment();
+        ByteBuffer buffer = pool.poll();
+        if (buffer != null) {
+            return buffer;
+        }
+
+        allocatedCounter.increment();
+        allocatedBytesCounter.increment(bufferSize);
+        return direct ? ByteBuffer.allocateDirect(bufferSize) : ByteBuffer.allocate(bufferSize);
+    }
+
+    @Override
+    public void release(ByteBuffer buffer) {
+        buffer.clear();
+        if (!pool.offer(buffer)) {
+            discardedCounter.increment();
+        }
+    }
+
+    @Override
+    public long copy(InputStream source, OutputStream target) throws IOException {
+        ByteBuffer buffer = acquire();
+        try {
+            return buffer.hasArray() ? copyWithArray(source, target, buffer.array()) : copyWithChannels(source, target, buffer);
+        } finally {
+            release(buffer);
+        }
+    }
+
+    private long copyWithArray(InputStream source, OutputStream target, byte[] buffer) throws IOException {
+        long copied = 0;
+        int read;
+        while ((read = source.read(buffer)) != -1) {
+            target.write(buffer, 0, read);
+            copied += read;
+        }
+        target.flush();
+        return copied;
+    }
+
+    private long copyWithChannels(InputStream source, OutputStream target, ByteBuffer buffer) throws IOException {
+        ReadableByteChannel sourceChannel = Channels.newChannel(source);
+        WritableByteChannel targetChannel = Channels.newChannel(target);
+        long copied = 0;
+        while (sourceChannel.read(buffer) != -1) {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                copied += targetChannel.write(buffer);
+            }
+            buffer.clear();
+        }
+        target.flush();
+        return copied;
+    }
+}
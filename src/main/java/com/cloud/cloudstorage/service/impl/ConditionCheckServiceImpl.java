@@ -0,0 +1,62 @@
+package com.cloud.cloudstorage.service.impl;
+
+import com.cloud.cloudstorage.service.ConditionCheckService;
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+@Service
+public class ConditionCheckServiceImpl implements ConditionCheckService {
+    private static final ContextSnapshotFactory SNAPSHOT_FACTORY = ContextSnapshotFactory.builder().build();
+
+    private final ExecutorService executorService = ContextExecutorService.wrap(
+            Executors.newVirtualThreadPerTaskExecutor(),
+            () -> SNAPSHOT_FACTORY.captureAll()
+    );
+
+    @Override
+    public void checkAll(List<Check> checks) {
+        List<Future<Boolean>> futures = submitChecks(checks);
+        try {
+            for (int i = 0; i < checks.size(); i++) {
+                if (!getResult(futures.get(i))) {
+                    throw checks.get(i).exceptionSupplier().get();
+                }
+            }
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdownNow();
+    }
+
+    private List<Future<Boolean>> submitChecks(List<Check> checks) {
+        return checks.stream()
+                .map(check -> executorService.submit(() -> check.condition().getAsBoolean()))
+                .toList();
+    }
+
+    private boolean getResult(Future<Boolean> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Condition check was interrupted", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Condition check failed", ex.getCause());
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package com.cloud.cloudstorage.service.impl;
 
-import com.cloud.cloudstorage.dto.UserResponseDto;
-import com.cloud.cloudstorage.mapper.UserMapper;
+import com.cloud.cloudstorage.config.security.UserPrincipal;
+import com.cloud.cloudstorage.dto.CurrentUserResponseDto;
+import com.cloud.cloudstorage.dto.StorageUsageResponseDto;
 import com.cloud.cloudstorage.model.User;
 import com.cloud.cloudstorage.repository.UserRepository;
 import com.cloud.cloudstorage.service.CurrentUserService;
+import com.cloud.cloudstorage.service.StorageUsageService;
 import lombok.AllArgsConstructor;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -13,16 +15,20 @@ import org.springframework.stereotype.Service;
 @AllArgsConstructor
 public class CurrentUserServiceImpl implements CurrentUserService {
     private final UserRepository userRepository;
-    private final UserMapper userMapper;
+    private final StorageUsageService storageUsageService;
 
     @Override
-    public UserResponseDto getCurrentUserDetails(org.springframework.security.core.userdetails.User user) {
-        String username = user.getUsername();
-        return userMapper.toDto(username);
+    public CurrentUserResponseDto getCurrentUserDetails(org.springframework.security.core.userdetails.User user) {
+        StorageUsageResponseDto storageUsage = storageUsageService.getUsage(getCurrentUserId(user));
+        return new CurrentUserResponseDto(user.getUsername(), storageUsage);
     }
 
     @Override
     public Long getCurrentUserId(org.springframework.security.core.userdetails.User user) {
+        if (user instanceof UserPrincipal principal) {
+            return principal.getId();
+        }
+
         String username = user.getUsername();
         User foundUser = getUserByUsername(username);
 
@@ -0,0 +1,143 @@
+package com.cloud.cloudstorage.service.impl;
+
+import com.cloud.cloudstorage.dto.ResourceStatsDto;
+import com.cloud.cloudstorage.dto.StorageItemDto;
+import com.cloud.cloudstorage.repository.DirectoryStatsRepository;
+import com.cloud.cloudstorage.service.DirectoryStatsService;
+import jakarta.transaction.Transactional;
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Service
+@AllArgsConstructor
+public class DirectoryStatsServiceImpl implements DirectoryStatsService {
+    private static final String UPSERT_SQL = """
+            INSERT INTO storage.directory_stats AS stats (path, size, object_count) VALUES (?, ?, ?)
+            ON CONFLICT (path) DO UPDATE
+            SET size = stats.size + EXCLUDED.size,
+                object_count = stats.object_count + EXCLUDED.object_count
+            """;
+
+    private final DirectoryStatsRepository directoryStatsRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void addFiles(Map<String, Long> fileSizesByPath) {
+        Map<String, long[]> deltas = new TreeMap<>();
+        fileSizesByPath.forEach((path, size) -> addToAncestors(deltas, path, size, 1));
+        applyDeltas(deltas);
+    }
+
+    @Override
+    @Transactional
+    public void addFile(String fullFilePath, long size) {
+        addFiles(Map.of(fullFilePath, size));
+    }
+
+    @Override
+    @Transactional
+    public void removeFile(String fullFilePath, long size) {
+        Map<String, long[]> deltas = new TreeMap<>();
+        addToAncestors(deltas, fullFilePath, -size, -1);
+        applyDeltas(deltas);
+    }
+
+    @Override
+    @Transactional
+    public void moveFile(String fullPathFrom, String fullPathTo, long size) {
+        Map<String, long[]> deltas = new TreeMap<>();
+        addToAncestors(deltas, fullPathFrom, -size, -1);
+        addToAncestors(deltas, fullPathTo, size, 1);
+        applyDeltas(deltas);
+    }
+
+    @Override
+    @Transactional
+    public void moveDirectory(String fullPathFrom, String fullPathTo) {
+        ResourceStatsDto stats = getStats(fullPathFrom);
+        directoryStatsRepository.movePrefix(fullPathFrom, fullPathTo, createPrefixPattern(fullPathFrom));
+
+        Map<String, long[]> deltas = new TreeMap<>();
+        addToAncestors(deltas, fullPathFrom, -stats.size(), -stats.objectCount());
+        addToAncestors(deltas, fullPathTo, stats.size(), stats.objectCount());
+        applyDeltas(deltas);
+    }
+
+    @Override
+    @Transactional
+    public void removeResource(String fullPath, ResourceStatsDto removedStats) {
+        if (fullPath.endsWith("/")) {
+            directoryStatsRepository.deleteAllByPattern(createPrefixPattern(fullPath));
+        }
+
+        Map<String, long[]> deltas = new TreeMap<>();
+        addToAncestors(deltas, fullPath, -removedStats.size(), -removedStats.objectCount());
+        applyDeltas(deltas);
+    }
+
+    @Override
+    @Transactional
+    public void replaceStats(String rootDir, List<StorageItemDto> items) {
+        Map<String, long[]> stats = new TreeMap<>();
+        for (StorageItemDto item : items) {
+            if (!item.objectName().endsWith("/")) {
+                addToAncestors(stats, item.objectName(), item.size(), 1);
+            }
+        }
+
+        directoryStatsRepository.deleteAllByPattern(createPrefixPattern(rootDir));
+        applyDeltas(stats);
+    }
+
+    @Override
+    public ResourceStatsDto getStats(String directoryPath) {
+        return directoryStatsRepository.findStatsByPath(directoryPath)
+                .orElseGet(ResourceStatsDto::empty);
+    }
+
+    @Override
+    public Map<String, ResourceStatsDto> getStats(Collection<String> directoryPaths) {
+        if (directoryPaths.isEmpty()) {
+            return Map.of();
+        }
+        return directoryStatsRepository.findStatsByPaths(directoryPaths)
+                .stream()
+                .collect(Collectors.toMap(
+                        DirectoryStatsRepository.DirectoryStatsView::getPath,
+                        view -> new ResourceStatsDto(view.getSize(), view.getObjectCount())
+                ));
+    }
+
+    private void addToAncestors(Map<String, long[]> deltas, String fullPath, long size, long objectCount) {
+        int slashIndex = fullPath.indexOf("/");
+        while (slashIndex != -1 && slashIndex < fullPath.length() - 1) {
+            long[] delta = deltas.computeIfAbsent(fullPath.substring(0, slashIndex + 1), key -> new long[2]);
+            delta[0] += size;
+            delta[1] += objectCount;
+            slashIndex = fullPath.indexOf("/", slashIndex + 1);
+        }
+    }
+
+    private void applyDeltas(Map<String, long[]> deltas) {
+        List<Object[]> rows = new ArrayList<>();
+        deltas.forEach((path, delta) -> {
+            if (delta[0] != 0 || delta[1] != 0) {
+                rows.add(new Object[]{path, delta[0], delta[1]});
+            }
+        });
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+        }
+    }
+
+    private String createPrefixPattern(String prefix) {
+        return prefix.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + "%";
+    }
+}
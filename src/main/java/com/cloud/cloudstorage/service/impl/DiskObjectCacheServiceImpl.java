@@ -0,0 +1,241 @@
+package com.cloud.cloudstorage.service.impl;
+
+import com.cloud.cloudstorage.config.cache.ObjectCacheProperties;
+import com.cloud.cloudstorage.service.BufferPoolService;
+import com.cloud.cloudstorage.service.ObjectCacheService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+@Service
+@Slf4j
+public class DiskObjectCacheServiceImpl implements ObjectCacheService {
+    private final BufferPoolService bufferPoolService;
+    private final boolean enabled;
+    private final Path directory;
+    private final long maxSize;
+    private final long maxObjectSize;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final LinkedHashMap<String, CachedObject> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalSize;
+
+    public DiskObjectCacheServiceImpl(
+            ObjectCacheProperties objectCacheProperties,
+            BufferPoolService bufferPoolService,
+            MeterRegistry meterRegistry
+    ) {
+        this.bufferPoolService = bufferPoolService;
+        this.enabled = objectCacheProperties.isEnabled();
+        this.directory = Path.of(objectCacheProperties.getDirectory());
+        this.maxSize = objectCacheProperties.getMaxSize().toBytes();
+        this.maxObjectSize = objectCacheProperties.getMaxObjectSize().toBytes();
+        this.hitCounter = Counter.builder("object.cache.requests")
+                .description("Cached object lookups")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("object.cache.requests")
+                .description("Cached object lookups")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("object.cache.size", this, DiskObjectCacheServiceImpl::getTotalSize)
+                .description("Bytes stored in the object cache")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("object.cache.entries", this, DiskObjectCacheServiceImpl::getEntryCount)
+                .description("Objects stored in the object cache")
+                .register(meterRegistry);
+        if (enabled) {
+            prepareDirectory();
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public boolean isCacheable(long size) {
+        return enabled && size <= maxObjectSize && size <= maxSize;
+    }
+
+    @Override
+    public synchronized String getCachedEtag(String cacheKey) {
+        CachedObject cached = entries.get(toFileName(cacheKey));
+        return cached == null ? null : cached.etag();
+    }
+
+    @Override
+    public boolean transferCached(String cacheKey, String etag, OutputStream target) throws IOException {
+        FileChannel channel;
+        synchronized (this) {
+            String fileName = toFileName(cacheKey);
+            CachedObject cached = entries.get(fileName);
+            if (cached == null || !cached.etag().equals(etag)) {
+                return false;
+            }
+            hitCounter.increment();
+            channel = FileChannel.open(directory.resolve(fileName), StandardOpenOption.READ);
+        }
+
+        try (channel) {
+            WritableByteChannel targetChannel = Channels.newChannel(target);
+            long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                position += channel.transferTo(position, size - position, targetChannel);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void copyThrough(String cacheKey, String etag, InputStream source, OutputStream target) throws IOException {
+        missCounter.increment();
+        Path tempFile = createTempFile();
+        if (tempFile == null) {
+            bufferPoolService.copy(source, target);
+            return;
+        }
+
+        try {
+            long size = copyToTargetAndFile(source, target, tempFile);
+            if (size >= 0) {
+                store(toFileName(cacheKey), etag, tempFile, size);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private long copyToTargetAndFile(InputStream source, OutputStream target, Path tempFile) throws IOException {
+        ReadableByteChannel sourceChannel = Channels.newChannel(source);
+        WritableByteChannel targetChannel = Channels.newChannel(target);
+        ByteBuffer buffer = bufferPoolService.acquire();
+        boolean caching = true;
+        long size = 0;
+
+        try (FileChannel fileChannel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+            while (sourceChannel.read(buffer) != -1) {
+                buffer.flip();
+                if (caching) {
+                    caching = writeToCacheFile(fileChannel, buffer.duplicate());
+                }
+                while (buffer.hasRemaining()) {
+                    size += targetChannel.write(buffer);
+                }
+                buffer.clear();
+            }
+        } finally {
+            bufferPoolService.release(buffer);
+        }
+        return caching && size <= maxObjectSize ? size : -1;
+    }
+
+    private boolean writeToCacheFile(FileChannel fileChannel, ByteBuffer buffer) {
+        try {
+            while (buffer.hasRemaining()) {
+                fileChannel.write(buffer);
+            }
+            return true;
+        } catch (IOException ex) {
+            log.warn("Failed to write object cache file, serving without caching", ex);
+            return false;
+        }
+    }
+
+    private synchronized void store(String fileName, String etag, Path tempFile, long size) throws IOException {
+        CachedObject cached = entries.get(fileName);
+        if (cached != null && cached.etag().equals(etag)) {
+            return;
+        }
+
+        Files.move(tempFile, directory.resolve(fileName), StandardCopyOption.ATOMIC_MOVE);
+        if (cached != null) {
+            totalSize -= cached.size();
+        }
+        entries.put(fileName, new CachedObject(etag, size));
+        totalSize += size;
+        evictIfNeeded();
+    }
+
+    private void evictIfNeeded() {
+        Iterator<Map.Entry<String, CachedObject>> iterator = entries.entrySet().iterator();
+        while (totalSize > maxSize && iterator.hasNext()) {
+            Map.Entry<String, CachedObject> eldest = iterator.next();
+            iterator.remove();
+            totalSize -= eldest.getValue().size();
+            try {
+                Files.deleteIfExists(directory.resolve(eldest.getKey()));
+            } catch (IOException ex) {
+                log.warn("Failed to delete evicted object cache file {}", eldest.getKey(), ex);
+            }
+        }
+    }
+
+    private synchronized long getTotalSize() {
+        return totalSize;
+    }
+
+    private synchronized int getEntryCount() {
+        return entries.size();
+    }
+
+    private Path createTempFile() {
+        try {
+            return Files.createTempFile(directory, "download-", ".tmp");
+        } catch (IOException ex) {
+            log.warn("Failed to create object cache file, serving without caching", ex);
+            return null;
+        }
+    }
+
+    private void prepareDirectory() {
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : files.toList()) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to prepare object cache directory " + directory, ex);
+        }
+    }
+
+    private String toFileName(String cacheKey) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(cacheKey.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private record CachedObject(String etag, long size) {}
+}
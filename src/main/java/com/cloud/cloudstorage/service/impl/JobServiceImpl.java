@@ -0,0 +1,179 @@
+package com.cloud.cloudstorage.service.impl;
+
+import com.cloud.cloudstorage.config.job.JobProperties;
+import com.cloud.cloudstorage.dto.JobItemErrorDto;
+import com.cloud.cloudstorage.dto.JobResponseDto;
+import com.cloud.cloudstorage.dto.ResourceStatsDto;
+import com.cloud.cloudstorage.dto.StorageItemDto;
+import com.cloud.cloudstorage.dto.enums.JobItemStatus;
+import com.cloud.cloudstorage.dto.enums.JobStatus;
+import com.cloud.cloudstorage.dto.enums.JobType;
+import com.cloud.cloudstorage.exception.JobNotExistsException;
+import com.cloud.cloudstorage.model.Job;
+import com.cloud.cloudstorage.repository.JobItemRepository;
+import com.cloud.cloudstorage.repository.JobRepository;
+import com.cloud.cloudstorage.service.*;
+import lombok.AllArgsConstructor;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+
+@Service
+@AllArgsConstructor
+public class JobServiceImpl implements JobService {
+    private final CurrentUserService currentUserService;
+    private final PathBuilderService pathBuilderService;
+    private final PathFormatterService pathFormatterService;
+    private final ResourceService resourceService;
+    private final StorageService storageService;
+    private final StorageUsageService storageUsageService;
+    private final DirectoryStatsService directoryStatsService;
+    private final JobRepository jobRepository;
+    private final JobItemRepository jobItemRepository;
+    private final JobWorker jobWorker;
+    private final JobProperties jobProperties;
+
+    @Override
+    public JobResponseDto submitJob(JobType type, String from, String to, User user) {
+        validateJobConditions(type, from, to, user);
+
+        Long userId = currentUserService.getCurrentUserId(user);
+        String fullPathFrom = pathBuilderService.createFullDirectoryPath(userId, from);
+        String fullPathTo = type == JobType.DELETE ? null : pathBuilderService.createFullDirectoryPath(userId, to);
+        Job job = createJob(userId, type, fullPathFrom, fullPathTo);
+        if (type == JobType.MOVE && storageService.supportsAtomicMoves()) {
+            runSynchronously(job, List.of());
+            return toResponseDto(job, List.of());
+        }
+
+        int syncThreshold = jobProperties.getSyncThreshold();
+        List<StorageItemDto> items = getDirectoryItems(fullPathFrom, syncThreshold + 1);
+        if (items.size() > syncThreshold) {
+            return toResponseDto(jobRepository.save(job), List.of());
+        }
+
+        List<StorageItemDto> selectedItems = jobWorker.selectItems(items);
+        if (type == JobType.COPY) {
+            reserveCopyStorage(userId, fullPathFrom, selectedItems);
+        }
+        runSynchronously(job, selectedItems);
+        return toResponseDto(job, List.of());
+    }
+
+    @Override
+    public JobResponseDto getJob(Long id, User user) {
+        Long userId = currentUserService.getCurrentUserId(user);
+        Job job = jobRepository.findByIdAndUserId(id, userId)
+                .orElseThrow(() -> new JobNotExistsException(id));
+        List<JobItemErrorDto> errors = jobItemRepository.findTop100ByJobIdAndStatusOrderById(id, JobItemStatus.FAILED)
+                .stream()
+                .map(item -> new JobItemErrorDto(formatPathForResponse(item.getObjectName()), item.getErrorMessage()))
+                .toList();
+        return toResponseDto(job, errors);
+    }
+
+    private void validateJobConditions(JobType type, String from, String to, User user) {
+        if (type == JobType.DELETE) {
+            resourceService.validateResourceExists(from, user);
+        } else {
+            resourceService.validateMovingConditions(from, to, user);
+        }
+    }
+
+    private Job createJob(Long userId, JobType type, String fullPathFrom, String fullPathTo) {
+        Instant now = Instant.now();
+        Job job = new Job();
+        job.setUserId(userId);
+        job.setType(type);
+        job.setStatus(JobStatus.PENDING);
+        job.setSourcePath(fullPathFrom);
+        job.setTargetPath(fullPathTo);
+        job.setCreatedAt(now);
+        job.setUpdatedAt(now);
+        return job;
+    }
+
+    private List<StorageItemDto> getDirectoryItems(String fullPath, int limit) {
+        if (!fullPath.endsWith("/")) {
+            return List.of();
+        }
+        return storageService.getWholeDirectoryContentList(fullPath, limit);
+    }
+
+    private void runSynchronously(Job job, List<StorageItemDto> items) {
+        switch (job.getType()) {
+            case MOVE -> moveSynchronously(job);
+            case DELETE -> {
+                ResourceStatsDto removedStats = storageService.deleteResource(job.getSourcePath());
+                storageUsageService.recordUsage(job.getUserId(), -removedStats.size(), -removedStats.objectCount());
+                directoryStatsService.removeResource(job.getSourcePath(), removedStats);
+            }
+            case COPY -> copySynchronously(job, items);
+        }
+
+        int totalItems = items.size() + 1;
+        job.setTotalItems(totalItems);
+        job.setProcessedItems(totalItems);
+        job.setStatus(JobStatus.COMPLETED);
+    }
+
+    private void reserveCopyStorage(Long userId, String fullPathFrom, List<StorageItemDto> items) {
+        if (!fullPathFrom.endsWith("/")) {
+            storageUsageService.reserveStorage(userId, storageService.getObjectSize(fullPathFrom), 1);
+            return;
+        }
+        jobWorker.reserveCopyStorage(userId, items);
+    }
+
+    private void moveSynchronously(Job job) {
+        String sourcePath = job.getSourcePath();
+        String targetPath = job.getTargetPath();
+        storageService.moveResource(sourcePath, targetPath);
+        if (sourcePath.endsWith("/")) {
+            directoryStatsService.moveDirectory(sourcePath, targetPath);
+        } else {
+            directoryStatsService.moveFile(sourcePath, targetPath, storageService.getObjectSize(targetPath));
+        }
+    }
+
+    private void copySynchronously(Job job, List<StorageItemDto> items) {
+        String sourcePath = job.getSourcePath();
+        String targetPath = job.getTargetPath();
+        if (!sourcePath.endsWith("/")) {
+            long size = storageService.getObjectSize(sourcePath);
+            jobWorker.processItem(JobType.COPY, sourcePath, targetPath, sourcePath, false, size);
+            return;
+        }
+
+        items.stream()
+                .filter(item -> !item.objectName().endsWith("/"))
+                .forEach(item -> jobWorker.processItem(
+                        JobType.COPY, sourcePath, targetPath, item.objectName(), false, item.size()));
+        items.stream()
+                .filter(item -> item.objectName().endsWith("/"))
+                .forEach(item -> jobWorker.processItem(
+                        JobType.COPY, sourcePath, targetPath, item.objectName(), true, 0));
+        jobWorker.processItem(JobType.COPY, sourcePath, targetPath, sourcePath, true, 0);
+    }
+
+    private JobResponseDto toResponseDto(Job job, List<JobItemErrorDto> errors) {
+        String to = job.getTargetPath() == null ? null : formatPathForResponse(job.getTargetPath());
+        return new JobResponseDto(
+                job.getId(),
+                job.getType(),
+                job.getStatus(),
+                formatPathForResponse(job.getSourcePath()),
+                to,
+                job.getTotalItems(),
+                job.getProcessedItems(),
+                job.getFailedItems(),
+                errors
+        );
+    }
+
+    private String formatPathForResponse(String fullPath) {
+        return pathFormatterService.formatFullPathForResponse(fullPath);
+    }
+}
@@ -0,0 +1,428 @@
+package com.cloud.cloudstorage.service.impl;
+
+import com.cloud.cloudstorage.config.job.JobProperties;
+import com.cloud.cloudstorage.dto.ResourceStatsDto;
+import com.cloud.cloudstorage.dto.StorageItemDto;
+import com.cloud.cloudstorage.dto.enums.JobItemStatus;
+import com.cloud.cloudstorage.dto.enums.JobStatus;
+import com.cloud.cloudstorage.dto.enums.JobType;
+import com.cloud.cloudstorage.exception.StorageQuotaExceededException;
+import com.cloud.cloudstorage.model.Job;
+import com.cloud.cloudstorage.model.JobItem;
+import com.cloud.cloudstorage.repository.JobItemRepository;
+import com.cloud.cloudstorage.repository.JobRepository;
+import com.cloud.cloudstorage.service.DirectoryStatsService;
+import com.cloud.cloudstorage.service.StorageService;
+import com.cloud.cloudstorage.service.StorageUsageService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@Slf4j
+public class JobWorker {
+    private static final String INSERT_ITEM_SQL =
+            "INSERT INTO storage.job_items (job_id, object_name, directory, size, status) VALUES (?, ?, ?, ?, 'PENDING')";
+    private static final String INSERT_FAILED_ITEM_SQL =
+            "INSERT INTO storage.job_items (job_id, object_name, directory, size, status, error_message) VALUES (?, ?, true, 0, 'FAILED', ?)";
+    private static final String UPDATE_ITEM_SQL =
+            "UPDATE storage.job_items SET status = ?, error_message = ? WHERE id = ?";
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 1024;
+
+    private final StorageService storageService;
+    private final StorageUsageService storageUsageService;
+    private final DirectoryStatsService directoryStatsService;
+    private final JobRepository jobRepository;
+    private final JobItemRepository jobItemRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final JobProperties jobProperties;
+    private final ExecutorService jobExecutor;
+    private final ExecutorService itemExecutor;
+    private final ScheduledExecutorService heartbeatExecutor;
+    private final Semaphore jobSlots;
+
+    public JobWorker(
+            StorageService storageService,
+            StorageUsageService storageUsageService,
+            DirectoryStatsService directoryStatsService,
+            JobRepository jobRepository,
+            JobItemRepository jobItemRepository,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            JobProperties jobProperties
+    ) {
+        this.storageService = storageService;
+        this.storageUsageService = storageUsageService;
+        this.directoryStatsService = directoryStatsService;
+        this.jobRepository = jobRepository;
+        this.jobItemRepository = jobItemRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.jobProperties = jobProperties;
+        this.jobExecutor = Executors.newFixedThreadPool(jobProperties.getMaxConcurrentJobs());
+        this.itemExecutor = Executors.newFixedThreadPool(jobProperties.getItemParallelism());
+        this.heartbeatExecutor = Executors.newSingleThreadScheduledExecutor();
+        this.jobSlots = new Semaphore(jobProperties.getMaxConcurrentJobs());
+    }
+
+    @Scheduled(fixedDelayString = "${jobs.poll-interval:PT1S}")
+    public void pollJobs() {
+        while (jobSlots.tryAcquire()) {
+            Optional<Job> claimedJob = claimNextJob();
+            if (claimedJob.isEmpty()) {
+                jobSlots.release();
+                return;
+            }
+
+            Job job = claimedJob.get();
+            jobExecutor.execute(() -> {
+                try {
+                    runJob(job);
+                } finally {
+                    jobSlots.release();
+                }
+            });
+        }
+    }
+
+    public void processItem(JobType type, String sourcePath, String targetPath, String objectName, boolean directory, long size) {
+        switch (type) {
+            case MOVE -> moveItem(objectName, getItemTargetPath(sourcePath, targetPath, objectName), directory, size);
+            case COPY -> copyItem(objectName, getItemTargetPath(sourcePath, targetPath, objectName), directory, size);
+            case DELETE -> deleteItem(objectName, directory, size);
+        }
+    }
+
+    public List<StorageItemDto> selectItems(List<StorageItemDto> items) {
+        if (!storageService.hasImplicitDirectories()) {
+            return items;
+        }
+
+        Set<String> nonEmptyDirectories = new HashSet<>();
+        items.forEach(item -> nonEmptyDirectories.add(getParentPath(item.objectName())));
+        return items.stream()
+                .filter(item -> !item.isDirectory() || !nonEmptyDirectories.contains(item.objectName()))
+                .toList();
+    }
+
+    public void reserveCopyStorage(Long userId, List<StorageItemDto> items) {
+        long size = 0;
+        long objectCount = 0;
+        for (StorageItemDto item : items) {
+            if (!item.isDirectory()) {
+                size += item.size();
+                objectCount++;
+            }
+        }
+        storageUsageService.reserveStorage(userId, size, objectCount);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+        itemExecutor.shutdownNow();
+        heartbeatExecutor.shutdownNow();
+    }
+
+    private Optional<Job> claimNextJob() {
+        return transactionTemplate.execute(status -> {
+            Instant now = Instant.now();
+            Optional<Job> job = jobRepository.findNextClaimable(now);
+            job.ifPresent(found -> {
+                found.setStatus(JobStatus.RUNNING);
+                found.setLeaseOwner(UUID.randomUUID().toString());
+                found.setLeaseExpiresAt(now.plus(jobProperties.getLeaseDuration()));
+                found.setUpdatedAt(now);
+                jobRepository.save(found);
+            });
+            return job;
+        });
+    }
+
+    private void runJob(Job job) {
+        JobLease lease = new JobLease(job.getId(), job.getLeaseOwner());
+        long heartbeatMillis = jobProperties.getHeartbeatInterval().toMillis();
+        ScheduledFuture<?> heartbeat = heartbeatExecutor.scheduleWithFixedDelay(
+                () -> sendHeartbeat(lease), heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+        try {
+            if (job.getTotalItems() == null) {
+                planJob(job);
+            }
+            processPendingItems(job, lease);
+            finishJob(job, lease);
+        } catch (LeaseLostException ex) {
+            log.warn("Job {} was claimed by another worker, stopping", job.getId());
+        } catch (StorageQuotaExceededException ex) {
+            failJob(job, ex.getMessage());
+        } catch (Exception ex) {
+            log.error("Job {} interrupted, it will be resumed after its lease expires", job.getId(), ex);
+        } finally {
+            heartbeat.cancel(false);
+        }
+    }
+
+    private void sendHeartbeat(JobLease lease) {
+        try {
+            if (!extendLease(lease)) {
+                lease.lost = true;
+            }
+        } catch (Exception ex) {
+            log.warn("Failed to extend the lease of job {}", lease.jobId, ex);
+        }
+    }
+
+    private boolean extendLease(JobLease lease) {
+        Instant now = Instant.now();
+        Integer updated = transactionTemplate.execute(status -> jobRepository.extendLease(
+                lease.jobId, lease.owner, now.plus(jobProperties.getLeaseDuration()), now));
+        return updated != null && updated > 0;
+    }
+
+    private void planJob(Job job) {
+        List<StorageItemDto> items = selectItems(storageService.getWholeDirectoryContentList(job.getSourcePath()));
+        List<Object[]> rows = new ArrayList<>();
+        items.forEach(item -> {
+            boolean directory = item.objectName().endsWith("/");
+            rows.add(new Object[]{job.getId(), item.objectName(), directory, directory ? 0 : item.size()});
+        });
+        rows.add(new Object[]{job.getId(), job.getSourcePath(), true, 0});
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (jobRepository.setTotalItems(job.getId(), job.getLeaseOwner(), rows.size(), Instant.now()) == 0) {
+                throw new LeaseLostException();
+            }
+            if (job.getType() == JobType.COPY) {
+                reserveCopyStorage(job.getUserId(), items);
+            }
+            jobItemRepository.deleteAllByJobId(job.getId());
+            jdbcTemplate.batchUpdate(INSERT_ITEM_SQL, rows);
+        });
+        job.setTotalItems(rows.size());
+    }
+
+    private void failJob(Job job, String errorMessage) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (jobRepository.fail(job.getId(), job.getLeaseOwner(), Instant.now()) == 0) {
+                log.warn("Job {} was claimed by another worker, not marking it as failed", job.getId());
+                return;
+            }
+            jobItemRepository.deleteAllByJobId(job.getId());
+            jdbcTemplate.update(INSERT_FAILED_ITEM_SQL, job.getId(), job.getSourcePath(), errorMessage);
+        });
+    }
+
+    private void processPendingItems(Job job, JobLease lease) {
+        for (boolean directory : new boolean[]{false, true}) {
+            List<JobItem> batch = findPendingItems(job, directory);
+            while (!batch.isEmpty()) {
+                lease.ensureHeld();
+                List<ItemResult> results = processBatch(job, batch);
+                saveProgress(job, results);
+                batch = findPendingItems(job, directory);
+            }
+        }
+    }
+
+    private List<JobItem> findPendingItems(Job job, boolean directory) {
+        return jobItemRepository.findPendingItems(job.getId(), directory, jobProperties.getBatchSize());
+    }
+
+    private List<ItemResult> processBatch(Job job, List<JobItem> batch) {
+        List<Future<ItemResult>> futures = batch.stream()
+                .map(item -> itemExecutor.submit(() -> processItemSafely(job, item)))
+                .toList();
+
+        List<ItemResult> results = new ArrayList<>();
+        for (Future<ItemResult> future : futures) {
+            results.add(getResult(future));
+        }
+        return results;
+    }
+
+    private ItemResult processItemSafely(Job job, JobItem item) {
+        try {
+            processItem(job.getType(), job.getSourcePath(), job.getTargetPath(),
+                    item.getObjectName(), item.isDirectory(), item.getSize());
+            return new ItemResult(item, null);
+        } catch (Exception ex) {
+            String message = ex.getMessage() == null ? ex.getClass().getSimpleName() : ex.getMessage();
+            return new ItemResult(item, truncate(message));
+        }
+    }
+
+    private ItemResult getResult(Future<ItemResult> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Job worker was interrupted", ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Job item processing failed", ex.getCause());
+        }
+    }
+
+    private void saveProgress(Job job, List<ItemResult> results) {
+        List<Object[]> rows = results.stream()
+                .map(result -> new Object[]{
+                        result.isFailed() ? JobItemStatus.FAILED.name() : JobItemStatus.DONE.name(),
+                        result.errorMessage(),
+                        result.item().getId()})
+                .toList();
+        int failed = (int) results.stream().filter(ItemResult::isFailed).count();
+        ResourceStatsDto usageChange = getUsageChange(job.getType(), results);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(UPDATE_ITEM_SQL, rows);
+            Instant now = Instant.now();
+            int updated = jobRepository.addProgress(job.getId(), job.getLeaseOwner(), results.size() - failed, failed,
+                    now.plus(jobProperties.getLeaseDuration()), now);
+            if (updated == 0) {
+                throw new LeaseLostException();
+            }
+            storageUsageService.recordUsage(job.getUserId(), usageChange.size(), usageChange.objectCount());
+        });
+    }
+
+    private ResourceStatsDto getUsageChange(JobType type, List<ItemResult> results) {
+        if (type == JobType.MOVE) {
+            return ResourceStatsDto.empty();
+        }
+
+        boolean countFailed = type == JobType.COPY;
+        long size = 0;
+        long objectCount = 0;
+        for (ItemResult result : results) {
+            if (!result.item().isDirectory() && result.isFailed() == countFailed) {
+                size -= result.item().getSize();
+                objectCount--;
+            }
+        }
+        return new ResourceStatsDto(size, objectCount);
+    }
+
+    private void finishJob(Job job, JobLease lease) {
+        boolean failed = jobRepository.findById(job.getId()).orElseThrow().getFailedItems() > 0;
+        if (!failed && job.getType() != JobType.COPY) {
+            if (!extendLease(lease)) {
+                throw new LeaseLostException();
+            }
+            ResourceStatsDto removedStats = storageService.deleteResource(job.getSourcePath());
+            storageUsageService.recordUsage(job.getUserId(), -removedStats.size(), -removedStats.objectCount());
+            directoryStatsService.removeResource(job.getSourcePath(), removedStats);
+        }
+
+        JobStatus status = failed ? JobStatus.FAILED : JobStatus.COMPLETED;
+        Integer updated = transactionTemplate.execute(transaction ->
+                jobRepository.finish(job.getId(), job.getLeaseOwner(), status.name(), Instant.now()));
+        if (updated == null || updated == 0) {
+            throw new LeaseLostException();
+        }
+    }
+
+    private void moveItem(String objectName, String targetPath, boolean directory, long size) {
+        if (directory) {
+            copyResource(objectName, targetPath, true);
+            storageService.removeObject(objectName);
+            return;
+        }
+
+        try {
+            storageService.moveResource(objectName, targetPath);
+        } catch (RuntimeException ex) {
+            if (!isAlreadyMoved(objectName, targetPath)) {
+                throw ex;
+            }
+            return;
+        }
+        directoryStatsService.moveFile(objectName, targetPath, size);
+    }
+
+    private void copyItem(String objectName, String targetPath, boolean directory, long size) {
+        copyResource(objectName, targetPath, directory);
+        if (!directory) {
+            directoryStatsService.addFile(targetPath, size);
+        }
+    }
+
+    private void deleteItem(String objectName, boolean directory, long size) {
+        storageService.removeObject(objectName);
+        if (!directory) {
+            directoryStatsService.removeFile(objectName, size);
+        }
+    }
+
+    private void copyResource(String objectName, String targetPath, boolean directory) {
+        if (!directory) {
+            storageService.copyObject(objectName, targetPath);
+            return;
+        }
+
+        if (!storageService.isResourceExisting(targetPath)) {
+            storageService.putEmptyDirectory(targetPath);
+        }
+    }
+
+    private boolean isAlreadyMoved(String objectName, String targetPath) {
+        return !storageService.isResourceExisting(objectName)
+                && storageService.isResourceExisting(targetPath);
+    }
+
+    private String getItemTargetPath(String sourcePath, String targetPath, String objectName) {
+        return targetPath + objectName.substring(sourcePath.length());
+    }
+
+    private String getParentPath(String objectName) {
+        String path = objectName.endsWith("/") ? objectName.substring(0, objectName.length() - 1) : objectName;
+        return path.substring(0, path.lastIndexOf("/") + 1);
+    }
+
+    private String truncate(String message) {
+        return message.length() > MAX_ERROR_MESSAGE_LENGTH ? message.substring(0, MAX_ERROR_MESSAGE_LENGTH) : message;
+    }
+
+    private record ItemResult(JobItem item, String errorMessage) {
+        private boolean isFailed() {
+            return errorMessage != null;
+        }
+    }
+
+    private static class JobLease {
+        private final Long jobId;
+        private final String owner;
+        private volatile boolean lost;
+
+        private JobLease(Long jobId, String owner) {
+            this.jobId = jobId;
+            this.owner = owner;
+        }
+
+        private void ensureHeld() {
+            if (lost) {
+                throw new LeaseLostException();
+            }
+        }
+    }
+
+    private static class LeaseLostException extends RuntimeException {
+    }
+}
@@ -0,0 +1,97 @@
+package com.cloud.cloudstorage.service.impl;
+
+import com.cloud.cloudstorage.config.security.TokenClaims;
+import com.cloud.cloudstorage.config.security.TokenProperties;
+import com.cloud.cloudstorage.config.security.UserPrincipal;
+import com.cloud.cloudstorage.dto.TokenResponseDto;
+import com.cloud.cloudstorage.exception.InvalidTokenException;
+import com.cloud.cloudstorage.service.TokenService;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+@Service
+@ConditionalOnProperty(prefix = "security.token", name = "enabled", havingValue = "true")
+@AllArgsConstructor
+public class JwtTokenServiceImpl implements TokenService {
+    private static final String TOKEN_TYPE = "Bearer";
+
+    private final JwtEncoder jwtEncoder;
+    private final JwtDecoder jwtDecoder;
+    private final MyUserDetailsService myUserDetailsService;
+    private final TokenProperties tokenProperties;
+
+    @Override
+    public TokenResponseDto issueTokens(UserPrincipal principal) {
+        Instant now = Instant.now();
+        Duration accessTokenTtl = tokenProperties.getAccessTokenTtl();
+        String accessToken = encode(principal, TokenClaims.ACCESS, now, accessTokenTtl);
+        String refreshToken = encode(principal, TokenClaims.REFRESH, now, tokenProperties.getRefreshTokenTtl());
+        return new TokenResponseDto(TOKEN_TYPE, accessToken, accessTokenTtl.toSeconds(), refreshToken);
+    }
+
+    @Override
+    public UserPrincipal verifyRefreshToken(String refreshToken) {
+        Jwt jwt = decodeRefreshToken(refreshToken);
+        UserPrincipal principal = loadPrincipal(jwt.getSubject());
+        if (!Objects.equals(principal.getId(), userIdOf(jwt))) {
+            throw new InvalidTokenException();
+        }
+        return principal;
+    }
+
+    private String encode(UserPrincipal principal, String tokenType, Instant issuedAt, Duration ttl) {
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .issuer(tokenProperties.getIssuer())
+                .subject(principal.getUsername())
+                .issuedAt(issuedAt)
+                .expiresAt(issuedAt.plus(ttl))
+                .claim(TokenClaims.USER_ID, principal.getId())
+                .claim(TokenClaims.ROLES, principal.getAuthorities().stream()
+                        .map(GrantedAuthority::getAuthority)
+                        .toList())
+                .claim(TokenClaims.TOKEN_TYPE, tokenType)
+                .build();
+        JwsHeader header = JwsHeader.with(MacAlgorithm.HS256).build();
+        return jwtEncoder.encode(JwtEncoderParameters.from(header, claims)).getTokenValue();
+    }
+
+    private Jwt decodeRefreshToken(String refreshToken) {
+        try {
+            Jwt jwt = jwtDecoder.decode(refreshToken);
+            if (!TokenClaims.REFRESH.equals(jwt.getClaimAsString(TokenClaims.TOKEN_TYPE))) {
+                throw new InvalidTokenException();
+            }
+            return jwt;
+        } catch (JwtException e) {
+            throw new InvalidTokenException();
+        }
+    }
+
+    private UserPrincipal loadPrincipal(String username) {
+        try {
+            return (UserPrincipal) myUserDetailsService.loadUserByUsername(username);
+        } catch (UsernameNotFoundException e) {
+            throw new InvalidTokenException();
+        }
+    }
+
+    private Long userIdOf(Jwt jwt) {
+        Number userId = jwt.getClaim(TokenClaims.USER_ID);
+        return userId == null ? null : userId.longValue();
+    }
+}
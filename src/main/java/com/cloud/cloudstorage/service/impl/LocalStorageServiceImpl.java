@@ -0,0 +1,375 @@
+package com.cloud.cloudstorage.service.impl;
+
+import com.cloud.cloudstorage.config.storage.LocalStorageProperties;
+import com.cloud.cloudstorage.dto.ObjectMetadataDto;
+import com.cloud.cloudstorage.dto.ObjectStreamDto;
+import com.cloud.cloudstorage.dto.ResourceStatsDto;
+import com.cloud.cloudstorage.dto.StorageItemDto;
+import com.cloud.cloudstorage.exception.*;
+import com.cloud.cloudstorage.service.StorageService;
+import jakarta.annotation.PostConstruct;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Service
+@ConditionalOnProperty(prefix = "storage", name = "backend", havingValue = "local")
+public class LocalStorageServiceImpl implements StorageService {
+    private static final String STAGING_DIRECTORY_NAME = ".staging";
+
+    private final PathAdapterServiceImpl pathAdapterService;
+    private final Path rootDirectory;
+    private final Path stagingDirectory;
+    private final long mapChunkSize;
+
+    public LocalStorageServiceImpl(PathAdapterServiceImpl pathAdapterService, LocalStorageProperties localStorageProperties) {
+        this.pathAdapterService = pathAdapterService;
+        this.rootDirectory = Path.of(localStorageProperties.getDirectory()).toAbsolutePath().normalize();
+        this.stagingDirectory = rootDirectory.resolve(STAGING_DIRECTORY_NAME);
+        this.mapChunkSize = Math.min(localStorageProperties.getMapChunkSize().toBytes(), Integer.MAX_VALUE);
+    }
+
+    @PostConstruct
+    public void createRootDirectoryIfNotExists() {
+        try {
+            Files.createDirectories(stagingDirectory);
+        } catch (IOException ex) {
+            throw new LocalStorageInitializationException();
+        }
+    }
+
+    @Override
+    public void putRootDirectory(String rootDirName) {
+        try {
+            Files.createDirectories(resolve(rootDirName));
+        } catch (IOException ex) {
+            throw new CreateRootMinioDirectoryException();
+        }
+    }
+
+    @Override
+    public void putEmptyDirectory(String fullPath) {
+        try {
+            Files.createDirectories(resolve(fullPath));
+        } catch (IOException ex) {
+            String pathForError = getPathForErrorMessage(fullPath);
+            throw new MinioCreatingDirectoryException(pathForError);
+        }
+    }
+
+    @Override
+    public void putIntermediateDirectories(String fullParentPath, String relativeFilePath) {
+        String relativeDirectoryPath = relativeFilePath.substring(0, relativeFilePath.lastIndexOf("/") + 1);
+        if (!relativeDirectoryPath.isEmpty()) {
+            putEmptyDirectory(fullParentPath + relativeDirectoryPath);
+        }
+    }
+
+    @Override
+    public void putFile(String fullFilePath, MultipartFile multipartFile) {
+        Path target = resolve(fullFilePath);
+        Path tempFile = null;
+        try {
+            tempFile = Files.createTempFile(stagingDirectory, "upload-", ".tmp");
+            multipartFile.transferTo(tempFile.toFile());
+            Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (Exception ex) {
+            deleteQuietly(tempFile);
+            throw new MinioUploadException();
+        }
+    }
+
+    @Override
+    public boolean isResourceExisting(String path) {
+        Path resolved = resolve(path);
+        return isDirectoryPath(path) ? Files.isDirectory(resolved) : Files.isRegularFile(resolved);
+    }
+
+    @Override
+    public boolean hasImplicitDirectories() {
+        return false;
+    }
+
+    @Override
+    public boolean supportsAtomicMoves() {
+        return true;
+    }
+
+    @Override
+    public List<StorageItemDto> getDirectoryObjectsList(String directoryPath) {
+        try (Stream<Path> children = Files.list(resolve(directoryPath))) {
+            return children.map(this::toItem)
+                    .sorted(Comparator.comparing(StorageItemDto::objectName))
+                    .toList();
+        } catch (IOException | UncheckedIOException ex) {
+            throw new MinioGettingDirectoryContentException();
+        }
+    }
+
+    @Override
+    public List<StorageItemDto> getWholeDirectoryContentList(String rootDir) {
+        return getWholeDirectoryContentList(rootDir, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<StorageItemDto> getWholeDirectoryContentList(String rootDir, int limit) {
+        Path directory = resolve(rootDir);
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+
+        try (Stream<Path> descendants = Files.walk(directory)) {
+            return descendants.filter(path -> !path.equals(directory))
+                    .limit(limit)
+                    .map(this::toItem)
+                    .sorted(Comparator.comparing(StorageItemDto::objectName))
+                    .toList();
+        } catch (IOException | UncheckedIOException ex) {
+            throw new MinioGettingDirectoryContentException();
+        }
+    }
+
+    @Override
+    public void moveResource(String fullPathFrom, String fullPathTo) {
+        try {
+            Files.move(resolve(fullPathFrom), resolve(fullPathTo), StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            throw new MinioMovingException();
+        }
+    }
+
+    @Override
+    public void copyObject(String fullPathFrom, String fullPathTo) {
+        if (isDirectoryPath(fullPathFrom)) {
+            putEmptyDirectory(fullPathTo);
+            return;
+        }
+
+        Path target = resolve(fullPathTo);
+        try {
+            Files.createDirectories(target.getParent());
+            transferFile(resolve(fullPathFrom), target);
+        } catch (IOException ex) {
+            throw new MinioMovingException();
+        }
+    }
+
+    @Override
+    public void removeObject(String fullPath) {
+        Path resolved = resolve(fullPath);
+        try {
+            if (isDirectoryPath(fullPath) && hasChildren(resolved)) {
+                return;
+            }
+            Files.deleteIfExists(resolved);
+        } catch (IOException ex) {
+            throw new MinioMovingException();
+        }
+    }
+
+    @Override
+    public long getObjectSize(String fullPath) {
+        return getObjectMetadata(fullPath).size();
+    }
+
+    @Override
+    public ObjectMetadataDto getObjectMetadata(String fullPath) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(resolve(fullPath), BasicFileAttributes.class);
+            String etag = attributes.lastModifiedTime().toMillis() + "-" + attributes.size();
+            return new ObjectMetadataDto(fullPath, etag, attributes.size());
+        } catch (IOException ex) {
+            throw new MinioGetObjectSizeException();
+        }
+    }
+
+    @Override
+    public InputStream downloadResource(String fullPath) {
+        if (isDirectoryPath(fullPath)) {
+            return new ByteArrayInputStream(new byte[0]);
+        }
+
+        try {
+            FileChannel channel = FileChannel.open(resolve(fullPath), StandardOpenOption.READ);
+            return new MappedFileInputStream(channel, mapChunkSize);
+        } catch (IOException ex) {
+            throw new MinioDownloadResourceException();
+        }
+    }
+
+    @Override
+    public Optional<ObjectStreamDto> downloadResourceIfChanged(String fullPath, String etag) {
+        ObjectMetadataDto metadata = getObjectMetadata(fullPath);
+        if (metadata.etag().equals(etag)) {
+            return Optional.empty();
+        }
+        return Optional.of(new ObjectStreamDto(metadata, downloadResource(fullPath)));
+    }
+
+    @Override
+    public ResourceStatsDto deleteResource(String fullPath) {
+        Path resolved = resolve(fullPath);
+        long size = 0;
+        long objectCount = 0;
+        try (Stream<Path> descendants = Files.walk(resolved)) {
+            List<Path> paths = descendants.sorted(Comparator.reverseOrder()).toList();
+            for (Path path : paths) {
+                if (Files.isRegularFile(path)) {
+                    size += Files.size(path);
+                    objectCount++;
+                }
+                Files.delete(path);
+            }
+        } catch (IOException ex) {
+            throw new MinioMovingException();
+        }
+        return new ResourceStatsDto(size, objectCount);
+    }
+
+    private Path resolve(String path) {
+        Path userRootDirectory = resolveUserRootDirectory(path);
+        Path resolved = rootDirectory.resolve(path).normalize();
+        if (!resolved.startsWith(userRootDirectory) || resolved.startsWith(stagingDirectory)) {
+            throw new MinioResourceNotExistsException(getPathForErrorMessage(path));
+        }
+        return resolved;
+    }
+
+    private Path resolveUserRootDirectory(String path) {
+        int separatorIndex = path.indexOf("/");
+        String userRootDirName = separatorIndex < 0 ? path : path.substring(0, separatorIndex);
+        Path userRootDirectory = rootDirectory.resolve(userRootDirName).normalize();
+        if (userRootDirName.isEmpty() || !rootDirectory.equals(userRootDirectory.getParent())) {
+            throw new MinioResourceNotExistsException(getPathForErrorMessage(path));
+        }
+        return userRootDirectory;
+    }
+
+    private StorageItemDto toItem(Path path) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            String objectName = rootDirectory.relativize(path).toString().replace(File.separatorChar, '/');
+            if (attributes.isDirectory()) {
+                return new StorageItemDto(objectName + "/", 0);
+            }
+            return new StorageItemDto(objectName, attributes.size());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void transferFile(Path source, Path target) throws IOException {
+        try (FileChannel sourceChannel = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel targetChannel = FileChannel.open(target,
+                     StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long size = sourceChannel.size();
+            long position = 0;
+            while (position < size) {
+                position += sourceChannel.transferTo(position, size - position, targetChannel);
+            }
+        }
+    }
+
+    private boolean hasChildren(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return false;
+        }
+        try (Stream<Path> children = Files.list(directory)) {
+            return children.findAny().isPresent();
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+        }
+    }
+
+    private boolean isDirectoryPath(String path) {
+        return path.endsWith("/");
+    }
+
+    private String getPathForErrorMessage(String path) {
+        return pathAdapterService.formatPathForErrorMessage(path);
+    }
+
+    private static class MappedFileInputStream extends InputStream {
+        private final FileChannel channel;
+        private final long size;
+        private final long chunkSize;
+        private long position;
+        private MappedByteBuffer buffer;
+
+        private MappedFileInputStream(FileChannel channel, long chunkSize) throws IOException {
+            this.channel = channel;
+            this.size = channel.size();
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!hasRemaining()) {
+                return -1;
+            }
+            return buffer.get() & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            if (!hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer == null ? 0 : buffer.remaining();
+        }
+
+        @Override
+        public void close() throws IOException {
+            buffer = null;
+            channel.close();
+        }
+
+        private boolean hasRemaining() throws IOException {
+            if (buffer != null && buffer.hasRemaining()) {
+                return true;
+            }
+            if (position >= size) {
+                return false;
+            }
+            long length = Math.min(chunkSize, size - position);
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            position += length;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,343 @@
+package com.cloud.cloudstorage.service.impl;
+
+import com.cloud.cloudstorage.config.minio.MinioShard;
+import com.cloud.cloudstorage.config.minio.MinioShardRouter;
+import com.cloud.cloudstorage.dto.ObjectMetadataDto;
+import com.cloud.cloudstorage.dto.ObjectStreamDto;
+import com.cloud.cloudstorage.dto.ResourceStatsDto;
+import com.cloud.cloudstorage.dto.StorageItemDto;
+import com.cloud.cloudstorage.exception.*;
+import com.cloud.cloudstorage.model.ResourceEntry;
+import com.cloud.cloudstorage.repository.ResourceEntryRepository;
+import com.cloud.cloudstorage.service.ShardService;
+import com.cloud.cloudstorage.service.StorageService;
+import io.minio.*;
+import io.minio.messages.DeleteError;
+import io.minio.messages.DeleteObject;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+@ConditionalOnProperty(prefix = "minio", name = "key-mode", havingValue = "mapped")
+@ConditionalOnProperty(prefix = "storage", name = "backend", havingValue = "minio", matchIfMissing = true)
+public class MappedMinioStorageServiceImpl implements StorageService {
+    private final PathAdapterServiceImpl pathAdapterService;
+    private final MinioShardRouter shardRouter;
+    private final ShardService shardService;
+    private final ResourceEntryRepository resourceEntryRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public MappedMinioStorageServiceImpl(
+            PathAdapterServiceImpl pathAdapterService,
+            MinioShardRouter shardRouter,
+            ShardService shardService,
+            ResourceEntryRepository resourceEntryRepository,
+            TransactionTemplate transactionTemplate
+    ) {
+        this.pathAdapterService = pathAdapterService;
+        this.shardRouter = shardRouter;
+        this.shardService = shardService;
+        this.resourceEntryRepository = resourceEntryRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public void putRootDirectory(String rootDirName) {
+        shardService.assignShard(rootDirName);
+        try {
+            saveDirectoryEntry(rootDirName);
+        } catch (Exception ex) {
+            throw new CreateRootMinioDirectoryException();
+        }
+    }
+
+    @Override
+    public void putEmptyDirectory(String fullPath) {
+        checkWritable(fullPath);
+        try {
+            saveDirectoryEntry(fullPath);
+        } catch (Exception ex) {
+            String pathForError = getPathForErrorMessage(fullPath);
+            throw new MinioCreatingDirectoryException(pathForError);
+        }
+    }
+
+    @Override
+    public void putIntermediateDirectories(String fullParentPath, String relativeFilePath) {
+        String[] directoryNames = relativeFilePath.split("/");
+        StringBuilder directoryPath = new StringBuilder(fullParentPath);
+        for (int i = 0; i < directoryNames.length - 1; i++) {
+            directoryPath.append(directoryNames[i]).append("/");
+            putEmptyDirectory(directoryPath.toString());
+        }
+    }
+
+    @Override
+    public void putFile(String fullFilePath, MultipartFile multipartFile) {
+        checkWritable(fullFilePath);
+        String objectKey = createObjectKey(fullFilePath);
+        MinioShard shard = shardRouter.route(objectKey);
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            shard.client().putObject(PutObjectArgs.builder()
+                    .bucket(shard.bucket())
+                    .object(objectKey)
+                    .stream(inputStream, multipartFile.getSize(), -1)
+                    .build());
+        } catch (Exception ex) {
+            throw new MinioUploadException();
+        }
+
+        try {
+            saveFileEntry(fullFilePath, objectKey, multipartFile.getSize());
+        } catch (Exception ex) {
+            removeObjects(List.of(objectKey));
+            throw new MinioUploadException();
+        }
+    }
+
+    @Override
+    public boolean isResourceExisting(String path) {
+        return resourceEntryRepository.existsByPath(path);
+    }
+
+    @Override
+    public boolean hasImplicitDirectories() {
+        return false;
+    }
+
+    @Override
+    public boolean supportsAtomicMoves() {
+        return true;
+    }
+
+    @Override
+    public List<StorageItemDto> getDirectoryObjectsList(String directoryPath) {
+        return resourceEntryRepository.findChildren(directoryPath, createPrefixPattern(directoryPath))
+                .stream()
+                .map(this::toItem)
+                .toList();
+    }
+
+    @Override
+    public List<StorageItemDto> getWholeDirectoryContentList(String rootDir) {
+        return resourceEntryRepository.findDescendants(rootDir, createPrefixPattern(rootDir))
+                .stream()
+                .map(this::toItem)
+                .toList();
+    }
+
+    @Override
+    public List<StorageItemDto> getWholeDirectoryContentList(String rootDir, int limit) {
+        return resourceEntryRepository.findDescendants(rootDir, createPrefixPattern(rootDir), limit)
+                .stream()
+                .map(this::toItem)
+                .toList();
+    }
+
+    @Override
+    public void moveResource(String fullPathFrom, String fullPathTo) {
+        checkWritable(fullPathFrom);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (fullPathFrom.endsWith("/")) {
+                    resourceEntryRepository.movePrefix(fullPathFrom, fullPathTo, createPrefixPattern(fullPathFrom));
+                } else {
+                    resourceEntryRepository.movePath(fullPathFrom, fullPathTo);
+                }
+            });
+        } catch (Exception ex) {
+            throw new MinioMovingException();
+        }
+    }
+
+    @Override
+    public void copyObject(String fullPathFrom, String fullPathTo) {
+        checkWritable(fullPathTo);
+        ResourceEntry entry = resourceEntryRepository.findByPath(fullPathFrom)
+                .orElseThrow(MinioMovingException::new);
+        if (entry.getObjectKey() == null) {
+            putEmptyDirectory(fullPathTo);
+            return;
+        }
+
+        String objectKey = createObjectKey(fullPathTo);
+        MinioShard shard = shardRouter.route(objectKey);
+        try {
+            shard.client().copyObject(
+                    CopyObjectArgs.builder()
+                            .bucket(shard.bucket())
+                            .object(objectKey)
+                            .source(CopySource.builder()
+                                    .bucket(shard.bucket())
+                                    .object(entry.getObjectKey())
+                                    .build())
+                            .build()
+            );
+            saveFileEntry(fullPathTo, objectKey, entry.getSize());
+        } catch (Exception ex) {
+            removeObjects(List.of(objectKey));
+            throw new MinioMovingException();
+        }
+    }
+
+    @Override
+    public void removeObject(String fullPath) {
+        checkWritable(fullPath);
+        List<String> objectKeys = transactionTemplate.execute(status -> {
+            String pattern = escapeLikePattern(fullPath);
+            List<String> keys = resourceEntryRepository.findObjectKeys(pattern);
+            resourceEntryRepository.deleteByPath(fullPath);
+            return keys;
+        });
+        removeObjects(objectKeys);
+    }
+
+    @Override
+    public long getObjectSize(String fullPath) {
+        return resourceEntryRepository.findByPath(fullPath)
+                .map(ResourceEntry::getSize)
+                .orElseThrow(MinioGetObjectSizeException::new);
+    }
+
+    @Override
+    public ObjectMetadataDto getObjectMetadata(String fullPath) {
+        ResourceEntry entry = resourceEntryRepository.findByPath(fullPath)
+                .orElseThrow(MinioGetObjectSizeException::new);
+        return new ObjectMetadataDto(entry.getObjectKey(), entry.getObjectKey(), entry.getSize());
+    }
+
+    @Override
+    public InputStream downloadResource(String fullPath) {
+        ResourceEntry entry = resourceEntryRepository.findByPath(fullPath)
+                .orElseThrow(MinioDownloadResourceException::new);
+        if (entry.getObjectKey() == null) {
+            return getInputStream();
+        }
+
+        MinioShard shard = shardRouter.route(entry.getObjectKey());
+        try {
+            return shard.client().getObject(
+                    GetObjectArgs.builder()
+                            .bucket(shard.bucket())
+                            .object(entry.getObjectKey())
+                            .build()
+            );
+        } catch (Exception ex) {
+            throw new MinioDownloadResourceException();
+        }
+    }
+
+    @Override
+    public Optional<ObjectStreamDto> downloadResourceIfChanged(String fullPath, String etag) {
+        ObjectMetadataDto metadata = getObjectMetadata(fullPath);
+        if (metadata.etag() != null && metadata.etag().equals(etag)) {
+            return Optional.empty();
+        }
+        return Optional.of(new ObjectStreamDto(metadata, downloadResource(fullPath)));
+    }
+
+    @Override
+    public ResourceStatsDto deleteResource(String fullPath) {
+        checkWritable(fullPath);
+        List<ResourceEntry> entries = transactionTemplate.execute(status -> {
+            String pattern = fullPath.endsWith("/") ? createPrefixPattern(fullPath) : escapeLikePattern(fullPath);
+            List<ResourceEntry> found = resourceEntryRepository.findAllByPattern(pattern);
+            resourceEntryRepository.deleteAllByPattern(pattern);
+            return found;
+        });
+
+        List<String> objectKeys = new ArrayList<>();
+        long size = 0;
+        for (ResourceEntry entry : entries) {
+            if (entry.getObjectKey() != null) {
+                objectKeys.add(entry.getObjectKey());
+                size += entry.getSize();
+            }
+        }
+        removeObjects(objectKeys);
+        return new ResourceStatsDto(size, objectKeys.size());
+    }
+
+    private void saveDirectoryEntry(String fullPath) {
+        if (resourceEntryRepository.existsByPath(fullPath)) {
+            return;
+        }
+        ResourceEntry entry = new ResourceEntry();
+        entry.setPath(fullPath);
+        resourceEntryRepository.save(entry);
+    }
+
+    private void saveFileEntry(String fullFilePath, String objectKey, long size) {
+        ResourceEntry entry = new ResourceEntry();
+        entry.setPath(fullFilePath);
+        entry.setObjectKey(objectKey);
+        entry.setSize(size);
+        resourceEntryRepository.save(entry);
+    }
+
+    private void removeObjects(List<String> objectKeys) {
+        if (objectKeys == null || objectKeys.isEmpty()) {
+            return;
+        }
+
+        MinioShard shard = shardRouter.route(objectKeys.getFirst());
+        List<DeleteObject> deleteObjects = objectKeys.stream()
+                .map(DeleteObject::new)
+                .toList();
+        Iterable<Result<DeleteError>> results = shard.client().removeObjects(
+                RemoveObjectsArgs.builder()
+                        .bucket(shard.bucket())
+                        .objects(deleteObjects)
+                        .build()
+        );
+        for (Result<DeleteError> result : results) {
+            try {
+                result.get();
+            } catch (Exception ex) {
+                throw new MinioMovingException();
+            }
+        }
+    }
+
+    private String createObjectKey(String fullFilePath) {
+        String rootDirName = fullFilePath.substring(0, fullFilePath.indexOf("/") + 1);
+        return rootDirName + UUID.randomUUID();
+    }
+
+    private String createPrefixPattern(String prefix) {
+        return escapeLikePattern(prefix) + "%";
+    }
+
+    private String escapeLikePattern(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
+    private StorageItemDto toItem(ResourceEntry entry) {
+        return new StorageItemDto(entry.getPath(), entry.getSize());
+    }
+
+    private InputStream getInputStream() {
+        return new ByteArrayInputStream(new byte[0]);
+    }
+
+    private void checkWritable(String path) {
+        if (shardRouter.isWriteBlocked(path)) {
+            throw new ShardMigrationWriteBlockedException();
+        }
+    }
+
+    private String getPathForErrorMessage(String path) {
+        return pathAdapterService.formatPathForErrorMessage(path);
+    }
+}
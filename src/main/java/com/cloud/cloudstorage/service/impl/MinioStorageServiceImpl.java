@@ -1,35 +1,60 @@
 package com.cloud.cloudstorage.service.impl;
 
 import com.cloud.cloudstorage.config.minio.MinioProperties;
+import com.cloud.cloudstorage.config.minio.MinioShard;
+import com.cloud.cloudstorage.config.minio.MinioShardRouter;
+import com.cloud.cloudstorage.dto.ObjectMetadataDto;
+import com.cloud.cloudstorage.dto.ObjectStreamDto;
+import com.cloud.cloudstorage.dto.ResourceStatsDto;
+import com.cloud.cloudstorage.dto.StorageItemDto;
 import com.cloud.cloudstorage.exception.*;
-import com.cloud.cloudstorage.service.MinioStorageService;
+import com.cloud.cloudstorage.service.ShardService;
+import com.cloud.cloudstorage.service.StorageService;
 import io.minio.*;
+import io.minio.errors.ErrorResponseException;
 import io.minio.messages.Item;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.net.HttpURLConnection;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 @Service
-public class MinioStorageServiceImpl implements MinioStorageService {
+@ConditionalOnProperty(prefix = "minio", name = "key-mode", havingValue = "path", matchIfMissing = true)
+@ConditionalOnProperty(prefix = "storage", name = "backend", havingValue = "minio", matchIfMissing = true)
+public class MinioStorageServiceImpl implements StorageService {
     private final PathAdapterServiceImpl pathAdapterService;
-    private final MinioClient minioClient;
-    private final String bucketName;
-
-    public MinioStorageServiceImpl(PathAdapterServiceImpl pathAdapterService, MinioClient minioClient, MinioProperties minioProperties) {
+    private final MinioShardRouter shardRouter;
+    private final ShardService shardService;
+    private final boolean implicitDirectories;
+
+    public MinioStorageServiceImpl(
+            PathAdapterServiceImpl pathAdapterService,
+            MinioShardRouter shardRouter,
+            ShardService shardService,
+            MinioProperties minioProperties
+    ) {
         this.pathAdapterService = pathAdapterService;
-        this.minioClient = minioClient;
-        this.bucketName = minioProperties.getBucket();
+        this.shardRouter = shardRouter;
+        this.shardService = shardService;
+        this.implicitDirectories = minioProperties.isImplicitDirectories();
     }
 
     @Override
     public void putRootDirectory(String rootDirName) {
+        shardService.assignShard(rootDirName);
+        MinioShard shard = shardRouter.route(rootDirName);
         try (InputStream inputStream = getInputStream()) {
-            minioClient.putObject(PutObjectArgs.builder()
-                    .bucket(bucketName)
+            shard.client().putObject(PutObjectArgs.builder()
+                    .bucket(shard.bucket())
                     .object(rootDirName)
                     .stream(inputStream, 0, -1)
                     .contentType("application/x-directory")
@@ -41,10 +66,12 @@ public class MinioStorageServiceImpl implements MinioStorageService {
 
     @Override
     public void putEmptyDirectory(String fullPath) {
+        checkWritable(fullPath);
+        MinioShard shard = shardRouter.route(fullPath);
         try (InputStream inputStream = getInputStream()) {
-            minioClient.putObject(
+            shard.client().putObject(
                     PutObjectArgs.builder()
-                            .bucket(bucketName)
+                            .bucket(shard.bucket())
                             .object(fullPath)
                             .stream(inputStream, 0, -1)
                             .contentType("application/x-directory")
@@ -56,11 +83,21 @@ public class MinioStorageServiceImpl implements MinioStorageService {
         }
     }
 
+    @Override
+    public void putIntermediateDirectories(String fullParentPath, String relativeFilePath) {
+        if (implicitDirectories) {
+            return;
+        }
+        createDirectories(fullParentPath, relativeFilePath);
+    }
+
     @Override
     public void putFile(String fullFilePath, MultipartFile multipartFile) {
+        checkWritable(fullFilePath);
+        MinioShard shard = shardRouter.route(fullFilePath);
         try (InputStream inputStream = multipartFile.getInputStream()) {
-            minioClient.putObject(PutObjectArgs.builder()
-                    .bucket(bucketName)
+            shard.client().putObject(PutObjectArgs.builder()
+                    .bucket(shard.bucket())
                     .object(fullFilePath)
                     .stream(inputStream, multipartFile.getSize(), -1)
                     .build());
@@ -71,10 +108,15 @@ public class MinioStorageServiceImpl implements MinioStorageService {
 
     @Override
     public boolean isResourceExisting(String path) {
+        if (implicitDirectories && path.endsWith("/")) {
+            return hasAnyObject(path);
+        }
+
+        MinioShard shard = shardRouter.route(path);
         try {
-            minioClient.statObject(
+            shard.client().statObject(
                     StatObjectArgs.builder()
-                            .bucket(bucketName)
+                            .bucket(shard.bucket())
                             .object(path)
                             .build()
             );
@@ -85,48 +127,80 @@ public class MinioStorageServiceImpl implements MinioStorageService {
     }
 
     @Override
-    public List<Item> getDirectoryObjectsList(String directoryPath) {
+    public boolean hasImplicitDirectories() {
+        return implicitDirectories;
+    }
+
+    @Override
+    public boolean supportsAtomicMoves() {
+        return false;
+    }
+
+    @Override
+    public List<StorageItemDto> getDirectoryObjectsList(String directoryPath) {
         Iterable<Result<Item>> directoryObjects = getDirectoryObjects(directoryPath);
         return convertMinioObjectsToList(directoryObjects, directoryPath);
     }
 
     @Override
-    public List<Item> getWholeDirectoryContentList(String rootDir) {
+    public List<StorageItemDto> getWholeDirectoryContentList(String rootDir) {
+        Iterable<Result<Item>> wholeContent = getWholeContent(rootDir);
+        List<StorageItemDto> itemList = convertMinioObjectsToList(wholeContent, rootDir);
+        if (implicitDirectories) {
+            return addImplicitDirectories(itemList, rootDir);
+        }
+        return itemList;
+    }
+
+    @Override
+    public List<StorageItemDto> getWholeDirectoryContentList(String rootDir, int limit) {
         Iterable<Result<Item>> wholeContent = getWholeContent(rootDir);
-        return convertMinioObjectsToList(wholeContent, rootDir);
+        List<StorageItemDto> itemList = convertMinioObjectsToList(wholeContent, rootDir, limit);
+        if (implicitDirectories) {
+            return addImplicitDirectories(itemList, rootDir);
+        }
+        return itemList;
     }
 
     @Override
     public void moveResource(String fullPathFrom, String fullPathTo) {
+        checkWritable(fullPathFrom);
         if (fullPathFrom.endsWith("/")) {
             copyDirectory(fullPathFrom, fullPathTo);
             return;
         }
-        copyFile(fullPathFrom, fullPathTo);
+        moveFile(fullPathFrom, fullPathTo);
     }
 
     @Override
     public long getObjectSize(String fullPath) {
+        return getObjectMetadata(fullPath).size();
+    }
+
+    @Override
+    public ObjectMetadataDto getObjectMetadata(String fullPath) {
+        MinioShard shard = shardRouter.route(fullPath);
         StatObjectResponse statObjectResponse;
         try {
-            statObjectResponse = minioClient.statObject(
+            statObjectResponse = shard.client().statObject(
                     StatObjectArgs.builder()
-                            .bucket(bucketName)
+                            .bucket(shard.bucket())
                             .object(fullPath)
                             .build()
             );
         } catch (Exception ex) {
             throw new MinioGetObjectSizeException();
         }
-        return statObjectResponse.size();
+        return new ObjectMetadataDto(fullPath, statObjectResponse.etag(), statObjectResponse.size());
     }
 
     @Override
     public InputStream downloadResource(String fullPath) {
+        MinioShard shard = shardRouter.route(fullPath);
         try {
-            return minioClient.getObject(
+            return shard.client().getObject(
                     GetObjectArgs.builder()
-                            .bucket(bucketName)
+                            .bucket(shard.bucket())
                             .object(fullPath)
                             .build()
             );
@@ -136,19 +210,65 @@ public class MinioStorageServiceImpl implements MinioStorageService {
     }
 
     @Override
-    public void deleteResource(String fullPath) {
+    public Optional<ObjectStreamDto> downloadResourceIfChanged(String fullPath, String etag) {
+        MinioShard shard = shardRouter.route(fullPath);
+        GetObjectArgs.Builder args = GetObjectArgs.builder()
+                .bucket(shard.bucket())
+                .object(fullPath);
+        if (etag != null) {
+            args.notMatchETag(etag);
+        }
+
+        GetObjectResponse response;
+        try {
+            response = shard.client().getObject(args.build());
+        } catch (ErrorResponseException ex) {
+            if (ex.response() != null && ex.response().code() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+                return Optional.empty();
+            }
+            throw new MinioDownloadResourceException();
+        } catch (Exception ex) {
+            throw new MinioDownloadResourceException();
+        }
+
+        String currentEtag = response.headers().get("ETag").replace("\"", "");
+        long size = Long.parseLong(response.headers().get("Content-Length"));
+        return Optional.of(new ObjectStreamDto(new ObjectMetadataDto(fullPath, currentEtag, size), response));
+    }
+
+    @Override
+    public ResourceStatsDto deleteResource(String fullPath) {
+        checkWritable(fullPath);
         if(fullPath.endsWith("/")) {
-            deleteDirectory(fullPath);
-            return;
+            return deleteDirectory(fullPath);
         }
 
+        long size = getObjectSize(fullPath);
         removeObject(fullPath);
+        keepParentDirectory(fullPath);
+        return new ResourceStatsDto(size, 1);
     }
 
-    private void deleteDirectory(String fullPath) {
-        List<Item> contentList = getWholeDirectoryContentList(fullPath);
-        contentList.forEach(item -> removeObject(item.objectName()));
+    private ResourceStatsDto deleteDirectory(String fullPath) {
+        Iterable<Result<Item>> results = getWholeContent(fullPath);
+        List<StorageItemDto> contentList = convertMinioObjectsToList(results, fullPath);
+        long size = 0;
+        long objectCount = 0;
+        for (StorageItemDto item : contentList) {
+            removeObject(item.objectName());
+            if (!item.objectName().endsWith("/")) {
+                size += item.size();
+                objectCount++;
+            }
+        }
         removeObject(fullPath);
+        keepParentDirectory(fullPath);
+        return new ResourceStatsDto(size, objectCount);
+    }
+
+    private void moveFile(String fullPathFrom, String fullPathTo) {
+        copyFile(fullPathFrom, fullPathTo);
+        keepParentDirectory(fullPathFrom);
     }
 
     private void copyFile(String fullPathFrom, String fullPathTo) {
@@ -157,13 +277,20 @@ public class MinioStorageServiceImpl implements MinioStorageService {
     }
 
     private void copyDirectory(String fullPathFrom, String fullPathTo) {
-        putEmptyDirectory(fullPathTo);
+        if (!implicitDirectories) {
+            putEmptyDirectory(fullPathTo);
+        }
         Iterable<Result<Item>> results = getWholeContent(fullPathFrom);
-        copyDirectoryContent(results, fullPathFrom, fullPathTo);
+        boolean hasContent = copyDirectoryContent(results, fullPathFrom, fullPathTo);
+        if (implicitDirectories && !hasContent) {
+            putEmptyDirectory(fullPathTo);
+        }
         removeObject(fullPathFrom);
+        keepParentDirectory(fullPathFrom);
     }
 
-    private void copyDirectoryContent(Iterable<Result<Item>> results, String fullPathFrom, String fullPathTo) {
+    private boolean copyDirectoryContent(Iterable<Result<Item>> results, String fullPathFrom, String fullPathTo) {
+        boolean hasContent = false;
         for (Result<Item> itemResult : results) {
             try {
                 String objectName = itemResult.get().objectName();
@@ -173,19 +300,74 @@ public class MinioStorageServiceImpl implements MinioStorageService {
                     continue;
                 }
 
-                if (relativePath.contains("/")) {
+                hasContent = true;
+                String targetObjectName = fullPathTo + relativePath;
+                if (relativePath.contains("/") && !implicitDirectories) {
                     createDirectories(fullPathTo, relativePath);
                 }
 
                 if (!relativePath.endsWith("/")) {
-                    String targetObjectName = fullPathTo + relativePath;
                     copyFile(objectName, targetObjectName);
+                } else if (implicitDirectories) {
+                    putEmptyDirectory(targetObjectName);
                 }
                 removeObject(objectName);
             } catch (Exception ex) {
                 throw new MinioMovingException();
             }
         }
+        return hasContent;
+    }
+
+    private void keepParentDirectory(String fullPath) {
+        if (!implicitDirectories) {
+            return;
+        }
+
+        String parentPath = pathAdapterService.extractParentPath(fullPath);
+        if (!hasAnyObject(parentPath)) {
+            putEmptyDirectory(parentPath);
+        }
+    }
+
+    private boolean hasAnyObject(String prefix) {
+        MinioShard shard = shardRouter.route(prefix);
+        Iterator<Result<Item>> iterator = shard.client().listObjects(
+                ListObjectsArgs.builder()
+                        .bucket(shard.bucket())
+                        .prefix(prefix)
+                        .recursive(true)
+                        .maxKeys(1)
+                        .build()
+        ).iterator();
+
+        try {
+            return iterator.hasNext() && iterator.next().get() != null;
+        } catch (Exception ex) {
+            throw new MinioGettingDirectoryContentException();
+        }
+    }
+
+    private List<StorageItemDto> addImplicitDirectories(List<StorageItemDto> itemList, String rootDir) {
+        List<StorageItemDto> result = new ArrayList<>();
+        Set<String> directories = new HashSet<>();
+
+        for (StorageItemDto item : itemList) {
+            String objectName = item.objectName();
+            int slashIndex = objectName.indexOf("/", rootDir.length());
+            while (slashIndex != -1 && slashIndex < objectName.length() - 1) {
+                String directoryPath = objectName.substring(0, slashIndex + 1);
+                if (directories.add(directoryPath)) {
+                    result.add(new StorageItemDto(directoryPath, 0));
+                }
+                slashIndex = objectName.indexOf("/", slashIndex + 1);
+            }
+
+            if (!objectName.endsWith("/") || directories.add(objectName)) {
+                result.add(item);
+            }
+        }
+        return result;
     }
 
 
@@ -203,14 +385,17 @@ public class MinioStorageServiceImpl implements MinioStorageService {
         }
     }
 
-    private void copyObject(String fullPathFrom, String fullPathTo) {
+    @Override
+    public void copyObject(String fullPathFrom, String fullPathTo) {
+        checkWritable(fullPathTo);
+        MinioShard shard = shardRouter.route(fullPathFrom);
         try {
-            minioClient.copyObject(
+            shard.client().copyObject(
                     CopyObjectArgs.builder()
-                            .bucket(bucketName)
+                            .bucket(shard.bucket())
                             .object(fullPathTo)
                             .source(CopySource.builder()
-                                    .bucket(bucketName)
+                                    .bucket(shard.bucket())
                                     .object(fullPathFrom)
                                     .build())
                             .build()
@@ -220,11 +405,14 @@ public class MinioStorageServiceImpl implements MinioStorageService {
         }
     }
 
-    private void removeObject(String fullPathFrom) {
+    @Override
+    public void removeObject(String fullPathFrom) {
+        checkWritable(fullPathFrom);
+        MinioShard shard = shardRouter.route(fullPathFrom);
         try {
-            minioClient.removeObject(
+            shard.client().removeObject(
                     RemoveObjectArgs.builder()
-                            .bucket(bucketName)
+                            .bucket(shard.bucket())
                             .object(fullPathFrom)
                             .build()
             );
@@ -234,9 +422,10 @@ public class MinioStorageServiceImpl implements MinioStorageService {
     }
 
     private Iterable<Result<Item>> getWholeContent(String path) {
-        return minioClient.listObjects(
+        MinioShard shard = shardRouter.route(path);
+        return shard.client().listObjects(
                 ListObjectsArgs.builder()
-                        .bucket(bucketName)
+                        .bucket(shard.bucket())
                         .prefix(path)
                         .recursive(true)
                         .build()
@@ -244,30 +433,37 @@ public class MinioStorageServiceImpl implements MinioStorageService {
     }
 
     private Iterable<Result<Item>> getDirectoryObjects(String directoryPath) {
-        return minioClient.listObjects(
+        MinioShard shard = shardRouter.route(directoryPath);
+        return shard.client().listObjects(
                 ListObjectsArgs.builder()
-                        .bucket(bucketName)
+                        .bucket(shard.bucket())
                         .prefix(directoryPath)
                         .delimiter("/")
                         .build()
         );
     }
 
-    private List<Item> convertMinioObjectsToList(Iterable<Result<Item>> objects, String directoryPath) {
-        List<Item> itemList = new ArrayList<>();
+    private List<StorageItemDto> convertMinioObjectsToList(Iterable<Result<Item>> objects, String directoryPath) {
+        return convertMinioObjectsToList(objects, directoryPath, Integer.MAX_VALUE);
+    }
 
-        objects.forEach(itemResult -> {
-                    Item item;
-                    try {
-                        item = itemResult.get();
-                    } catch (Exception ex) {
-                        throw new MinioGettingDirectoryContentException();
-                    }
-                    if (!item.objectName().equals(directoryPath)) {
-                        itemList.add(item);
-                    }
-                }
-        );
+    private List<StorageItemDto> convertMinioObjectsToList(Iterable<Result<Item>> objects, String directoryPath, int limit) {
+        List<StorageItemDto> itemList = new ArrayList<>();
+
+        for (Result<Item> itemResult : objects) {
+            if (itemList.size() >= limit) {
+                break;
+            }
+            Item item;
+            try {
+                item = itemResult.get();
+            } catch (Exception ex) {
+                throw new MinioGettingDirectoryContentException();
+            }
+            if (!item.objectName().equals(directoryPath)) {
+                itemList.add(new StorageItemDto(item.objectName(), item.size()));
+            }
+        }
         return itemList;
     }
 
@@ -275,6 +471,12 @@ public class MinioStorageServiceImpl implements MinioStorageService {
         return new ByteArrayInputStream(new byte[0]);
     }
 
+    private void checkWritable(String path) {
+        if (shardRouter.isWriteBlocked(path)) {
+            throw new ShardMigrationWriteBlockedException();
+        }
+    }
+
     private String getPathForErrorMessage(String path) {
         return pathAdapterService.formatPathForErrorMessage(path);
     }
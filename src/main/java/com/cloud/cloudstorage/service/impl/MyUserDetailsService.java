@@ -1,13 +1,20 @@
 package com.cloud.cloudstorage.service.impl;
 
+import com.cloud.cloudstorage.config.cache.UserCacheProperties;
+import com.cloud.cloudstorage.config.security.UserPrincipal;
 import com.cloud.cloudstorage.model.Role;
 import com.cloud.cloudstorage.model.User;
 import com.cloud.cloudstorage.repository.UserRepository;
+import com.cloud.cloudstorage.service.PathBuilderService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.transaction.Transactional;
-import lombok.AllArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -16,28 +23,61 @@ import java.util.List;
 
 @Service
 @Transactional
-@AllArgsConstructor
-public class MyUserDetailsService implements UserDetailsService {
+public class MyUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
     private final UserRepository userRepository;
+    private final PathBuilderService pathBuilderService;
+    private final Cache<String, CachedUser> userCache;
+
+    public MyUserDetailsService(
+            UserRepository userRepository,
+            PathBuilderService pathBuilderService,
+            UserCacheProperties userCacheProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.userRepository = userRepository;
+        this.pathBuilderService = pathBuilderService;
+        this.userCache = Caffeine.newBuilder()
+                .maximumSize(userCacheProperties.getMaxSize())
+                .expireAfterWrite(userCacheProperties.getExpireAfterWrite())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, userCache, "users");
+    }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findUserByUsername(username).orElseThrow(
-                () -> new UsernameNotFoundException("No user found with username: " + username));
+        CachedUser user = userCache.get(username, this::loadUser);
+        return new UserPrincipal(
+                user.id(), pathBuilderService.createRootDirName(user.id()),
+                user.username(), user.password(), user.authorities());
+    }
 
-        boolean enabled = true;
-        boolean accountNonExpired = true;
-        boolean credentialsNonExpired = true;
-        boolean accountNonLocked = true;
+    @Override
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findUserByUsername(userDetails.getUsername()).orElseThrow(
+                () -> new UsernameNotFoundException("No user found with username: " + userDetails.getUsername()));
+        user.setPassword(newPassword);
+        userRepository.save(user);
+        evictUser(user.getUsername());
+        return loadUserByUsername(user.getUsername());
+    }
 
-        return new org.springframework.security.core.userdetails.User(
-                user.getUsername(), user.getPassword(), enabled, accountNonExpired,
-                credentialsNonExpired, accountNonLocked, mapRolesToAuthorities(user.getRoles()));
+    public void evictUser(String username) {
+        userCache.invalidate(username);
     }
 
-    private List<? extends GrantedAuthority> mapRolesToAuthorities (List<Role> roles) {
+    private CachedUser loadUser(String username) {
+        User user = userRepository.findWithRolesByUsername(username).orElseThrow(
+                () -> new UsernameNotFoundException("No user found with username: " + username));
+        return new CachedUser(user.getId(), user.getUsername(), user.getPassword(), mapRolesToAuthorities(user.getRoles()));
+    }
+
+    private List<GrantedAuthority> mapRolesToAuthorities (List<Role> roles) {
         return roles.stream()
-                .map(role -> new SimpleGrantedAuthority(role.getName()))
+                .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(role.getName()))
                 .toList();
     }
+
+    private record CachedUser(Long id, String username, String password, List<GrantedAuthority> authorities) {
+    }
 }
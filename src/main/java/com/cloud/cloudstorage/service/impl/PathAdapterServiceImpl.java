@@ -1,7 +1,9 @@
 package com.cloud.cloudstorage.service.impl;
 
+import com.cloud.cloudstorage.exception.InvalidPathException;
 import com.cloud.cloudstorage.service.PathBuilderService;
 import com.cloud.cloudstorage.service.PathFormatterService;
+import com.cloud.cloudstorage.validation.PathValidator;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -28,6 +30,9 @@ public class PathAdapterServiceImpl implements PathBuilderService, PathFormatter
 
     @Override
     public String normalizePathFromRequest(String pathFromRequest) {
+        if (PathValidator.hasRelativeSegment(pathFromRequest)) {
+            throw new InvalidPathException(pathFromRequest);
+        }
         return pathFromRequest.startsWith("/") ? pathFromRequest.substring(1) : pathFromRequest;
     }
 
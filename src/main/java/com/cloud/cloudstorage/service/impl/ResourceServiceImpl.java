@@ -1,21 +1,27 @@
 package com.cloud.cloudstorage.service.impl;
 
+import com.cloud.cloudstorage.config.security.UserPrincipal;
 import com.cloud.cloudstorage.dto.*;
+import com.cloud.cloudstorage.event.RootDirectoryRequestedEvent;
 import com.cloud.cloudstorage.exception.*;
 import com.cloud.cloudstorage.mapper.ResourceMapper;
 import com.cloud.cloudstorage.service.*;
-import io.minio.messages.Item;
+import com.cloud.cloudstorage.validation.PathValidator;
 import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.stereotype.Service;
-import org.springframework.util.StreamUtils;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -25,13 +31,21 @@ public class ResourceServiceImpl implements ResourceService {
     private final CurrentUserService currentUserService;
     private final PathBuilderService pathBuilderService;
     private final PathFormatterService pathFormatterService;
-    private final MinioStorageService minioStorageService;
+    private final StorageService storageService;
+    private final ConditionCheckService conditionCheckService;
+    private final StorageUsageService storageUsageService;
+    private final DirectoryStatsService directoryStatsService;
+    private final ObjectCacheService objectCacheService;
+    private final BufferPoolService bufferPoolService;
+    private final TransferMetricsService transferMetricsService;
     private final ResourceMapper resourceMapper;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final RootDirectoryProvisioner rootDirectoryProvisioner;
 
     @Override
     public void createRootDirectory(Long userId) {
-        String rootDirName = getRootDirName(userId);
-        putRootDirectory(rootDirName);
+        storageUsageService.createUsage(userId);
+        applicationEventPublisher.publishEvent(new RootDirectoryRequestedEvent(userId));
     }
 
     @Override
@@ -39,31 +53,32 @@ public class ResourceServiceImpl implements ResourceService {
         String fullPath = getFullResourcePath(directoryPathFromRequest, user);
         validateCreatingDirectoryConditions(fullPath);
         putEmptyDirectory(fullPath);
-        return getDirectoryResponseDto(fullPath);
+        return getDirectoryResponseDto(fullPath, user);
     }
 
     @Override
     public List<FileResponseDto> uploadFiles(String parentPathFromRequest, FileUploadDto fileUploadDto, User user) {
         List<MultipartFile> multipartFileList = fileUploadDto.getMultipartFile();
+        Long userId = getCurrentUserId(user);
         String fullParentPath = getFullResourcePath(parentPathFromRequest, user);
         validateFileParentDirectoryExists(fullParentPath);
-        return uploadValidatedFiles(fullParentPath, multipartFileList);
+        return uploadValidatedFiles(userId, fullParentPath, multipartFileList);
     }
 
     @Override
     public List<BaseResourceResponseDto> getDirectoryContent(String directoryPathFromRequest, User user) {
         String fullPath = getFullResourcePath(directoryPathFromRequest, user);
         validateResourceExists(fullPath);
-        List<Item> minioDirectoryContentList = getDirectoryContentList(fullPath);
-        return createResourceResponseDtoList(minioDirectoryContentList);
+        List<StorageItemDto> directoryContentList = getDirectoryContentList(fullPath);
+        return createResourceResponseDtoList(directoryContentList, user);
     }
 
     @Override
     public List<BaseResourceResponseDto> getSearchedContent(String query, User user) {
         String rootDirName = getRootDirName(user);
-        List<Item> wholeContentList = getWholeDirectoryContentList(rootDirName);
-        List<Item> filteredBySearchQueryList = filterBySearchQuery(wholeContentList, query);
-        return createResourceResponseDtoList(filteredBySearchQueryList);
+        List<StorageItemDto> wholeContentList = getWholeDirectoryContentList(rootDirName);
+        List<StorageItemDto> filteredBySearchQueryList = filterBySearchQuery(wholeContentList, query);
+        return createResourceResponseDtoList(filteredBySearchQueryList, user);
     }
 
     @Override
@@ -71,8 +86,15 @@ public class ResourceServiceImpl implements ResourceService {
         String fullPathFrom = getFullResourcePath(pathFrom, user);
         String fullPathTo = getFullResourcePath(pathTo, user);
         validateMovingConditions(fullPathFrom, fullPathTo);
-        minioStorageService.moveResource(fullPathFrom, fullPathTo);
-        return createResourceResponseDto(fullPathTo);
+        storageService.moveResource(fullPathFrom, fullPathTo);
+        if (isDirectoryPath(fullPathTo)) {
+            directoryStatsService.moveDirectory(fullPathFrom, fullPathTo);
+            return getDirectoryResponseDto(fullPathTo, user);
+        }
+
+        long objectSize = storageService.getObjectSize(fullPathTo);
+        directoryStatsService.moveFile(fullPathFrom, fullPathTo, objectSize);
+        return getFileResponseDto(fullPathTo, objectSize);
     }
 
     @Override
@@ -88,41 +110,85 @@ public class ResourceServiceImpl implements ResourceService {
 
     @Override
     public void deleteResource(String path, User user) {
+        Long userId = getCurrentUserId(user);
         String fullPath = getFullResourcePath(path, user);
         validateResourceExists(fullPath);
-        minioStorageService.deleteResource(fullPath);
+        ResourceStatsDto removedStats = storageService.deleteResource(fullPath);
+        storageUsageService.recordUsage(userId, -removedStats.size(), -removedStats.objectCount());
+        directoryStatsService.removeResource(fullPath, removedStats);
     }
 
     @Override
     public BaseResourceResponseDto getResourceInfo(String path, User user) {
         String fullPath = getFullResourcePath(path, user);
         validateResourceExists(fullPath);
-        return createResourceResponseDto(fullPath);
+        return createResourceResponseDto(fullPath, user);
     }
 
     @Override
     public boolean isResourceExisting(String path) {
-        return minioStorageService.isResourceExisting(path);
+        return storageService.isResourceExisting(path);
+    }
+
+    @Override
+    public void validateResourceExists(String path, User user) {
+        String fullPath = getFullResourcePath(path, user);
+        validateResourceExists(fullPath);
+    }
+
+    @Override
+    public void validateMovingConditions(String from, String to, User user) {
+        String fullPathFrom = getFullResourcePath(from, user);
+        String fullPathTo = getFullResourcePath(to, user);
+        validateMovingConditions(fullPathFrom, fullPathTo);
     }
 
     private StreamResourceDto downloadDirectory(String fullPath) {
-        StreamingResponseBody body = getDirectoryStreamingResponseBody(fullPath);
+        StreamingResponseBody body = transferMetricsService.instrumentDownload(
+                getDirectoryStreamingResponseBody(fullPath), "archive");
         String directoryName = getDirectoryNameForResponse(fullPath);
         return new StreamResourceDto(body, directoryName + ".zip");
     }
 
     private StreamResourceDto downloadFile(String fullPath) {
-        StreamingResponseBody body = getFileStreamingResponseBody(fullPath);
+        StreamingResponseBody body = transferMetricsService.instrumentDownload(
+                getFileStreamingResponseBody(fullPath), "file");
         String filename = getFilenameForResponse(fullPath);
         return new StreamResourceDto(body, filename);
     }
 
     private StreamingResponseBody getFileStreamingResponseBody(String fullPath) {
-        return outputStream -> {
-            try (InputStream inputStream = downloadResourceFromStorage(fullPath)) {
-                StreamUtils.copy(inputStream, outputStream);
+        if (objectCacheService.isEnabled()) {
+            return outputStream -> transferThroughCache(fullPath, outputStream);
+        }
+
+        return outputStream -> transferFromStorage(fullPath, outputStream);
+    }
+
+    private void transferThroughCache(String fullPath, OutputStream outputStream) throws IOException {
+        String cachedEtag = objectCacheService.getCachedEtag(fullPath);
+        Optional<ObjectStreamDto> changed = storageService.downloadResourceIfChanged(fullPath, cachedEtag);
+        if (changed.isEmpty()) {
+            if (!objectCacheService.transferCached(fullPath, cachedEtag, outputStream)) {
+                transferFromStorage(fullPath, outputStream);
+            }
+            return;
+        }
+
+        ObjectMetadataDto metadata = changed.get().metadata();
+        try (InputStream inputStream = changed.get().stream()) {
+            if (objectCacheService.isCacheable(metadata.size())) {
+                objectCacheService.copyThrough(fullPath, metadata.etag(), inputStream, outputStream);
+            } else {
+                bufferPoolService.copy(inputStream, outputStream);
             }
-        };
+        }
+    }
+
+    private void transferFromStorage(String fullPath, OutputStream outputStream) throws IOException {
+        try (InputStream inputStream = downloadResourceFromStorage(fullPath)) {
+            bufferPoolService.copy(inputStream, outputStream);
+        }
     }
 
     private StreamingResponseBody getDirectoryStreamingResponseBody(String fullPath) {
@@ -132,16 +198,18 @@ public class ResourceServiceImpl implements ResourceService {
 
     private void createZipArchive(OutputStream output, String fullPath) {
         String fullParentPath = getFullParentPath(fullPath);
-        List<Item> wholeContentList = getWholeDirectoryContentList(fullPath);
+        List<StorageItemDto> wholeContentList = getWholeDirectoryContentList(fullPath);
 
         try (ZipOutputStream zip = new ZipOutputStream(output)) {
-            for (Item item : wholeContentList) {
+            for (StorageItemDto item : wholeContentList) {
                 String objectName = item.objectName();
-                try (InputStream input = downloadResourceFromStorage(objectName)) {
-                    zip.putNextEntry(new ZipEntry(objectName.substring(fullParentPath.length())));
-                    StreamUtils.copy(input, zip);
-                    zip.closeEntry();
+                zip.putNextEntry(new ZipEntry(objectName.substring(fullParentPath.length())));
+                if (!isDirectoryPath(objectName)) {
+                    try (InputStream input = downloadResourceFromStorage(objectName)) {
+                        bufferPoolService.copy(input, zip);
+                    }
                 }
+                zip.closeEntry();
             }
         } catch (Exception ex) {
             throw new MinioDownloadResourceException();
@@ -149,9 +217,11 @@ public class ResourceServiceImpl implements ResourceService {
     }
 
     private void validateMovingConditions(String pathFrom, String pathTo) {
-        validateResourceExists(pathFrom);
-        validateParentDirectoryExists(pathTo);
-        validateResourceNotExists(pathTo);
+        conditionCheckService.checkAll(List.of(
+                resourceExistsCheck(pathFrom),
+                parentDirectoryExistsCheck(pathTo),
+                resourceNotExistsCheck(pathTo)
+        ));
         validateResourceTypeMatches(pathFrom, pathTo);
     }
 
@@ -163,16 +233,16 @@ public class ResourceServiceImpl implements ResourceService {
         }
     }
 
-    private BaseResourceResponseDto createResourceResponseDto(String fullPath) {
+    private BaseResourceResponseDto createResourceResponseDto(String fullPath, User user) {
         if (isDirectoryPath(fullPath)) {
-            return getDirectoryResponseDto(fullPath);
+            return getDirectoryResponseDto(fullPath, user);
         }
-        long objectSize = minioStorageService.getObjectSize(fullPath);
+        long objectSize = storageService.getObjectSize(fullPath);
         return getFileResponseDto(fullPath, objectSize);
     }
 
-    private List<Item> filterBySearchQuery(List<Item> wholeContentList, String query) {
-        List<Item> filteredList = new ArrayList<>();
+    private List<StorageItemDto> filterBySearchQuery(List<StorageItemDto> wholeContentList, String query) {
+        List<StorageItemDto> filteredList = new ArrayList<>();
         wholeContentList.forEach(item -> {
             String fullPath = item.objectName();
             String upperItemName = pathFormatterService.extractResourceName(fullPath).toUpperCase();
@@ -184,12 +254,17 @@ public class ResourceServiceImpl implements ResourceService {
         return filteredList;
     }
 
-    private List<BaseResourceResponseDto> createResourceResponseDtoList(List<Item> directoryObjectsList) {
+    private List<BaseResourceResponseDto> createResourceResponseDtoList(List<StorageItemDto> directoryObjectsList, User user) {
+        Map<String, ResourceStatsDto> directoryStats = getDirectoryStats(directoryObjectsList, user);
+
         List<BaseResourceResponseDto> dtoList = new ArrayList<>();
         directoryObjectsList.forEach(item -> {
             String itemName = item.objectName();
             if (isDirectoryPath(itemName)) {
-                dtoList.add(getDirectoryResponseDto(itemName));
+                ResourceStatsDto stats = directoryStats == null
+                        ? null
+                        : directoryStats.getOrDefault(itemName, ResourceStatsDto.empty());
+                dtoList.add(getDirectoryResponseDto(itemName, stats));
             } else {
                 dtoList.add(getFileResponseDto(itemName, item.size()));
             }
@@ -197,48 +272,78 @@ public class ResourceServiceImpl implements ResourceService {
         return dtoList;
     }
 
-    private String getRootDirName(Long userId) {
-        return pathBuilderService.createRootDirName(userId);
-    }
-
     private String getRootDirName(User user) {
+        if (user instanceof UserPrincipal principal) {
+            return principal.getRootDir();
+        }
         Long userId = getCurrentUserId(user);
         return pathBuilderService.createRootDirName(userId);
     }
 
-    private void putRootDirectory(String rootDirName) {
-        minioStorageService.putRootDirectory(rootDirName);
-    }
-
-    private List<Item> getDirectoryContentList(String fullPath) {
-        return minioStorageService.getDirectoryObjectsList(fullPath);
+    private List<StorageItemDto> getDirectoryContentList(String fullPath) {
+        return storageService.getDirectoryObjectsList(fullPath);
     }
 
     private String getFullResourcePath(String pathFromRequest, User user) {
-        Long userId = getCurrentUserId(user);
-        return pathBuilderService.createFullDirectoryPath(userId, pathFromRequest);
+        String rootDirName = getRootDirName(user);
+        rootDirectoryProvisioner.ensureProvisioned(rootDirName);
+        return rootDirName + pathBuilderService.normalizePathFromRequest(pathFromRequest);
     }
 
     private void validateCreatingDirectoryConditions(String fullPath) {
-        validateParentDirectoryExists(fullPath);
-        validateResourceNotExists(fullPath);
+        conditionCheckService.checkAll(List.of(
+                parentDirectoryExistsCheck(fullPath),
+                resourceNotExistsCheck(fullPath)
+        ));
     }
 
     private void validateResourceExists(String fullPath) {
-        if (!minioStorageService.isResourceExisting(fullPath)) {
+        if (!isResourceExisting(fullPath)) {
             String pathForError = getPathForErrorMessage(fullPath);
             throw new MinioResourceNotExistsException(pathForError);
         }
     }
 
+    private ConditionCheckService.Check resourceExistsCheck(String fullPath) {
+        return new ConditionCheckService.Check(
+                () -> isResourceExisting(fullPath),
+                () -> new MinioResourceNotExistsException(getPathForErrorMessage(fullPath))
+        );
+    }
+
     private void putEmptyDirectory(String fullPath) {
-        minioStorageService.putEmptyDirectory(fullPath);
+        storageService.putEmptyDirectory(fullPath);
     }
 
-    private DirectoryResponseDto getDirectoryResponseDto(String fullPath) {
+    private Map<String, ResourceStatsDto> getDirectoryStats(List<StorageItemDto> directoryObjectsList, User user) {
+        if (!hasReconciledStats(user)) {
+            return null;
+        }
+        List<String> directoryPaths = directoryObjectsList.stream()
+                .map(StorageItemDto::objectName)
+                .filter(this::isDirectoryPath)
+                .toList();
+        return directoryStatsService.getStats(directoryPaths);
+    }
+
+    private DirectoryResponseDto getDirectoryResponseDto(String fullPath, User user) {
+        ResourceStatsDto stats = hasReconciledStats(user) ? directoryStatsService.getStats(fullPath) : null;
+        return getDirectoryResponseDto(fullPath, stats);
+    }
+
+    private DirectoryResponseDto getDirectoryResponseDto(String fullPath, ResourceStatsDto stats) {
         String parentPathForResponse = getParentPathForResponse(fullPath);
         String directoryNameForResponse = getDirectoryNameForResponse(fullPath);
-        return resourceMapper.createDirectoryResponseDto(parentPathForResponse, directoryNameForResponse);
+        return resourceMapper.createDirectoryResponseDto(
+                parentPathForResponse,
+                directoryNameForResponse,
+                stats == null ? null : stats.size(),
+                stats == null ? null : stats.objectCount()
+        );
+    }
+
+    private boolean hasReconciledStats(User user) {
+        return storageUsageService.isReconciled(getCurrentUserId(user));
     }
 
     private void validateFileParentDirectoryExists(String parentPath) {
@@ -248,60 +353,77 @@ public class ResourceServiceImpl implements ResourceService {
         }
     }
 
-    private List<FileResponseDto> uploadValidatedFiles(String fullParentPath, List<MultipartFile> multipartFileList) {
+    private List<FileResponseDto> uploadValidatedFiles(Long userId, String fullParentPath, List<MultipartFile> multipartFileList) {
         List<FileResponseDto> fileResponseDtoList = new ArrayList<>();
-
-        for (MultipartFile multipartFile : multipartFileList) {
-            String filename = multipartFile.getOriginalFilename();
-            validateFilename(filename);
-            String fullFilePath = getFullFilePath(fullParentPath, filename);
-            validateFileNotExists(fullFilePath);
-
-            if (filename.contains("/")) {
-                createDirectoriesFromFilename(fullParentPath, filename);
+        Map<String, Long> uploadedFileSizes = new LinkedHashMap<>();
+        long reservedBytes = getTotalSize(multipartFileList);
+        storageUsageService.reserveStorage(userId, reservedBytes, multipartFileList.size());
+
+        try {
+            for (MultipartFile multipartFile : multipartFileList) {
+                String filename = multipartFile.getOriginalFilename();
+                validateFilename(filename);
+                String fullFilePath = getFullFilePath(fullParentPath, filename);
+                validateFileNotExists(fullFilePath);
+
+                if (filename.contains("/")) {
+                    createDirectoriesFromFilename(fullParentPath, filename);
+                }
+                putFile(fullFilePath, multipartFile);
+                transferMetricsService.recordUpload(multipartFile.getSize());
+                reservedBytes -= multipartFile.getSize();
+                uploadedFileSizes.put(fullFilePath, multipartFile.getSize());
+                fileResponseDtoList.add(
+                        getFileResponseDto(fullFilePath, multipartFile.getSize())
+                );
+            }
+        } finally {
+            int notUploaded = multipartFileList.size() - fileResponseDtoList.size();
+            storageUsageService.recordUsage(userId, -reservedBytes, -notUploaded);
+            if (!uploadedFileSizes.isEmpty()) {
+                directoryStatsService.addFiles(uploadedFileSizes);
             }
-            putFile(fullFilePath, multipartFile);
-            fileResponseDtoList.add(
-                    getFileResponseDto(fullFilePath, multipartFile.getSize())
-            );
         }
 
         return fileResponseDtoList;
     }
 
+    private long getTotalSize(List<MultipartFile> multipartFileList) {
+        return multipartFileList.stream()
+                .mapToLong(MultipartFile::getSize)
+                .sum();
+    }
+
     private Long getCurrentUserId(User user) {
         return currentUserService.getCurrentUserId(user);
     }
 
-    private void validateParentDirectoryExists(String fullPath) {
+    private ConditionCheckService.Check parentDirectoryExistsCheck(String fullPath) {
         String parentPath = getFullParentPath(fullPath);
-
-        if (!isResourceExisting(parentPath)) {
-            String pathForError = getPathForErrorMessage(parentPath);
-            throw new MinioExistingParentDirectoryException(pathForError);
-        }
+        return new ConditionCheckService.Check(
+                () -> isResourceExisting(parentPath),
+                () -> new MinioExistingParentDirectoryException(getPathForErrorMessage(parentPath))
+        );
     }
 
     private void validateFilename(String filename) {
         if (filename == null || filename.isBlank()) {
             throw new EmptyUploadingFilenameException();
         }
+        if (PathValidator.hasRelativeSegment(filename)) {
+            throw new InvalidPathException(filename);
+        }
     }
 
-    private void validateResourceNotExists(String fullPath) {
-        if (isResourceExisting(fullPath)) {
-            String pathForError = getPathForErrorMessage(fullPath);
-            throw new MinioResourceAlreadyExistsException(pathForError);
-        }
+    private ConditionCheckService.Check resourceNotExistsCheck(String fullPath) {
+        return new ConditionCheckService.Check(
+                () -> !isResourceExisting(fullPath),
+                () -> new MinioResourceAlreadyExistsException(getPathForErrorMessage(fullPath))
+        );
     }
 
     private void createDirectoriesFromFilename(String fullParentPath, String filename) {
-        String[] split = filename.split("/");
-        StringBuilder directoryPath = new StringBuilder(fullParentPath);
-        for(int i = 0; i < split.length - 1; i++) {
-            directoryPath.append(split[i]).append("/");
-            putEmptyDirectory(directoryPath.toString());
-        }
+        storageService.putIntermediateDirectories(fullParentPath, filename);
     }
 
     private String getPathForErrorMessage(String path) {
@@ -321,7 +443,7 @@ public class ResourceServiceImpl implements ResourceService {
     }
 
     private void putFile(String fullFilePath, MultipartFile multipartFile) {
-        minioStorageService.putFile(fullFilePath, multipartFile);
+        storageService.putFile(fullFilePath, multipartFile);
     }
 
     private FileResponseDto getFileResponseDto(String fullPath, Long size) {
@@ -350,11 +472,11 @@ public class ResourceServiceImpl implements ResourceService {
         return pathFormatterService.formatParentPathForResponse(fullPath);
     }
 
-    private List<Item> getWholeDirectoryContentList(String fullPath) {
-        return minioStorageService.getWholeDirectoryContentList(fullPath);
+    private List<StorageItemDto> getWholeDirectoryContentList(String fullPath) {
+        return storageService.getWholeDirectoryContentList(fullPath);
     }
 
     private InputStream downloadResourceFromStorage(String fullPath) {
-        return minioStorageService.downloadResource(fullPath);
+        return storageService.downloadResource(fullPath);
     }
 }
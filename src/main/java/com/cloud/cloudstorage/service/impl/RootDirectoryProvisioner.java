@@ -0,0 +1,92 @@
+package com.cloud.cloudstorage.service.impl;
+
+import com.cloud.cloudstorage.config.storage.RootProvisioningProperties;
+import com.cloud.cloudstorage.event.RootDirectoryRequestedEvent;
+import com.cloud.cloudstorage.service.PathBuilderService;
+import com.cloud.cloudstorage.service.StorageService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Component
+@Slf4j
+public class RootDirectoryProvisioner {
+    private final StorageService storageService;
+    private final PathBuilderService pathBuilderService;
+    private final RootProvisioningProperties rootProvisioningProperties;
+    private final ExecutorService provisioningExecutor;
+    private final Cache<String, Boolean> provisionedRoots;
+
+    public RootDirectoryProvisioner(
+            StorageService storageService,
+            PathBuilderService pathBuilderService,
+            RootProvisioningProperties rootProvisioningProperties
+    ) {
+        this.storageService = storageService;
+        this.pathBuilderService = pathBuilderService;
+        this.rootProvisioningProperties = rootProvisioningProperties;
+        this.provisioningExecutor = Executors.newFixedThreadPool(rootProvisioningProperties.getThreads());
+        this.provisionedRoots = Caffeine.newBuilder()
+                .maximumSize(rootProvisioningProperties.getCacheSize())
+                .build();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRootDirectoryRequested(RootDirectoryRequestedEvent event) {
+        String rootDirName = pathBuilderService.createRootDirName(event.userId());
+        provisioningExecutor.execute(() -> provision(rootDirName));
+    }
+
+    public void ensureProvisioned(String rootDirName) {
+        provisionedRoots.get(rootDirName, this::putIfMissing);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        provisioningExecutor.shutdown();
+    }
+
+    private void provision(String rootDirName) {
+        int maxAttempts = rootProvisioningProperties.getMaxAttempts();
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                provisionedRoots.get(rootDirName, this::putIfMissing);
+                return;
+            } catch (Exception ex) {
+                if (attempt == maxAttempts) {
+                    log.error("Failed to provision root directory {} after {} attempts, it will be created on first access",
+                            rootDirName, maxAttempts, ex);
+                    return;
+                }
+                log.warn("Failed to provision root directory {}, attempt {} of {}", rootDirName, attempt, maxAttempts);
+                if (!sleep(attempt)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private Boolean putIfMissing(String rootDirName) {
+        if (!storageService.isResourceExisting(rootDirName)) {
+            storageService.putRootDirectory(rootDirName);
+        }
+        return true;
+    }
+
+    private boolean sleep(int attempt) {
+        try {
+            Thread.sleep(rootProvisioningProperties.getBackoff().multipliedBy(attempt));
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
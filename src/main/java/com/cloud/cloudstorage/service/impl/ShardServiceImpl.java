@@ -0,0 +1,289 @@
+package com.cloud.cloudstorage.service.impl;
+
+import com.cloud.cloudstorage.config.minio.MinioProperties;
+import com.cloud.cloudstorage.config.minio.MinioShard;
+import com.cloud.cloudstorage.config.minio.MinioShardRouter;
+import com.cloud.cloudstorage.dto.ShardAssignmentResponseDto;
+import com.cloud.cloudstorage.dto.enums.ShardState;
+import com.cloud.cloudstorage.exception.ShardMigrationInProgressException;
+import com.cloud.cloudstorage.model.UserShard;
+import com.cloud.cloudstorage.repository.UserShardRepository;
+import com.cloud.cloudstorage.service.PathBuilderService;
+import com.cloud.cloudstorage.service.ShardService;
+import io.minio.*;
+import io.minio.messages.DeleteError;
+import io.minio.messages.DeleteObject;
+import io.minio.messages.Item;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Service
+@Slf4j
+@ConditionalOnProperty(prefix = "storage", name = "backend", havingValue = "minio", matchIfMissing = true)
+public class ShardServiceImpl implements ShardService {
+    private static final int DELETE_BATCH_SIZE = 1000;
+
+    private final MinioShardRouter shardRouter;
+    private final UserShardRepository userShardRepository;
+    private final PathBuilderService pathBuilderService;
+    private final Duration assignmentRefreshInterval;
+    private final ExecutorService migrationExecutor = Executors.newSingleThreadExecutor();
+    private final Set<String> runningMigrations = ConcurrentHashMap.newKeySet();
+
+    public ShardServiceImpl(
+            MinioShardRouter shardRouter,
+            UserShardRepository userShardRepository,
+            PathBuilderService pathBuilderService,
+            MinioProperties minioProperties
+    ) {
+        this.shardRouter = shardRouter;
+        this.userShardRepository = userShardRepository;
+        this.pathBuilderService = pathBuilderService;
+        this.assignmentRefreshInterval = minioProperties.getShardOverrideRefresh();
+    }
+
+    @Override
+    public void assignShard(String rootDirName) {
+        MinioShard shard = shardRouter.getHashedShard(rootDirName);
+        saveAssignment(rootDirName, shard.name(), null, ShardState.ACTIVE);
+        shardRouter.assign(rootDirName, shard.name());
+    }
+
+    @Override
+    public ShardAssignmentResponseDto getAssignment(Long userId) {
+        String rootDirName = pathBuilderService.createRootDirName(userId);
+        return userShardRepository.findById(rootDirName)
+                .map(assignment -> toResponseDto(userId, assignment))
+                .orElseGet(() -> new ShardAssignmentResponseDto(
+                        userId, shardRouter.route(rootDirName).name(), null, ShardState.ACTIVE));
+    }
+
+    @Override
+    public synchronized ShardAssignmentResponseDto startMigration(Long userId, String targetShardName) {
+        MinioShard target = shardRouter.getShard(targetShardName);
+        String rootDirName = pathBuilderService.createRootDirName(userId);
+        MinioShard source = shardRouter.route(rootDirName);
+
+        userShardRepository.findById(rootDirName).ifPresent(assignment -> {
+            if (isInProgress(assignment.getState())) {
+                throw new ShardMigrationInProgressException(userId);
+            }
+        });
+        if (source.name().equals(target.name())) {
+            return getAssignment(userId);
+        }
+
+        UserShard assignment = saveAssignment(rootDirName, source.name(), target.name(), ShardState.MIGRATING);
+        shardRouter.setWriteBlocked(rootDirName, true);
+        runningMigrations.add(rootDirName);
+        migrationExecutor.execute(() -> migrate(rootDirName, source, target));
+        return toResponseDto(userId, assignment);
+    }
+
+    @Override
+    public synchronized ShardAssignmentResponseDto resetMigration(Long userId) {
+        String rootDirName = pathBuilderService.createRootDirName(userId);
+        if (runningMigrations.contains(rootDirName)) {
+            throw new ShardMigrationInProgressException(userId);
+        }
+        UserShard assignment = userShardRepository.findById(rootDirName).orElse(null);
+        if (assignment == null || !isInProgress(assignment.getState())) {
+            return getAssignment(userId);
+        }
+
+        MinioShard shard = shardRouter.getShard(assignment.getShardName());
+        UserShard reset = saveAssignment(rootDirName, shard.name(), null, ShardState.ACTIVE);
+        shardRouter.assign(rootDirName, shard.name());
+        shardRouter.setWriteBlocked(rootDirName, false);
+        migrationExecutor.execute(() -> removeStaleCopies(rootDirName, shard));
+        log.warn("Interrupted migration of user root {} was reset to shard {}", rootDirName, shard.name());
+        return toResponseDto(userId, reset);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        migrationExecutor.shutdownNow();
+    }
+
+    private void migrate(String rootDirName, MinioShard source, MinioShard target) {
+        try {
+            Thread.sleep(assignmentRefreshInterval.toMillis());
+            copyObjects(rootDirName, source, target, false);
+
+            saveAssignment(rootDirName, target.name(), target.name(), ShardState.CLEANING_UP);
+            shardRouter.assign(rootDirName, target.name());
+            Thread.sleep(assignmentRefreshInterval.toMillis());
+
+            copyObjects(rootDirName, source, target, true);
+            removeObjects(rootDirName, source);
+            saveAssignment(rootDirName, target.name(), null, ShardState.ACTIVE);
+            shardRouter.setWriteBlocked(rootDirName, false);
+            log.info("User root {} migrated from shard {} to shard {}", rootDirName, source.name(), target.name());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            markFailed(rootDirName);
+        } catch (Exception ex) {
+            log.error("Migration of user root {} from shard {} to shard {} failed",
+                    rootDirName, source.name(), target.name(), ex);
+            markFailed(rootDirName);
+        } finally {
+            runningMigrations.remove(rootDirName);
+        }
+    }
+
+    private void removeStaleCopies(String rootDirName, MinioShard activeShard) {
+        for (MinioShard shard : shardRouter.getShards()) {
+            if (isSameLocation(shard, activeShard)) {
+                continue;
+            }
+            try {
+                removeObjects(rootDirName, shard);
+            } catch (Exception ex) {
+                log.error("Failed to remove stale copy of user root {} from shard {}", rootDirName, shard.name(), ex);
+            }
+        }
+    }
+
+    private boolean isSameLocation(MinioShard shard, MinioShard other) {
+        return shard.client() == other.client() && shard.bucket().equals(other.bucket());
+    }
+
+    private boolean isInProgress(ShardState state) {
+        return state == ShardState.MIGRATING || state == ShardState.CLEANING_UP;
+    }
+
+    private void copyObjects(String rootDirName, MinioShard source, MinioShard target, boolean onlyMissing) throws Exception {
+        for (Result<Item> result : listObjects(source, rootDirName)) {
+            Item item = result.get();
+            if (onlyMissing && isObjectExisting(target, item.objectName())) {
+                continue;
+            }
+            copyObject(source, target, item);
+        }
+    }
+
+    private void copyObject(MinioShard source, MinioShard target, Item item) throws Exception {
+        if (source.client() == target.client()) {
+            target.client().copyObject(
+                    CopyObjectArgs.builder()
+                            .bucket(target.bucket())
+                            .object(item.objectName())
+                            .source(CopySource.builder()
+                                    .bucket(source.bucket())
+                                    .object(item.objectName())
+                                    .build())
+                            .build()
+            );
+            return;
+        }
+
+        try (InputStream inputStream = source.client().getObject(
+                GetObjectArgs.builder()
+                        .bucket(source.bucket())
+                        .object(item.objectName())
+                        .build())) {
+            PutObjectArgs.Builder args = PutObjectArgs.builder()
+                    .bucket(target.bucket())
+                    .object(item.objectName())
+                    .stream(inputStream, item.size(), -1);
+            if (item.objectName().endsWith("/")) {
+                args.contentType("application/x-directory");
+            }
+            target.client().putObject(args.build());
+        }
+    }
+
+    private boolean isObjectExisting(MinioShard shard, String objectName) {
+        try {
+            shard.client().statObject(
+                    StatObjectArgs.builder()
+                            .bucket(shard.bucket())
+                            .object(objectName)
+                            .build()
+            );
+            return true;
+        } catch (Exception ex) {
+            return false;
+        }
+    }
+
+    private void removeObjects(String rootDirName, MinioShard shard) throws Exception {
+        List<DeleteObject> batch = new ArrayList<>();
+        for (Result<Item> result : listObjects(shard, rootDirName)) {
+            batch.add(new DeleteObject(result.get().objectName()));
+            if (batch.size() >= DELETE_BATCH_SIZE) {
+                removeBatch(shard, batch);
+            }
+        }
+        removeBatch(shard, batch);
+    }
+
+    private void removeBatch(MinioShard shard, List<DeleteObject> batch) throws Exception {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Iterable<Result<DeleteError>> errors = shard.client().removeObjects(
+                RemoveObjectsArgs.builder()
+                        .bucket(shard.bucket())
+                        .objects(new ArrayList<>(batch))
+                        .build()
+        );
+        for (Result<DeleteError> error : errors) {
+            DeleteError deleteError = error.get();
+            log.warn("Failed to remove migrated object {} from shard {}: {}",
+                    deleteError.objectName(), shard.name(), deleteError.message());
+        }
+        batch.clear();
+    }
+
+    private Iterable<Result<Item>> listObjects(MinioShard shard, String prefix) {
+        return shard.client().listObjects(
+                ListObjectsArgs.builder()
+                        .bucket(shard.bucket())
+                        .prefix(prefix)
+                        .recursive(true)
+                        .build()
+        );
+    }
+
+    private void markFailed(String rootDirName) {
+        shardRouter.setWriteBlocked(rootDirName, false);
+        userShardRepository.findById(rootDirName).ifPresent(assignment -> {
+            assignment.setState(ShardState.FAILED);
+            assignment.setUpdatedAt(Instant.now());
+            userShardRepository.save(assignment);
+        });
+    }
+
+    private UserShard saveAssignment(String rootDirName, String shardName, String targetShardName, ShardState state) {
+        UserShard assignment = userShardRepository.findById(rootDirName).orElseGet(UserShard::new);
+        assignment.setRootDir(rootDirName);
+        assignment.setShardName(shardName);
+        assignment.setTargetShardName(targetShardName);
+        assignment.setState(state);
+        assignment.setUpdatedAt(Instant.now());
+        return userShardRepository.save(assignment);
+    }
+
+    private ShardAssignmentResponseDto toResponseDto(Long userId, UserShard assignment) {
+        return new ShardAssignmentResponseDto(
+                userId,
+                assignment.getShardName(),
+                assignment.getTargetShardName(),
+                assignment.getState()
+        );
+    }
+}
@@ -0,0 +1,81 @@
+package com.cloud.cloudstorage.service.impl;
+
+import com.cloud.cloudstorage.model.User;
+import com.cloud.cloudstorage.repository.StorageUsageRepository;
+import com.cloud.cloudstorage.repository.UserRepository;
+import com.cloud.cloudstorage.service.StorageUsageService;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@AllArgsConstructor
+@Slf4j
+public class StorageUsageReconciler {
+    private static final int PAGE_SIZE = 100;
+
+    private final UserRepository userRepository;
+    private final StorageUsageService storageUsageService;
+    private final StorageUsageRepository storageUsageRepository;
+
+    @Scheduled(cron = "${storage.usage.reconcile-cron:0 0 3 * * *}")
+    public void reconcileAll() {
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE, Sort.by("id"));
+        Page<User> page;
+        int reconciled = 0;
+        do {
+            page = userRepository.findAll(pageable);
+            for (User user : page) {
+                if (reconcile(user.getId())) {
+                    reconciled++;
+                }
+            }
+            pageable = page.nextPageable();
+        } while (page.hasNext());
+        log.info("Storage usage reconciled for {} users", reconciled);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startBackfill() {
+        Thread.ofVirtual().name("storage-usage-backfill").start(this::reconcileUnreconciled);
+    }
+
+    public void reconcileUnreconciled() {
+        Long lastUserId = 0L;
+        int reconciled = 0;
+        List<Long> userIds;
+        do {
+            userIds = storageUsageRepository.findUnreconciledUserIds(lastUserId, PageRequest.of(0, PAGE_SIZE));
+            for (Long userId : userIds) {
+                if (reconcile(userId)) {
+                    reconciled++;
+                }
+                lastUserId = userId;
+            }
+        } while (userIds.size() == PAGE_SIZE);
+        if (reconciled > 0) {
+            log.info("Storage usage backfilled for {} users", reconciled);
+        }
+    }
+
+    private boolean reconcile(Long userId) {
+        try {
+            if (storageUsageService.reconcileUsage(userId)) {
+                return true;
+            }
+            log.info("Storage usage of user {} changed during reconciliation, it will be retried on the next run", userId);
+        } catch (Exception ex) {
+            log.warn("Storage usage reconciliation failed for user {}", userId, ex);
+        }
+        return false;
+    }
+}
@@ -0,0 +1,140 @@
+package com.cloud.cloudstorage.service.impl;
+
+import com.cloud.cloudstorage.config.storage.StorageUsageProperties;
+import com.cloud.cloudstorage.dto.ResourceStatsDto;
+import com.cloud.cloudstorage.dto.StorageItemDto;
+import com.cloud.cloudstorage.dto.StorageUsageResponseDto;
+import com.cloud.cloudstorage.exception.StorageQuotaExceededException;
+import com.cloud.cloudstorage.repository.StorageUsageRepository;
+import com.cloud.cloudstorage.service.DirectoryStatsService;
+import com.cloud.cloudstorage.service.PathBuilderService;
+import com.cloud.cloudstorage.service.StorageService;
+import com.cloud.cloudstorage.service.StorageUsageService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.transaction.Transactional;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Instant;
+import java.util.List;
+
+@Service
+@AllArgsConstructor
+public class StorageUsageServiceImpl implements StorageUsageService {
+    private static final long RECONCILED_USERS_CACHE_SIZE = 100_000;
+
+    private final StorageUsageRepository storageUsageRepository;
+    private final StorageService storageService;
+    private final DirectoryStatsService directoryStatsService;
+    private final PathBuilderService pathBuilderService;
+    private final StorageUsageProperties storageUsageProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<Long, Boolean> reconciledUsers = Caffeine.newBuilder()
+            .maximumSize(RECONCILED_USERS_CACHE_SIZE)
+            .build();
+
+    @Override
+    @Transactional
+    public void createUsage(Long userId) {
+        storageUsageRepository.createReconciled(userId, Instant.now());
+    }
+
+    @Override
+    @Transactional
+    public void reserveStorage(Long userId, long bytes, long objects) {
+        Long quota = getQuotaBytes();
+        if (quota == null) {
+            recordUsage(userId, bytes, objects);
+            return;
+        }
+
+        if (storageUsageRepository.reserveUsage(userId, bytes, objects, quota) > 0) {
+            return;
+        }
+        boolean created = storageUsageRepository.createIfMissing(userId) > 0;
+        if (!created || storageUsageRepository.reserveUsage(userId, bytes, objects, quota) == 0) {
+            throw new StorageQuotaExceededException();
+        }
+    }
+
+    @Override
+    @Transactional
+    public void recordUsage(Long userId, long bytes, long objects) {
+        if (bytes == 0 && objects == 0) {
+            return;
+        }
+        if (storageUsageRepository.addUsage(userId, bytes, objects) == 0) {
+            storageUsageRepository.createIfMissing(userId);
+            storageUsageRepository.addUsage(userId, bytes, objects);
+        }
+    }
+
+    @Override
+    public long getRemainingQuota(Long userId) {
+        Long quota = getQuotaBytes();
+        if (quota == null) {
+            return Long.MAX_VALUE;
+        }
+        return storageUsageRepository.findReconciledUsedBytes(userId)
+                .map(usedBytes -> Math.max(quota - usedBytes, 0))
+                .orElse(Long.MAX_VALUE);
+    }
+
+    @Override
+    public boolean isReconciled(Long userId) {
+        if (reconciledUsers.getIfPresent(userId) != null) {
+            return true;
+        }
+        boolean reconciled = storageUsageRepository.existsByUserIdAndReconciledAtIsNotNull(userId);
+        if (reconciled) {
+            reconciledUsers.put(userId, true);
+        }
+        return reconciled;
+    }
+
+    @Override
+    public StorageUsageResponseDto getUsage(Long userId) {
+        ResourceStatsDto stats = storageUsageRepository.findStatsByUserId(userId)
+                .orElseGet(ResourceStatsDto::empty);
+        return new StorageUsageResponseDto(stats.size(), stats.objectCount(), getQuotaBytes());
+    }
+
+    @Override
+    public boolean reconcileUsage(Long userId) {
+        long version = transactionTemplate.execute(status -> {
+            storageUsageRepository.createIfMissing(userId);
+            return storageUsageRepository.findVersionByUserId(userId).orElseThrow();
+        });
+
+        String rootDirName = pathBuilderService.createRootDirName(userId);
+        List<StorageItemDto> items = storageService.getWholeDirectoryContentList(rootDirName);
+
+        long usedBytes = 0;
+        long objectCount = 0;
+        for (StorageItemDto item : items) {
+            if (!item.objectName().endsWith("/")) {
+                usedBytes += item.size();
+                objectCount++;
+            }
+        }
+
+        long finalUsedBytes = usedBytes;
+        long finalObjectCount = objectCount;
+        boolean replaced = transactionTemplate.execute(status -> storageUsageRepository.replaceUsage(
+                userId, finalUsedBytes, finalObjectCount, Instant.now(), version) > 0);
+        if (!replaced) {
+            return false;
+        }
+        directoryStatsService.replaceStats(rootDirName, items);
+        reconciledUsers.put(userId, true);
+        return true;
+    }
+
+    private Long getQuotaBytes() {
+        DataSize quota = storageUsageProperties.getQuota();
+        return quota == null ? null : quota.toBytes();
+    }
+}
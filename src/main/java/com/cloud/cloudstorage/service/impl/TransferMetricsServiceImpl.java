@@ -0,0 +1,81 @@
+package com.cloud.cloudstorage.service.impl;
+
+import com.cloud.cloudstorage.service.TransferMetricsService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+public class TransferMetricsServiceImpl implements TransferMetricsService {
+    private static final String BYTES_METRIC = "storage.transfer.bytes";
+
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger activeDownloads = new AtomicInteger();
+    private final Counter uploadedBytesCounter;
+
+    public TransferMetricsServiceImpl(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.uploadedBytesCounter = Counter.builder(BYTES_METRIC)
+                .description("Bytes transferred between clients and storage")
+                .baseUnit("bytes")
+                .tag("direction", "upload")
+                .tag("type", "file")
+                .register(meterRegistry);
+        Gauge.builder("storage.downloads.active", activeDownloads, AtomicInteger::get)
+                .description("Downloads currently streaming to clients")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public StreamingResponseBody instrumentDownload(StreamingResponseBody body, String type) {
+        Counter downloadedBytesCounter = Counter.builder(BYTES_METRIC)
+                .description("Bytes transferred between clients and storage")
+                .baseUnit("bytes")
+                .tag("direction", "download")
+                .tag("type", type)
+                .register(meterRegistry);
+
+        return outputStream -> {
+            CountingOutputStream countingOutputStream = new CountingOutputStream(outputStream);
+            activeDownloads.incrementAndGet();
+            try {
+                body.writeTo(countingOutputStream);
+            } finally {
+                activeDownloads.decrementAndGet();
+                downloadedBytesCounter.increment(countingOutputStream.count);
+            }
+        };
+    }
+
+    @Override
+    public void recordUpload(long bytes) {
+        uploadedBytesCounter.increment(bytes);
+    }
+
+    private static class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        private CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            out.write(bytes, offset, length);
+            count += length;
+        }
+    }
+}
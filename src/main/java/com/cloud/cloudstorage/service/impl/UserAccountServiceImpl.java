@@ -1,9 +1,13 @@
 package com.cloud.cloudstorage.service.impl;
 
+import com.cloud.cloudstorage.config.security.UserPrincipal;
+import com.cloud.cloudstorage.dto.TokenRefreshDto;
+import com.cloud.cloudstorage.dto.TokenResponseDto;
 import com.cloud.cloudstorage.dto.UserAuthDto;
 import com.cloud.cloudstorage.dto.UserCreateDto;
 import com.cloud.cloudstorage.dto.UserResponseDto;
 import com.cloud.cloudstorage.exception.EmailAlreadyExistException;
+import com.cloud.cloudstorage.exception.TokenAuthenticationDisabledException;
 import com.cloud.cloudstorage.exception.UserAlreadyExistException;
 import com.cloud.cloudstorage.mapper.UserMapper;
 import com.cloud.cloudstorage.model.Role;
@@ -12,12 +16,14 @@ import com.cloud.cloudstorage.repository.UserRepository;
 import com.cloud.cloudstorage.service.AuthenticationService;
 import com.cloud.cloudstorage.service.ResourceService;
 import com.cloud.cloudstorage.service.RoleService;
+import com.cloud.cloudstorage.service.TokenService;
 import com.cloud.cloudstorage.service.UserAccountService;
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 
@@ -30,19 +36,23 @@ public class UserAccountServiceImpl implements UserAccountService {
     private final ResourceService resourceService;
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
+    private final ObjectProvider<TokenService> tokenService;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
-    @Transactional
     public UserResponseDto registerNewUser(UserCreateDto userCreateDto, HttpServletRequest request) {
         String username = userCreateDto.getUsername();
         String email = userCreateDto.getEmail();
         String password = userCreateDto.getPassword();
 
         validateRegistrationConditions(username, email);
-        User user = createUser(userCreateDto);
-        authenticate(username, password, request);
-        resourceService.createRootDirectory(user.getId());
-        return userMapper.toDto(username);
+        String encodedPassword = passwordEncoder.encode(password);
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = createUser(userCreateDto, encodedPassword);
+            resourceService.createRootDirectory(user.getId());
+        });
+        TokenResponseDto token = authenticate(username, password, request);
+        return userMapper.toDto(username, token);
     }
 
     @Override
@@ -50,8 +60,18 @@ public class UserAccountServiceImpl implements UserAccountService {
         String username = userAuthDto.getUsername();
         String password = userAuthDto.getPassword();
 
-        authenticate(username, password, request);
-        return userMapper.toDto(username);
+        TokenResponseDto token = authenticate(username, password, request);
+        return userMapper.toDto(username, token);
+    }
+
+    @Override
+    public UserResponseDto refreshTokens(TokenRefreshDto tokenRefreshDto) {
+        TokenService service = tokenService.getIfAvailable();
+        if (service == null) {
+            throw new TokenAuthenticationDisabledException();
+        }
+        UserPrincipal principal = service.verifyRefreshToken(tokenRefreshDto.getRefreshToken());
+        return userMapper.toDto(principal.getUsername(), service.issueTokens(principal));
     }
 
     private void validateRegistrationConditions(String username, String email) {
@@ -59,12 +79,17 @@ public class UserAccountServiceImpl implements UserAccountService {
         validateEmailNotExists(email);
     }
 
-    private void authenticate(String username, String password, HttpServletRequest request) {
-        authenticationService.authenticate(username, password, request);
+    private TokenResponseDto authenticate(String username, String password, HttpServletRequest request) {
+        TokenService service = tokenService.getIfAvailable();
+        if (service == null) {
+            authenticationService.authenticate(username, password, request);
+            return null;
+        }
+        UserPrincipal principal = authenticationService.verifyCredentials(username, password);
+        return service.issueTokens(principal);
     }
 
-    private User createUser(UserCreateDto userCreateDto) {
-        String password = passwordEncoder.encode(userCreateDto.getPassword());
+    private User createUser(UserCreateDto userCreateDto, String password) {
         List<Role> roles = List.of(roleService.getDefaultRole());
         User user = userMapper.toUser(userCreateDto, password, roles);
         return userRepository.save(user);
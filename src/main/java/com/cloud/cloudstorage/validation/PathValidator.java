@@ -3,12 +3,21 @@ package com.cloud.cloudstorage.validation;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
+import java.util.Arrays;
+
 public class PathValidator implements ConstraintValidator<ValidPath, String> {
+    private static final String CURRENT_DIRECTORY_SEGMENT = ".";
+    private static final String PARENT_DIRECTORY_SEGMENT = "..";
 
     @Override
     public boolean isValid(String path, ConstraintValidatorContext context) {
         if(path == null) return true;
 
-        return !path.contains("\\") && !path.contains("[") && !path.contains("]");
+        return !path.contains("\\") && !path.contains("[") && !path.contains("]") && !hasRelativeSegment(path);
+    }
+
+    public static boolean hasRelativeSegment(String path) {
+        return Arrays.stream(path.split("/"))
+                .anyMatch(segment -> segment.equals(CURRENT_DIRECTORY_SEGMENT) || segment.equals(PARENT_DIRECTORY_SEGMENT));
     }
 }
@@ -0,0 +1 @@
+CREATE INDEX resource_entries_object_key_idx ON storage.resource_entries (object_key);
@@ -0,0 +1 @@
+ALTER TABLE storage.jobs ADD COLUMN lease_owner VARCHAR(64);
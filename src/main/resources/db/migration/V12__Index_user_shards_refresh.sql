@@ -0,0 +1,2 @@
+CREATE INDEX user_shards_updated_at_idx ON storage.user_shards (updated_at);
+CREATE INDEX user_shards_in_progress_idx ON storage.user_shards (root_dir) WHERE state IN ('MIGRATING', 'CLEANING_UP');
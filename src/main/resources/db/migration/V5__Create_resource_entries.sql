@@ -0,0 +1,8 @@
+CREATE TABLE storage.resource_entries(
+    id BIGSERIAL PRIMARY KEY,
+    path VARCHAR(2048) NOT NULL UNIQUE,
+    object_key VARCHAR(255),
+    size BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE INDEX resource_entries_path_prefix_idx ON storage.resource_entries (path varchar_pattern_ops);
@@ -0,0 +1,28 @@
+CREATE TABLE storage.jobs(
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES storage.users(id) ON DELETE CASCADE,
+    type VARCHAR(16) NOT NULL,
+    status VARCHAR(16) NOT NULL,
+    source_path VARCHAR(2048) NOT NULL,
+    target_path VARCHAR(2048),
+    total_items INT,
+    processed_items INT NOT NULL DEFAULT 0,
+    failed_items INT NOT NULL DEFAULT 0,
+    lease_expires_at TIMESTAMPTZ,
+    created_at TIMESTAMPTZ NOT NULL,
+    updated_at TIMESTAMPTZ NOT NULL
+);
+
+CREATE INDEX jobs_status_idx ON storage.jobs (status, id);
+
+CREATE TABLE storage.job_items(
+    id BIGSERIAL PRIMARY KEY,
+    job_id BIGINT NOT NULL REFERENCES storage.jobs(id) ON DELETE CASCADE,
+    object_name VARCHAR(2048) NOT NULL,
+    directory BOOLEAN NOT NULL,
+    size BIGINT NOT NULL DEFAULT 0,
+    status VARCHAR(16) NOT NULL,
+    error_message VARCHAR(1024)
+);
+
+CREATE INDEX job_items_job_status_idx ON storage.job_items (job_id, status, directory, id);
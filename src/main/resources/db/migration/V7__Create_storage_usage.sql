@@ -0,0 +1,10 @@
+CREATE TABLE storage.storage_usage(
+    user_id BIGINT PRIMARY KEY REFERENCES storage.users(id) ON DELETE CASCADE,
+    used_bytes BIGINT NOT NULL DEFAULT 0,
+    object_count BIGINT NOT NULL DEFAULT 0,
+    version BIGINT NOT NULL DEFAULT 0,
+    reconciled_at TIMESTAMPTZ
+);
+
+INSERT INTO storage.storage_usage (user_id)
+SELECT id FROM storage.users;
@@ -0,0 +1,7 @@
+CREATE TABLE storage.directory_stats(
+    path VARCHAR(2048) PRIMARY KEY,
+    size BIGINT NOT NULL DEFAULT 0,
+    object_count BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE INDEX idx_directory_stats_path_pattern ON storage.directory_stats (path varchar_pattern_ops);
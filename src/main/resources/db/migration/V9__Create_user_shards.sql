@@ -0,0 +1,10 @@
+CREATE TABLE storage.user_shards(
+    root_dir VARCHAR(255) PRIMARY KEY,
+    shard_name VARCHAR(64) NOT NULL,
+    target_shard_name VARCHAR(64),
+    state VARCHAR(16) NOT NULL,
+    updated_at TIMESTAMPTZ NOT NULL
+);
+
+INSERT INTO storage.user_shards (root_dir, shard_name, state, updated_at)
+SELECT 'user-' || id || '-files/', 'default', 'ACTIVE', now() FROM storage.users;
@@ -0,0 +1,66 @@
+package com.cloud.cloudstorage.config.minio;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MinioBuilderTest {
+    private MeterRegistry meterRegistry;
+    private OkHttpClient client;
+
+    @BeforeEach
+    void setUp() {
+        MinioProperties minioProperties = new MinioProperties();
+        MinioProperties.Http http = minioProperties.getHttp();
+        http.setMaxIdleConnections(12);
+        http.setKeepAlive(Duration.ofSeconds(90));
+        http.setConnectTimeout(Duration.ofSeconds(3));
+        http.setReadTimeout(Duration.ofSeconds(40));
+        http.setWriteTimeout(Duration.ofSeconds(50));
+        http.setMaxRequests(77);
+        http.setMaxRequestsPerHost(33);
+        meterRegistry = new SimpleMeterRegistry();
+
+        client = new MinioBuilder(minioProperties).minioHttpClient(meterRegistry, ObservationRegistry.NOOP);
+    }
+
+    @Test
+    void shouldApplyDispatcherLimits() {
+        assertThat(client.dispatcher().getMaxRequests()).isEqualTo(77);
+        assertThat(client.dispatcher().getMaxRequestsPerHost()).isEqualTo(33);
+    }
+
+    @Test
+    void shouldApplyConnectionPoolSettings() {
+        Object pool = ReflectionTestUtils.getField(client.connectionPool(), "delegate");
+
+        assertThat(ReflectionTestUtils.getField(pool, "maxIdleConnections")).isEqualTo(12);
+        assertThat(ReflectionTestUtils.getField(pool, "keepAliveDurationNs")).isEqualTo(Duration.ofSeconds(90).toNanos());
+    }
+
+    @Test
+    void shouldApplyTimeoutsAndProtocol() {
+        assertThat(client.connectTimeoutMillis()).isEqualTo(3_000);
+        assertThat(client.readTimeoutMillis()).isEqualTo(40_000);
+        assertThat(client.writeTimeoutMillis()).isEqualTo(50_000);
+        assertThat(client.protocols()).isEqualTo(List.of(Protocol.HTTP_1_1));
+    }
+
+    @Test
+    void shouldPublishPoolMetrics() {
+        assertThat(meterRegistry.get("minio.connections.active").gauge().value()).isZero();
+        assertThat(meterRegistry.get("minio.connections.idle").gauge().value()).isZero();
+        assertThat(meterRegistry.get("minio.calls.running").gauge().value()).isZero();
+        assertThat(meterRegistry.get("minio.calls.queued").gauge().value()).isZero();
+    }
+}
@@ -0,0 +1,119 @@
+package com.cloud.cloudstorage.config.security;
+
+import com.cloud.cloudstorage.exception.PasswordHashingRejectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BoundedPasswordEncoderTest {
+    private static final Duration LONG_WAIT = Duration.ofSeconds(10);
+    private static final Duration SHORT_WAIT = Duration.ofMillis(100);
+
+    private final CountDownLatch released = new CountDownLatch(1);
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @AfterEach
+    void tearDown() {
+        released.countDown();
+        if (passwordEncoder != null) {
+            passwordEncoder.close();
+        }
+    }
+
+    @Test
+    void shouldHashThroughDelegate() {
+        passwordEncoder = createPasswordEncoder(new PlainPasswordEncoder(), LONG_WAIT);
+
+        assertThat(passwordEncoder.encode("password")).isEqualTo("encoded-password");
+        assertThat(passwordEncoder.matches("password", "encoded-password")).isTrue();
+    }
+
+    @Test
+    void shouldRejectWhenMaxWaitPasses() {
+        passwordEncoder = createPasswordEncoder(new BlockingPasswordEncoder(new CountDownLatch(1)), SHORT_WAIT);
+        long startedAt = System.nanoTime();
+
+        assertThrows(PasswordHashingRejectedException.class, () -> passwordEncoder.encode("password"));
+
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(LONG_WAIT);
+    }
+
+    @Test
+    void shouldRejectImmediatelyWhenQueueIsFull() throws InterruptedException {
+        CountDownLatch running = new CountDownLatch(1);
+        passwordEncoder = createPasswordEncoder(new BlockingPasswordEncoder(running), LONG_WAIT);
+        Thread runningCaller = startCaller();
+        assertThat(running.await(LONG_WAIT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+        Thread queuedCaller = startCaller();
+        awaitWaiting(queuedCaller);
+        long startedAt = System.nanoTime();
+
+        assertThrows(PasswordHashingRejectedException.class, () -> passwordEncoder.matches("password", "encoded"));
+
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(LONG_WAIT);
+        released.countDown();
+        runningCaller.join(LONG_WAIT.toMillis());
+        queuedCaller.join(LONG_WAIT.toMillis());
+    }
+
+    private Thread startCaller() {
+        Thread caller = new Thread(() -> passwordEncoder.encode("password"));
+        caller.start();
+        return caller;
+    }
+
+    private void awaitWaiting(Thread caller) throws InterruptedException {
+        long deadline = System.nanoTime() + LONG_WAIT.toNanos();
+        while (caller.getState() != Thread.State.TIMED_WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(caller.getState()).isEqualTo(Thread.State.TIMED_WAITING);
+    }
+
+    private BoundedPasswordEncoder createPasswordEncoder(PasswordEncoder delegate, Duration maxWait) {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setThreads(1);
+        properties.setQueueCapacity(1);
+        properties.setMaxWait(maxWait);
+        return new BoundedPasswordEncoder(delegate, properties, new SimpleMeterRegistry());
+    }
+
+    private static class PlainPasswordEncoder implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return "encoded-" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+
+    private class BlockingPasswordEncoder extends PlainPasswordEncoder {
+        private final CountDownLatch running;
+
+        private BlockingPasswordEncoder(CountDownLatch running) {
+            this.running = running;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            running.countDown();
+            try {
+                released.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return super.encode(rawPassword);
+        }
+    }
+}
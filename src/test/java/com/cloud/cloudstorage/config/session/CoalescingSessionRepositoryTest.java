@@ -0,0 +1,112 @@
+package com.cloud.cloudstorage.config.session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.session.MapSession;
+import org.springframework.session.data.redis.RedisSessionRepository;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CoalescingSessionRepositoryTest {
+    private static final String CHANNEL = "session-invalidation";
+    private static final String ATTRIBUTE = "attribute";
+
+    private RedisSessionRepository delegate;
+    private StringRedisTemplate redisTemplate;
+    private Cache<String, MapSession> nearCache;
+    private CoalescingSessionRepository repository;
+    private RedisSessionRepository.RedisSession storedSession;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(RedisSessionRepository.class);
+        redisTemplate = mock(StringRedisTemplate.class);
+        nearCache = Caffeine.newBuilder().build();
+        repository = new CoalescingSessionRepository(
+                delegate, Duration.ofMinutes(1), nearCache, redisTemplate, CHANNEL);
+
+        storedSession = new RedisSessionRepository(mock(RedisOperations.class)).createSession();
+        storedSession.setAttribute(ATTRIBUTE, "value");
+        when(delegate.findById(storedSession.getId())).thenReturn(storedSession);
+    }
+
+    @Test
+    void shouldServeRepeatedReadsFromSnapshot() {
+        String id = storedSession.getId();
+
+        repository.findById(id);
+        CoalescingSessionRepository.CoalescedSession result = repository.findById(id);
+
+        assertThat(result.getId()).isEqualTo(id);
+        assertThat(result.<String>getAttribute(ATTRIBUTE)).isEqualTo("value");
+        verify(delegate, times(1)).findById(id);
+    }
+
+    @Test
+    void shouldInvalidateSnapshotAfterLogout() {
+        String id = storedSession.getId();
+        repository.findById(id);
+
+        repository.deleteById(id);
+        when(delegate.findById(id)).thenReturn(null);
+
+        assertThat(nearCache.getIfPresent(id)).isNull();
+        assertThat(repository.findById(id)).isNull();
+        verify(delegate).deleteById(id);
+        verify(redisTemplate).convertAndSend(CHANNEL, id);
+    }
+
+    @Test
+    void shouldMaterializeSnapshotOnWrite() {
+        String id = storedSession.getId();
+        repository.findById(id);
+        CoalescingSessionRepository.CoalescedSession snapshot = repository.findById(id);
+        verify(delegate, times(1)).findById(id);
+
+        snapshot.setAttribute(ATTRIBUTE, "updated");
+        repository.save(snapshot);
+
+        verify(delegate, times(2)).findById(id);
+        verify(delegate).save(storedSession);
+        assertThat(storedSession.<String>getAttribute(ATTRIBUTE)).isEqualTo("updated");
+        assertThat(nearCache.getIfPresent(id).<String>getAttribute(ATTRIBUTE)).isEqualTo("updated");
+    }
+
+    @Test
+    void shouldNotSaveUnmodifiedSnapshot() {
+        String id = storedSession.getId();
+        repository.findById(id);
+
+        repository.save(repository.findById(id));
+
+        verify(delegate, never()).save(storedSession);
+    }
+
+    @Test
+    void shouldEvictLocallyWhenPublishFails() {
+        String id = storedSession.getId();
+        repository.findById(id);
+        doThrow(new RedisConnectionFailureException("Redis is down"))
+                .when(redisTemplate).convertAndSend(eq(CHANNEL), anyString());
+
+        repository.deleteById(id);
+
+        assertThat(nearCache.getIfPresent(id)).isNull();
+        verify(delegate).deleteById(id);
+    }
+}
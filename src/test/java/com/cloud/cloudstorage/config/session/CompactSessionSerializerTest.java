@@ -0,0 +1,127 @@
+package com.cloud.cloudstorage.config.session;
+
+import com.cloud.cloudstorage.config.security.UserPrincipal;
+import com.cloud.cloudstorage.service.impl.PathAdapterServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.core.userdetails.User;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompactSessionSerializerTest {
+    private static final long USER_ID = 42L;
+    private static final String USERNAME = "test-user";
+    private static final List<GrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+    private MeterRegistry meterRegistry;
+    private CompactSessionSerializer serializer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        serializer = new CompactSessionSerializer(new PathAdapterServiceImpl(), meterRegistry);
+    }
+
+    @Test
+    void shouldRoundTripSecurityContext() {
+        UserPrincipal principal = new UserPrincipal(USER_ID, "user-42-files/", USERNAME, "password", AUTHORITIES);
+        SecurityContext context = new SecurityContextImpl(
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, AUTHORITIES));
+
+        SecurityContext result = (SecurityContext) serializer.deserialize(serializer.serialize(context));
+
+        UserPrincipal resultPrincipal = (UserPrincipal) result.getAuthentication().getPrincipal();
+        assertThat(result.getAuthentication().isAuthenticated()).isTrue();
+        assertThat(resultPrincipal.getId()).isEqualTo(USER_ID);
+        assertThat(resultPrincipal.getUsername()).isEqualTo(USERNAME);
+        assertThat(resultPrincipal.getRootDir()).isEqualTo("user-42-files/");
+        assertThat(resultPrincipal.getAuthorities()).containsExactlyElementsOf(AUTHORITIES);
+        assertThat(getPayloadCount("compact")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRoundTripPrimitiveValues() {
+        assertThat(serializer.deserialize(serializer.serialize(1_700_000_000_000L))).isEqualTo(1_700_000_000_000L);
+        assertThat(serializer.deserialize(serializer.serialize(1800))).isEqualTo(1800);
+        assertThat(serializer.deserialize(serializer.serialize("/api/resource"))).isEqualTo("/api/resource");
+        assertThat(getPayloadCount("compact")).isEqualTo(3);
+        assertThat(getPayloadCount("jdk")).isZero();
+    }
+
+    @Test
+    void shouldRoundTripStringLongerThanModifiedUtf8Limit() {
+        String value = "ж".repeat(70_000);
+
+        assertThat(serializer.deserialize(serializer.serialize(value))).isEqualTo(value);
+        assertThat(getPayloadCount("compact")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldFallBackToJdkSerialization() {
+        Instant value = Instant.parse("2026-01-01T00:00:00Z");
+        User user = new User(USERNAME, "password", AUTHORITIES);
+        SecurityContext context = new SecurityContextImpl(
+                UsernamePasswordAuthenticationToken.authenticated(user, null, AUTHORITIES));
+
+        assertThat(serializer.deserialize(serializer.serialize(value))).isEqualTo(value);
+        SecurityContext result = (SecurityContext) serializer.deserialize(serializer.serialize(context));
+
+        assertThat(result.getAuthentication().getName()).isEqualTo(USERNAME);
+        assertThat(getPayloadCount("jdk")).isEqualTo(2);
+        assertThat(getPayloadCount("compact")).isZero();
+    }
+
+    @Test
+    void shouldFallBackToJdkSerializationForLongUsername() {
+        String username = "u".repeat(70_000);
+        UserPrincipal principal = new UserPrincipal(USER_ID, "user-42-files/", username, "password", AUTHORITIES);
+        SecurityContext context = new SecurityContextImpl(
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, AUTHORITIES));
+
+        SecurityContext result = (SecurityContext) serializer.deserialize(serializer.serialize(context));
+
+        assertThat(result.getAuthentication().getName()).isEqualTo(username);
+        assertThat(getPayloadCount("jdk")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReadLegacyPayloads() throws IOException {
+        JdkSerializationRedisSerializer jdkSerializer = new JdkSerializationRedisSerializer();
+        UserPrincipal principal = new UserPrincipal(USER_ID, "user-42-files/", USERNAME, "", AUTHORITIES);
+        SecurityContext context = new SecurityContextImpl(
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, AUTHORITIES));
+
+        SecurityContext result = (SecurityContext) serializer.deserialize(jdkSerializer.serialize(context));
+
+        assertThat(((UserPrincipal) result.getAuthentication().getPrincipal()).getId()).isEqualTo(USER_ID);
+        assertThat(serializer.deserialize(jdkSerializer.serialize(1800))).isEqualTo(1800);
+        assertThat(serializer.deserialize(createLegacyStringPayload("/api/resource"))).isEqualTo("/api/resource");
+    }
+
+    private byte[] createLegacyStringPayload(String value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeByte(4);
+            output.writeUTF(value);
+        }
+        return bytes.toByteArray();
+    }
+
+    private long getPayloadCount(String format) {
+        return meterRegistry.get("session.payload.size").tag("format", format).summary().count();
+    }
+}
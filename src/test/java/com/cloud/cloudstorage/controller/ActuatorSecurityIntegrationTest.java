@@ -0,0 +1,55 @@
+package com.cloud.cloudstorage.controller;
+
+import com.cloud.cloudstorage.BaseIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "management.endpoints.web.exposure.include=health,metrics,prometheus")
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_CLASS)
+class ActuatorSecurityIntegrationTest extends BaseIntegrationTest {
+    private static final String HEALTH_URL = "/actuator/health";
+    private static final String METRICS_URL = "/actuator/metrics";
+    private static final String PROMETHEUS_URL = "/actuator/prometheus";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void shouldExposeHealthWithoutAuthentication() throws Exception {
+        mockMvc.perform(get(HEALTH_URL))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void shouldRejectMetricsWithoutAuthentication() throws Exception {
+        mockMvc.perform(get(METRICS_URL))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get(PROMETHEUS_URL))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @WithMockUser(username = "test-user")
+    void shouldRejectMetricsForRegularUser() throws Exception {
+        mockMvc.perform(get(METRICS_URL))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get(PROMETHEUS_URL))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void shouldExposeMetricsForAdmin() throws Exception {
+        mockMvc.perform(get(METRICS_URL))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,73 @@
+package com.cloud.cloudstorage.controller;
+
+import com.cloud.cloudstorage.BaseIntegrationTest;
+import com.cloud.cloudstorage.config.security.BoundedPasswordEncoder;
+import com.cloud.cloudstorage.dto.UserAuthDto;
+import com.cloud.cloudstorage.dto.UserCreateDto;
+import com.cloud.cloudstorage.exception.PasswordHashingRejectedException;
+import com.cloud.cloudstorage.service.UserAccountService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_CLASS)
+class PasswordHashingRejectionIntegrationTest extends BaseIntegrationTest {
+    private static final String USERNAME = "test-user";
+    private static final String PASSWORD = "test-password";
+    private static final String ENCODED_PASSWORD = "encoded-password";
+    private static final String SIGN_IN_URL = "/api/auth/sign-in";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserAccountService userAccountService;
+
+    @MockitoBean
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        when(passwordEncoder.encode(any())).thenReturn(ENCODED_PASSWORD);
+        when(passwordEncoder.matches(any(), anyString())).thenReturn(true);
+        UserCreateDto userCreateDto = new UserCreateDto(USERNAME, PASSWORD, "test-email@gmail.com");
+        userAccountService.registerNewUser(userCreateDto, new MockHttpServletRequest());
+    }
+
+    @Test
+    void shouldRejectSignInWhenPasswordHashingIsSaturated() throws Exception {
+        when(passwordEncoder.matches(any(), anyString())).thenThrow(new PasswordHashingRejectedException());
+
+        mockMvc.perform(post(SIGN_IN_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UserAuthDto(USERNAME, PASSWORD))))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                .andExpect(jsonPath("$.message").value(PasswordHashingRejectedException.getErrorMessage()))
+                .andExpect(jsonPath("$.status").value(HttpStatus.SERVICE_UNAVAILABLE.value()))
+                .andExpect(jsonPath("$.path").value(SIGN_IN_URL));
+    }
+}
@@ -0,0 +1,60 @@
+package com.cloud.cloudstorage.controller;
+
+import com.cloud.cloudstorage.BaseIntegrationTest;
+import com.cloud.cloudstorage.dto.UserCreateDto;
+import com.cloud.cloudstorage.service.UserAccountService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "rate-limit.enabled=true",
+        "rate-limit.backend=local",
+        "rate-limit.operations.search.capacity=1",
+        "rate-limit.operations.search.refill-period=PT1H",
+        "rate-limit.operations.search.max-concurrent=1"
+})
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_CLASS)
+class RateLimitIntegrationTest extends BaseIntegrationTest {
+    private static final String USERNAME = "test-user";
+    private static final String SEARCH_URL = "/api/resource/search";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserAccountService userAccountService;
+
+    @BeforeEach
+    void setUp() {
+        UserCreateDto userCreateDto = new UserCreateDto(USERNAME, "test-password", "test-email@gmail.com");
+        userAccountService.registerNewUser(userCreateDto, new MockHttpServletRequest());
+    }
+
+    @Test
+    @WithMockUser(username = USERNAME)
+    void shouldRejectSearchOverRateLimit() throws Exception {
+        mockMvc.perform(get(SEARCH_URL).param("query", "file"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get(SEARCH_URL).param("query", "file"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                .andExpect(jsonPath("$.status").value(HttpStatus.TOO_MANY_REQUESTS.value()))
+                .andExpect(jsonPath("$.path").value(SEARCH_URL));
+    }
+}
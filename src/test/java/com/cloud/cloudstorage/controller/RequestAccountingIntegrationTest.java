@@ -0,0 +1,97 @@
+package com.cloud.cloudstorage.controller;
+
+import com.cloud.cloudstorage.BaseIntegrationTest;
+import com.cloud.cloudstorage.dto.UserCreateDto;
+import com.cloud.cloudstorage.service.ResourceService;
+import com.cloud.cloudstorage.service.UserAccountService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "accounting.enabled=true",
+        "accounting.budgets[0].method=GET",
+        "accounting.budgets[0].uri=/api/directory",
+        "accounting.budgets[0].minio=0",
+        "accounting.budgets[0].database=1000"
+})
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_CLASS)
+class RequestAccountingIntegrationTest extends BaseIntegrationTest {
+    private static final String USERNAME = "test-user";
+    private static final String DIRECTORY_URL = "/api/directory";
+    private static final String ENDPOINT = "GET " + DIRECTORY_URL;
+    private static final String DIRECTORY_PATH = "test-dir/";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserAccountService userAccountService;
+
+    @Autowired
+    private ResourceService resourceService;
+
+    @BeforeEach
+    void setUp() {
+        UserCreateDto userCreateDto = new UserCreateDto(USERNAME, "test-password", "test-email@gmail.com");
+        userAccountService.registerNewUser(userCreateDto, new MockHttpServletRequest());
+        User user = new User(USERNAME, "test-password", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        resourceService.createEmptyDirectory(DIRECTORY_PATH, user);
+    }
+
+    @Test
+    @WithMockUser(username = USERNAME)
+    void shouldRecordBudgetOverrunWithoutFailingRequest() throws Exception {
+        double minioOverruns = getBudgetOverruns("minio");
+        double databaseOverruns = getBudgetOverruns("database");
+
+        mockMvc.perform(get(DIRECTORY_URL).param("path", DIRECTORY_PATH))
+                .andExpect(status().isOk());
+
+        assertThat(getBudgetOverruns("minio")).isEqualTo(minioOverruns + 1);
+        assertThat(getBudgetOverruns("database")).isEqualTo(databaseOverruns);
+    }
+
+    @Test
+    @WithMockUser(username = USERNAME)
+    void shouldRecordCallsPerEndpoint() throws Exception {
+        mockMvc.perform(get(DIRECTORY_URL).param("path", DIRECTORY_PATH))
+                .andExpect(status().isOk());
+
+        DistributionSummary minioCalls = meterRegistry.find("request.storage.calls")
+                .tags("method", "GET", "uri", DIRECTORY_URL, "backend", "minio")
+                .summary();
+
+        assertThat(minioCalls).isNotNull();
+        assertThat(minioCalls.count()).isPositive();
+        assertThat(minioCalls.max()).isPositive();
+    }
+
+    private double getBudgetOverruns(String backend) {
+        Counter counter = meterRegistry.find("request.storage.budget.exceeded")
+                .tags("endpoint", ENDPOINT, "backend", backend)
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
@@ -0,0 +1,90 @@
+package com.cloud.cloudstorage.controller;
+
+import com.cloud.cloudstorage.BaseIntegrationTest;
+import com.cloud.cloudstorage.dto.UserCreateDto;
+import com.cloud.cloudstorage.service.ResourceService;
+import com.cloud.cloudstorage.service.UserAccountService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "storage.usage.quota=100KB")
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_CLASS)
+class StorageQuotaIntegrationTest extends BaseIntegrationTest {
+    private static final String USERNAME = "test-user";
+    private static final String UPLOAD_URL = "/api/resource";
+    private static final String DIRECTORY_PATH = "test-dir/";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserAccountService userAccountService;
+
+    @Autowired
+    private ResourceService resourceService;
+
+    @BeforeEach
+    void setUp() {
+        UserCreateDto userCreateDto = new UserCreateDto(USERNAME, "test-password", "test-email@gmail.com");
+        userAccountService.registerNewUser(userCreateDto, new MockHttpServletRequest());
+        User user = new User(USERNAME, "test-password", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        resourceService.createEmptyDirectory(DIRECTORY_PATH, user);
+    }
+
+    @Test
+    @WithMockUser(username = USERNAME)
+    void shouldRejectUploadByContentLength() throws Exception {
+        byte[] content = new byte[(int) DataSize.ofKilobytes(200).toBytes()];
+
+        mockMvc.perform(multipart(UPLOAD_URL)
+                        .file(createFile("large.bin", content))
+                        .param("path", DIRECTORY_PATH)
+                        .with(request -> {
+                            request.setContent(content);
+                            return request;
+                        }))
+                .andExpect(status().is(HttpStatus.CONTENT_TOO_LARGE.value()))
+                .andExpect(jsonPath("$.status").value(HttpStatus.CONTENT_TOO_LARGE.value()))
+                .andExpect(jsonPath("$.path").value(UPLOAD_URL));
+    }
+
+    @Test
+    @WithMockUser(username = USERNAME)
+    void shouldRejectUploadWhenReservationExceedsQuota() throws Exception {
+        byte[] content = new byte[(int) DataSize.ofKilobytes(80).toBytes()];
+
+        mockMvc.perform(multipart(UPLOAD_URL)
+                        .file(createFile("first.bin", content))
+                        .param("path", DIRECTORY_PATH))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(multipart(UPLOAD_URL)
+                        .file(createFile("second.bin", content))
+                        .param("path", DIRECTORY_PATH))
+                .andExpect(status().is(HttpStatus.CONTENT_TOO_LARGE.value()))
+                .andExpect(jsonPath("$.status").value(HttpStatus.CONTENT_TOO_LARGE.value()));
+    }
+
+    private MockMultipartFile createFile(String filename, byte[] content) {
+        return new MockMultipartFile("multipartFile", filename, "application/octet-stream", content);
+    }
+}
@@ -0,0 +1,117 @@
+package com.cloud.cloudstorage.controller;
+
+import com.cloud.cloudstorage.BaseIntegrationTest;
+import com.cloud.cloudstorage.dto.TokenRefreshDto;
+import com.cloud.cloudstorage.dto.UserAuthDto;
+import com.cloud.cloudstorage.dto.UserCreateDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "security.token.enabled=true",
+        "security.token.secret=test-token-secret-0123456789abcdef"
+})
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_CLASS)
+class TokenAuthenticationIntegrationTest extends BaseIntegrationTest {
+    private static final String USERNAME = "test-user";
+    private static final String PASSWORD = "test-password";
+    private static final String EMAIL = "test@gmail.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockMvc.perform(post("/api/auth/sign-up")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UserCreateDto(USERNAME, PASSWORD, EMAIL))))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    void shouldIssueTokensWithoutSessionOnSignIn() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/auth/sign-in")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UserAuthDto(USERNAME, PASSWORD))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.username").value(USERNAME))
+                .andExpect(jsonPath("$.token.tokenType").value("Bearer"))
+                .andExpect(jsonPath("$.token.accessToken").isNotEmpty())
+                .andExpect(jsonPath("$.token.refreshToken").isNotEmpty())
+                .andReturn();
+
+        assertThat(result.getRequest().getSession(false)).isNull();
+    }
+
+    @Test
+    void shouldAuthenticateWithAccessToken() throws Exception {
+        JsonNode token = signIn();
+
+        mockMvc.perform(get("/api/user/me")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token.get("accessToken").asText()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.username").value(USERNAME));
+    }
+
+    @Test
+    void shouldRejectRefreshTokenAsAccessToken() throws Exception {
+        JsonNode token = signIn();
+
+        mockMvc.perform(get("/api/user/me")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token.get("refreshToken").asText()))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void shouldIssueNewTokensOnRefresh() throws Exception {
+        JsonNode token = signIn();
+
+        mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new TokenRefreshDto(token.get("refreshToken").asText()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.username").value(USERNAME))
+                .andExpect(jsonPath("$.token.accessToken").isNotEmpty());
+    }
+
+    @Test
+    void shouldRejectAccessTokenOnRefresh() throws Exception {
+        JsonNode token = signIn();
+
+        mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new TokenRefreshDto(token.get("accessToken").asText()))))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private JsonNode signIn() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/auth/sign-in")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UserAuthDto(USERNAME, PASSWORD))))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("token");
+    }
+}
@@ -0,0 +1,100 @@
+package com.cloud.cloudstorage.service;
+
+import com.cloud.cloudstorage.config.buffer.BufferPoolProperties;
+import com.cloud.cloudstorage.service.impl.BufferPoolServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BufferPoolServiceTest {
+    private static final int BUFFER_SIZE = 16;
+    private static final int MAX_POOLED = 2;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldAllocateWhenPoolIsExhausted() {
+        BufferPoolServiceImpl bufferPoolService = createBufferPool(false);
+
+        List<ByteBuffer> buffers = IntStream.range(0, MAX_POOLED + 1)
+                .mapToObj(i -> bufferPoolService.acquire())
+                .toList();
+
+        assertThat(buffers).allSatisfy(buffer -> assertThat(buffer.capacity()).isEqualTo(BUFFER_SIZE));
+        assertThat(getCount("buffer.pool.acquired")).isEqualTo(MAX_POOLED + 1);
+        assertThat(getCount("buffer.pool.allocated")).isEqualTo(MAX_POOLED + 1);
+        assertThat(getCount("buffer.pool.allocated.bytes")).isEqualTo((MAX_POOLED + 1) * BUFFER_SIZE);
+    }
+
+    @Test
+    void shouldDiscardBuffersBeyondPoolCapacity() {
+        BufferPoolServiceImpl bufferPoolService = createBufferPool(false);
+        List<ByteBuffer> buffers = IntStream.range(0, MAX_POOLED + 1)
+                .mapToObj(i -> bufferPoolService.acquire())
+                .toList();
+
+        buffers.forEach(bufferPoolService::release);
+
+        assertThat(getCount("buffer.pool.discarded")).isEqualTo(1);
+        assertThat(meterRegistry.get("buffer.pool.available").gauge().value()).isEqualTo(MAX_POOLED);
+    }
+
+    @Test
+    void shouldReuseReleasedBuffer() {
+        BufferPoolServiceImpl bufferPoolService = createBufferPool(false);
+        ByteBuffer buffer = bufferPoolService.acquire();
+        buffer.put((byte) 1);
+
+        bufferPoolService.release(buffer);
+        ByteBuffer reused = bufferPoolService.acquire();
+
+        assertThat(reused).isSameAs(buffer);
+        assertThat(reused.position()).isZero();
+        assertThat(getCount("buffer.pool.allocated")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCopyThroughHeapBuffer() throws IOException {
+        assertCopiesContent(createBufferPool(false));
+    }
+
+    @Test
+    void shouldCopyThroughDirectBuffer() throws IOException {
+        BufferPoolServiceImpl bufferPoolService = createBufferPool(true);
+
+        assertThat(bufferPoolService.acquire().isDirect()).isTrue();
+        assertCopiesContent(bufferPoolService);
+    }
+
+    private void assertCopiesContent(BufferPoolServiceImpl bufferPoolService) throws IOException {
+        byte[] content = "content longer than a single pooled buffer".getBytes();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        long copied = bufferPoolService.copy(new ByteArrayInputStream(content), outputStream);
+
+        assertThat(copied).isEqualTo(content.length);
+        assertThat(outputStream.toByteArray()).isEqualTo(content);
+    }
+
+    private BufferPoolServiceImpl createBufferPool(boolean direct) {
+        BufferPoolProperties bufferPoolProperties = new BufferPoolProperties();
+        bufferPoolProperties.setBufferSize(DataSize.ofBytes(BUFFER_SIZE));
+        bufferPoolProperties.setMaxPooled(MAX_POOLED);
+        bufferPoolProperties.setDirect(direct);
+        return new BufferPoolServiceImpl(bufferPoolProperties, meterRegistry);
+    }
+
+    private double getCount(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+}
@@ -0,0 +1,138 @@
+package com.cloud.cloudstorage.service;
+
+import com.cloud.cloudstorage.BaseIntegrationTest;
+import com.cloud.cloudstorage.config.accounting.RequestCallCounter;
+import com.cloud.cloudstorage.config.security.UserPrincipal;
+import com.cloud.cloudstorage.dto.FileUploadDto;
+import com.cloud.cloudstorage.dto.UserCreateDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_CLASS)
+public class CallBudgetIntegrationTest extends BaseIntegrationTest {
+    private static final String DIRECTORY_PATH = "test-dir/";
+    private static final long LISTING_MINIO_BUDGET = 2;
+
+    @Autowired
+    private ResourceService resourceService;
+
+    @Autowired
+    private UserAccountService userAccountService;
+
+    @Autowired
+    private CurrentUserService currentUserService;
+
+    @Autowired
+    private PathBuilderService pathBuilderService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        registerNewUser();
+        user = createUserDetails();
+        resourceService.createEmptyDirectory(DIRECTORY_PATH, user);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestCallCounter.clear();
+    }
+
+    @Test
+    void shouldListDirectoryWithinMinioBudget() {
+        uploadFiles(1);
+        RequestCallCounter counter = measure(() -> resourceService.getDirectoryContent(DIRECTORY_PATH, user));
+
+        assertThat(counter.getMinioCalls()).isLessThanOrEqualTo(LISTING_MINIO_BUDGET);
+    }
+
+    @Test
+    void shouldNotGrowCallsWithDirectorySize() {
+        uploadFiles(1);
+        RequestCallCounter small = measure(() -> resourceService.getDirectoryContent(DIRECTORY_PATH, user));
+
+        uploadFiles(20);
+        RequestCallCounter large = measure(() -> resourceService.getDirectoryContent(DIRECTORY_PATH, user));
+
+        assertThat(large.getMinioCalls()).isEqualTo(small.getMinioCalls());
+        assertThat(large.getDatabaseCalls()).isLessThanOrEqualTo(small.getDatabaseCalls());
+    }
+
+    @Test
+    void shouldNotGrowSearchCallsWithTreeSize() {
+        uploadFiles(1);
+        RequestCallCounter small = measure(() -> resourceService.getSearchedContent("file", user));
+
+        uploadFiles(20);
+        RequestCallCounter large = measure(() -> resourceService.getSearchedContent("file", user));
+
+        assertThat(large.getMinioCalls()).isEqualTo(small.getMinioCalls());
+        assertThat(large.getDatabaseCalls()).isLessThanOrEqualTo(small.getDatabaseCalls());
+    }
+
+    @Test
+    void shouldNotLookUpUserForPrincipal() {
+        uploadFiles(1);
+        Long userId = currentUserService.getCurrentUserId(user);
+        UserPrincipal principal = new UserPrincipal(
+                userId,
+                pathBuilderService.createRootDirName(userId),
+                user.getUsername(),
+                user.getPassword(),
+                user.getAuthorities()
+        );
+
+        RequestCallCounter withUser = measure(() -> resourceService.getDirectoryContent(DIRECTORY_PATH, user));
+        RequestCallCounter withPrincipal = measure(() -> resourceService.getDirectoryContent(DIRECTORY_PATH, principal));
+
+        assertThat(withPrincipal.getDatabaseCalls()).isLessThan(withUser.getDatabaseCalls());
+    }
+
+    private RequestCallCounter measure(Runnable action) {
+        RequestCallCounter counter = RequestCallCounter.start();
+        try {
+            action.run();
+        } finally {
+            RequestCallCounter.clear();
+        }
+        return counter;
+    }
+
+    private void uploadFiles(int count) {
+        List<MultipartFile> files = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            files.add(new MockMultipartFile(
+                    "file",
+                    "file-" + System.nanoTime() + "-" + i + ".txt",
+                    "text/plain",
+                    "Budget file".getBytes()
+            ));
+        }
+        resourceService.uploadFiles(DIRECTORY_PATH, new FileUploadDto(files), user);
+    }
+
+    private void registerNewUser() {
+        UserCreateDto userCreateDto = new UserCreateDto("test-user", "test-password", "test-email@gmail.com");
+        userAccountService.registerNewUser(userCreateDto, new MockHttpServletRequest());
+    }
+
+    private User createUserDetails() {
+        return new User("test-user", "test-password", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+}
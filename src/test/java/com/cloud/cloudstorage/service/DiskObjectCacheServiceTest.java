@@ -0,0 +1,128 @@
+package com.cloud.cloudstorage.service;
+
+import com.cloud.cloudstorage.config.buffer.BufferPoolProperties;
+import com.cloud.cloudstorage.config.cache.ObjectCacheProperties;
+import com.cloud.cloudstorage.service.impl.BufferPoolServiceImpl;
+import com.cloud.cloudstorage.service.impl.DiskObjectCacheServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DiskObjectCacheServiceTest {
+    private static final long MAX_SIZE = 10;
+    private static final long MAX_OBJECT_SIZE = 8;
+
+    @TempDir
+    Path directory;
+
+    private MeterRegistry meterRegistry;
+    private DiskObjectCacheServiceImpl objectCacheService;
+
+    @BeforeEach
+    void setUp() {
+        ObjectCacheProperties objectCacheProperties = new ObjectCacheProperties();
+        objectCacheProperties.setEnabled(true);
+        objectCacheProperties.setDirectory(directory.toString());
+        objectCacheProperties.setMaxSize(DataSize.ofBytes(MAX_SIZE));
+        objectCacheProperties.setMaxObjectSize(DataSize.ofBytes(MAX_OBJECT_SIZE));
+        meterRegistry = new SimpleMeterRegistry();
+        BufferPoolServiceImpl bufferPoolService = new BufferPoolServiceImpl(new BufferPoolProperties(), meterRegistry);
+        objectCacheService = new DiskObjectCacheServiceImpl(objectCacheProperties, bufferPoolService, meterRegistry);
+    }
+
+    @Test
+    void shouldServeSecondDownloadFromCache() throws IOException {
+        assertThat(objectCacheService.getCachedEtag("a")).isNull();
+        assertThat(copyThrough("a", "etag-1", "aaaa")).isEqualTo("aaaa");
+
+        assertThat(objectCacheService.getCachedEtag("a")).isEqualTo("etag-1");
+        assertThat(transferCached("a", "etag-1")).isEqualTo("aaaa");
+        assertThat(getRequests("hit")).isEqualTo(1);
+        assertThat(getRequests("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldMissForUnknownKey() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        assertThat(objectCacheService.transferCached("missing", "etag-1", outputStream)).isFalse();
+        assertThat(outputStream.size()).isZero();
+        assertThat(getRequests("hit")).isZero();
+    }
+
+    @Test
+    void shouldReplaceEntryWhenEtagChanges() throws IOException {
+        copyThrough("a", "etag-1", "aaaa");
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        assertThat(objectCacheService.transferCached("a", "etag-2", outputStream)).isFalse();
+
+        copyThrough("a", "etag-2", "bbbbbb");
+
+        assertThat(objectCacheService.getCachedEtag("a")).isEqualTo("etag-2");
+        assertThat(transferCached("a", "etag-2")).isEqualTo("bbbbbb");
+        assertThat(meterRegistry.get("object.cache.size").gauge().value()).isEqualTo(6);
+        assertThat(meterRegistry.get("object.cache.entries").gauge().value()).isEqualTo(1);
+        assertThat(countCacheFiles()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntry() throws IOException {
+        copyThrough("a", "etag-a", "aaaa");
+        copyThrough("b", "etag-b", "bbbb");
+        transferCached("a", "etag-a");
+
+        copyThrough("c", "etag-c", "cccc");
+
+        assertThat(objectCacheService.getCachedEtag("a")).isEqualTo("etag-a");
+        assertThat(objectCacheService.getCachedEtag("b")).isNull();
+        assertThat(objectCacheService.getCachedEtag("c")).isEqualTo("etag-c");
+        assertThat(meterRegistry.get("object.cache.size").gauge().value()).isEqualTo(8);
+        assertThat(countCacheFiles()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldBypassObjectsLargerThanMaxObjectSize() throws IOException {
+        String content = "x".repeat((int) MAX_OBJECT_SIZE + 1);
+
+        assertThat(objectCacheService.isCacheable(MAX_OBJECT_SIZE)).isTrue();
+        assertThat(objectCacheService.isCacheable(MAX_OBJECT_SIZE + 1)).isFalse();
+        assertThat(copyThrough("large", "etag-1", content)).isEqualTo(content);
+        assertThat(objectCacheService.getCachedEtag("large")).isNull();
+        assertThat(countCacheFiles()).isZero();
+    }
+
+    private String copyThrough(String cacheKey, String etag, String content) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        objectCacheService.copyThrough(cacheKey, etag, new ByteArrayInputStream(content.getBytes()), outputStream);
+        return outputStream.toString();
+    }
+
+    private String transferCached(String cacheKey, String etag) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        assertThat(objectCacheService.transferCached(cacheKey, etag, outputStream)).isTrue();
+        return outputStream.toString();
+    }
+
+    private double getRequests(String result) {
+        return meterRegistry.get("object.cache.requests").tag("result", result).counter().count();
+    }
+
+    private long countCacheFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.cloud.cloudstorage.service;
+
+import com.cloud.cloudstorage.BaseIntegrationTest;
+import com.cloud.cloudstorage.config.minio.MinioShard;
+import com.cloud.cloudstorage.config.minio.MinioShardRouter;
+import com.cloud.cloudstorage.dto.BaseResourceResponseDto;
+import com.cloud.cloudstorage.dto.FileUploadDto;
+import com.cloud.cloudstorage.dto.JobResponseDto;
+import com.cloud.cloudstorage.dto.StreamResourceDto;
+import com.cloud.cloudstorage.dto.UserCreateDto;
+import com.cloud.cloudstorage.dto.enums.JobStatus;
+import com.cloud.cloudstorage.dto.enums.JobType;
+import com.cloud.cloudstorage.dto.enums.ResourceType;
+import io.minio.StatObjectArgs;
+import io.minio.errors.ErrorResponseException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "minio.implicit-directories=true")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_CLASS)
+public class ImplicitDirectoriesIntegrationTest extends BaseIntegrationTest {
+    private static final String DIRECTORY_PATH = "test-dir/";
+    private static final String FILE_PATH = "nested/deep/file.txt";
+    private static final String CONTENT = "Implicit directory content";
+
+    @Autowired
+    private ResourceService resourceService;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private PathBuilderService pathBuilderService;
+
+    @Autowired
+    private UserAccountService userAccountService;
+
+    @Autowired
+    private CurrentUserService currentUserService;
+
+    @Autowired
+    private MinioShardRouter minioShardRouter;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        UserCreateDto userCreateDto = new UserCreateDto("test-user", "test-password", "test-email@gmail.com");
+        userAccountService.registerNewUser(userCreateDto, new MockHttpServletRequest());
+        user = new User("test-user", "test-password", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        resourceService.createEmptyDirectory(DIRECTORY_PATH, user);
+        MockMultipartFile file = new MockMultipartFile("files", FILE_PATH, "text/plain", CONTENT.getBytes());
+        resourceService.uploadFiles(DIRECTORY_PATH, new FileUploadDto(List.of(file)), user);
+    }
+
+    @Test
+    void shouldListDirectoriesWithoutMarkers() {
+        List<BaseResourceResponseDto> result = resourceService.getDirectoryContent(DIRECTORY_PATH, user);
+
+        assertThat(result).hasSize(1);
+        assertThat(result.getFirst().getType()).isEqualTo(ResourceType.DIRECTORY);
+        assertThat(resourceService.getDirectoryContent(DIRECTORY_PATH + "nested/deep/", user)).hasSize(1);
+        assertThat(hasMarker(DIRECTORY_PATH + "nested/")).isFalse();
+    }
+
+    @Test
+    void shouldDownloadDirectoryAsZip() throws IOException {
+        StreamResourceDto result = resourceService.downloadResource(DIRECTORY_PATH, user);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        result.body().writeTo(outputStream);
+
+        Map<String, String> entries = new HashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entries.put(entry.getName(), new String(zip.readAllBytes()));
+            }
+        }
+
+        assertThat(entries).containsEntry(DIRECTORY_PATH + FILE_PATH, CONTENT);
+        assertThat(entries).containsKeys(DIRECTORY_PATH + "nested/", DIRECTORY_PATH + "nested/deep/");
+    }
+
+    @Test
+    void shouldMoveDirectoryWithoutCreatingMarkers() {
+        String newPath = "moved-dir/";
+
+        resourceService.moveResource(DIRECTORY_PATH, newPath, user);
+
+        assertThat(resourceService.isResourceExisting(getFullPath(DIRECTORY_PATH))).isFalse();
+        assertThat(resourceService.isResourceExisting(getFullPath(newPath + FILE_PATH))).isTrue();
+        assertThat(hasMarker(newPath + "nested/")).isFalse();
+    }
+
+    @Test
+    void shouldCopyDirectoryJobWithoutCreatingMarkers() {
+        String copyPath = "test-dir-copy/";
+
+        JobResponseDto result = jobService.submitJob(JobType.COPY, DIRECTORY_PATH, copyPath, user);
+
+        assertThat(result.status()).isEqualTo(JobStatus.COMPLETED);
+        assertThat(resourceService.isResourceExisting(getFullPath(copyPath + FILE_PATH))).isTrue();
+        assertThat(hasMarker(copyPath + "nested/")).isFalse();
+        assertThat(hasMarker(copyPath + "nested/deep/")).isFalse();
+    }
+
+    @Test
+    void shouldKeepParentDirectoryAfterDeletingLastFile() {
+        resourceService.deleteResource(DIRECTORY_PATH + FILE_PATH, user);
+
+        assertThat(resourceService.isResourceExisting(getFullPath(DIRECTORY_PATH + "nested/deep/"))).isTrue();
+
+        resourceService.deleteResource(DIRECTORY_PATH, user);
+
+        assertThat(resourceService.isResourceExisting(getFullPath(DIRECTORY_PATH))).isFalse();
+        assertThat(resourceService.isResourceExisting(getFullPath(DIRECTORY_PATH + "nested/"))).isFalse();
+    }
+
+    private boolean hasMarker(String path) {
+        String fullPath = getFullPath(path);
+        MinioShard shard = minioShardRouter.route(fullPath);
+        try {
+            shard.client().statObject(StatObjectArgs.builder().bucket(shard.bucket()).object(fullPath).build());
+            return true;
+        } catch (ErrorResponseException e) {
+            return false;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String getFullPath(String path) {
+        Long userId = currentUserService.getCurrentUserId(user);
+        return pathBuilderService.createFullDirectoryPath(userId, path);
+    }
+}
@@ -0,0 +1,63 @@
+package com.cloud.cloudstorage.service;
+
+import com.cloud.cloudstorage.BaseIntegrationTest;
+import com.cloud.cloudstorage.dto.JobResponseDto;
+import com.cloud.cloudstorage.dto.UserCreateDto;
+import com.cloud.cloudstorage.dto.enums.JobStatus;
+import com.cloud.cloudstorage.dto.enums.JobType;
+import com.cloud.cloudstorage.exception.JobNotExistsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_CLASS)
+public class JobServiceIntegrationTest extends BaseIntegrationTest {
+    private static final String DIRECTORY_PATH = "test-dir/";
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private ResourceService resourceService;
+
+    @Autowired
+    private UserAccountService userAccountService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        UserCreateDto userCreateDto = new UserCreateDto("test-user", "test-password", "test-email@gmail.com");
+        userAccountService.registerNewUser(userCreateDto, new MockHttpServletRequest());
+        user = new User("test-user", "test-password", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+
+    @Test
+    void shouldCopySmallDirectorySynchronously() {
+        String copyPath = "test-dir-copy/";
+        resourceService.createEmptyDirectory(DIRECTORY_PATH, user);
+        resourceService.createEmptyDirectory(DIRECTORY_PATH + "nested/", user);
+
+        JobResponseDto result = jobService.submitJob(JobType.COPY, DIRECTORY_PATH, copyPath, user);
+
+        assertThat(result.status()).isEqualTo(JobStatus.COMPLETED);
+        assertThat(resourceService.getDirectoryContent(copyPath, user)).hasSize(1);
+        assertThat(resourceService.getDirectoryContent(DIRECTORY_PATH, user)).hasSize(1);
+    }
+
+    @Test
+    void shouldNotReturnUnknownJob() {
+        assertThrows(JobNotExistsException.class, () -> jobService.getJob(Long.MAX_VALUE, user));
+    }
+}
@@ -0,0 +1,207 @@
+package com.cloud.cloudstorage.service;
+
+import com.cloud.cloudstorage.BaseIntegrationTest;
+import com.cloud.cloudstorage.dto.FileUploadDto;
+import com.cloud.cloudstorage.dto.JobResponseDto;
+import com.cloud.cloudstorage.dto.UserCreateDto;
+import com.cloud.cloudstorage.dto.enums.JobStatus;
+import com.cloud.cloudstorage.dto.enums.JobType;
+import com.cloud.cloudstorage.model.Job;
+import com.cloud.cloudstorage.repository.JobRepository;
+import com.cloud.cloudstorage.service.impl.JobWorker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "jobs.sync-threshold=2",
+        "jobs.batch-size=2",
+        "jobs.poll-interval=PT1H"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_CLASS)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class JobWorkerIntegrationTest extends BaseIntegrationTest {
+    private static final String DIRECTORY_PATH = "test-dir/";
+    private static final int FILE_COUNT = 4;
+    private static final Duration JOB_TIMEOUT = Duration.ofSeconds(30);
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private JobWorker jobWorker;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ResourceService resourceService;
+
+    @Autowired
+    private UserAccountService userAccountService;
+
+    @Autowired
+    private CurrentUserService currentUserService;
+
+    @Autowired
+    private PathBuilderService pathBuilderService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        String username = "job-user-" + UUID.randomUUID().toString().substring(0, 8);
+        UserCreateDto userCreateDto = new UserCreateDto(username, "test-password", username + "@gmail.com");
+        userAccountService.registerNewUser(userCreateDto, new MockHttpServletRequest());
+        user = new User(username, "test-password", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+
+        resourceService.createEmptyDirectory(DIRECTORY_PATH, user);
+        List<MultipartFile> files = IntStream.range(0, FILE_COUNT)
+                .<MultipartFile>mapToObj(i -> new MockMultipartFile(
+                        "files", "file-" + i + ".txt", "text/plain", ("content " + i).getBytes()))
+                .toList();
+        resourceService.uploadFiles(DIRECTORY_PATH, new FileUploadDto(files), user);
+    }
+
+    @Test
+    void shouldCopyLargeDirectoryInBackground() throws InterruptedException {
+        String copyPath = "test-dir-copy/";
+
+        JobResponseDto submitted = jobService.submitJob(JobType.COPY, DIRECTORY_PATH, copyPath, user);
+
+        assertThat(submitted.id()).isNotNull();
+        assertThat(submitted.status()).isEqualTo(JobStatus.PENDING);
+
+        JobResponseDto result = awaitCompletion(submitted.id());
+
+        assertThat(result.status()).isEqualTo(JobStatus.COMPLETED);
+        assertThat(resourceService.getDirectoryContent(copyPath, user)).hasSize(FILE_COUNT);
+        assertThat(resourceService.getDirectoryContent(DIRECTORY_PATH, user)).hasSize(FILE_COUNT);
+    }
+
+    @Test
+    void shouldReportProgressOfBackgroundMove() throws InterruptedException {
+        String movePath = "test-dir-moved/";
+
+        JobResponseDto submitted = jobService.submitJob(JobType.MOVE, DIRECTORY_PATH, movePath, user);
+        JobResponseDto result = awaitCompletion(submitted.id());
+
+        assertThat(result.status()).isEqualTo(JobStatus.COMPLETED);
+        assertThat(result.totalItems()).isEqualTo(FILE_COUNT + 1);
+        assertThat(result.processedItems()).isEqualTo(FILE_COUNT + 1);
+        assertThat(result.failedItems()).isZero();
+        assertThat(result.errors()).isEmpty();
+        assertThat(resourceService.isResourceExisting(getFullPath(DIRECTORY_PATH))).isFalse();
+        assertThat(resourceService.getDirectoryContent(movePath, user)).hasSize(FILE_COUNT);
+    }
+
+    @Test
+    void shouldResumeJobOnlyAfterLeaseExpires() throws InterruptedException {
+        Job job = createRunningJob(Instant.now().plus(Duration.ofHours(1)));
+
+        jobWorker.pollJobs();
+        Thread.sleep(500);
+
+        Job leased = jobRepository.findById(job.getId()).orElseThrow();
+        assertThat(leased.getStatus()).isEqualTo(JobStatus.RUNNING);
+        assertThat(leased.getTotalItems()).isNull();
+
+        leased.setLeaseExpiresAt(Instant.now().minusSeconds(1));
+        jobRepository.save(leased);
+
+        JobResponseDto result = awaitCompletion(job.getId());
+
+        assertThat(result.status()).isEqualTo(JobStatus.COMPLETED);
+        assertThat(result.processedItems()).isEqualTo(FILE_COUNT + 1);
+        assertThat(resourceService.isResourceExisting(getFullPath(DIRECTORY_PATH))).isFalse();
+    }
+
+    @Test
+    void shouldFenceProgressOfWorkerThatLostItsLease() throws InterruptedException {
+        Job job = createRunningJob(Instant.now().minusSeconds(1));
+        job.setLeaseOwner("previous-worker");
+        jobRepository.save(job);
+
+        JobResponseDto result = awaitCompletion(job.getId());
+        Integer updated = transactionTemplate.execute(status -> jobRepository.addProgress(
+                job.getId(), "previous-worker", 1, 0, Instant.now().plus(Duration.ofHours(1)), Instant.now()));
+
+        assertThat(result.status()).isEqualTo(JobStatus.COMPLETED);
+        assertThat(updated).isZero();
+        assertThat(jobRepository.findById(job.getId()).orElseThrow().getLeaseOwner()).isNotEqualTo("previous-worker");
+        assertThat(jobService.getJob(job.getId(), user).processedItems()).isEqualTo(result.processedItems());
+    }
+
+    @Test
+    void shouldOnlyExtendLeaseForItsOwner() {
+        Instant leaseExpiresAt = Instant.now().plus(Duration.ofMinutes(1));
+        Job job = createRunningJob(leaseExpiresAt);
+        job.setLeaseOwner("current-worker");
+        jobRepository.save(job);
+        Instant extendedLease = leaseExpiresAt.plus(Duration.ofHours(1));
+
+        Integer rejected = transactionTemplate.execute(status ->
+                jobRepository.extendLease(job.getId(), "previous-worker", extendedLease, Instant.now()));
+        Integer extended = transactionTemplate.execute(status ->
+                jobRepository.extendLease(job.getId(), "current-worker", extendedLease, Instant.now()));
+
+        assertThat(rejected).isZero();
+        assertThat(extended).isOne();
+        assertThat(jobRepository.findById(job.getId()).orElseThrow().getLeaseExpiresAt())
+                .isAfter(leaseExpiresAt);
+    }
+
+    private Job createRunningJob(Instant leaseExpiresAt) {
+        Instant now = Instant.now();
+        Job job = new Job();
+        job.setUserId(currentUserService.getCurrentUserId(user));
+        job.setType(JobType.DELETE);
+        job.setStatus(JobStatus.RUNNING);
+        job.setSourcePath(getFullPath(DIRECTORY_PATH));
+        job.setLeaseExpiresAt(leaseExpiresAt);
+        job.setCreatedAt(now);
+        job.setUpdatedAt(now);
+        return jobRepository.save(job);
+    }
+
+    private JobResponseDto awaitCompletion(Long jobId) throws InterruptedException {
+        Instant deadline = Instant.now().plus(JOB_TIMEOUT);
+        JobResponseDto job = jobService.getJob(jobId, user);
+        while (isUnfinished(job) && Instant.now().isBefore(deadline)) {
+            jobWorker.pollJobs();
+            Thread.sleep(100);
+            job = jobService.getJob(jobId, user);
+        }
+        return job;
+    }
+
+    private boolean isUnfinished(JobResponseDto job) {
+        return job.status() == JobStatus.PENDING || job.status() == JobStatus.RUNNING;
+    }
+
+    private String getFullPath(String path) {
+        Long userId = currentUserService.getCurrentUserId(user);
+        return pathBuilderService.createFullDirectoryPath(userId, path);
+    }
+}
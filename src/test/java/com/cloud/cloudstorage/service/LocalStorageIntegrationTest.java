@@ -0,0 +1,151 @@
+package com.cloud.cloudstorage.service;
+
+import com.cloud.cloudstorage.BaseIntegrationTest;
+import com.cloud.cloudstorage.dto.FileUploadDto;
+import com.cloud.cloudstorage.dto.StreamResourceDto;
+import com.cloud.cloudstorage.dto.UserCreateDto;
+import com.cloud.cloudstorage.exception.InvalidPathException;
+import com.cloud.cloudstorage.exception.MinioResourceNotExistsException;
+import com.cloud.cloudstorage.service.impl.LocalStorageServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_CLASS)
+public class LocalStorageIntegrationTest extends BaseIntegrationTest {
+    private static final String DIRECTORY_PATH = "test-dir/";
+
+    @Autowired
+    private ResourceService resourceService;
+
+    @Autowired
+    private StorageService storageService;
+
+    @Autowired
+    private PathBuilderService pathBuilderService;
+
+    @Autowired
+    private UserAccountService userAccountService;
+
+    @Autowired
+    private CurrentUserService currentUserService;
+
+    private User user;
+
+    @DynamicPropertySource
+    private static void setLocalStorageProperties(DynamicPropertyRegistry registry) throws IOException {
+        Path directory = Files.createTempDirectory("cloud-storage-local-test");
+        registry.add("storage.backend", () -> "local");
+        registry.add("storage.local.directory", directory::toString);
+    }
+
+    @BeforeEach
+    void setUp() {
+        registerNewUser();
+        user = createUserDetails();
+    }
+
+    @Test
+    void shouldUseLocalBackend() {
+        assertThat(storageService).isInstanceOf(LocalStorageServiceImpl.class);
+    }
+
+    @Test
+    void shouldUploadMoveAndDownloadFile() throws IOException {
+        String content = "Local file";
+        MockMultipartFile file = new MockMultipartFile(
+                "file",
+                "nested/file.txt",
+                "text/plain",
+                content.getBytes()
+        );
+        resourceService.createEmptyDirectory(DIRECTORY_PATH, user);
+        resourceService.uploadFiles(DIRECTORY_PATH, new FileUploadDto(List.of(file)), user);
+
+        String movedDirectoryPath = "moved-dir/";
+        resourceService.moveResource(DIRECTORY_PATH, movedDirectoryPath, user);
+        assertThat(resourceService.isResourceExisting(getFullPath(DIRECTORY_PATH))).isFalse();
+        assertThat(resourceService.isResourceExisting(getFullPath(movedDirectoryPath + "nested/file.txt"))).isTrue();
+
+        StreamResourceDto result = resourceService.downloadResource(movedDirectoryPath + "nested/file.txt", user);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        result.body().writeTo(outputStream);
+        assertThat(outputStream.toString()).isEqualTo(content);
+    }
+
+    @Test
+    void shouldDeleteDirectoryRecursively() {
+        MockMultipartFile file = new MockMultipartFile(
+                "file",
+                "nested/file.txt",
+                "text/plain",
+                "Local file".getBytes()
+        );
+        resourceService.createEmptyDirectory(DIRECTORY_PATH, user);
+        resourceService.uploadFiles(DIRECTORY_PATH, new FileUploadDto(List.of(file)), user);
+
+        resourceService.deleteResource(DIRECTORY_PATH, user);
+
+        assertThat(resourceService.isResourceExisting(getFullPath(DIRECTORY_PATH))).isFalse();
+        assertThat(storageService.getWholeDirectoryContentList(getFullPath(""))).isEmpty();
+    }
+
+    @Test
+    void shouldNotEscapeUserRootDirectory() {
+        UserCreateDto otherUserCreateDto = new UserCreateDto("other-user", "test-password", "other-email@gmail.com");
+        userAccountService.registerNewUser(otherUserCreateDto, new MockHttpServletRequest());
+        User otherUser = new User("other-user", "test-password", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        resourceService.createEmptyDirectory(DIRECTORY_PATH, otherUser);
+        String otherRootDirName = pathBuilderService.createRootDirName(currentUserService.getCurrentUserId(otherUser));
+        String escapingPath = "../" + otherRootDirName + DIRECTORY_PATH;
+        MockMultipartFile file = new MockMultipartFile(
+                "file",
+                escapingPath + "file.txt",
+                "text/plain",
+                "Local file".getBytes()
+        );
+        resourceService.createEmptyDirectory(DIRECTORY_PATH, user);
+
+        assertThrows(InvalidPathException.class, () -> resourceService.getDirectoryContent(escapingPath, user));
+        assertThrows(InvalidPathException.class, () -> resourceService.deleteResource(escapingPath, user));
+        assertThrows(InvalidPathException.class,
+                () -> resourceService.uploadFiles(DIRECTORY_PATH, new FileUploadDto(List.of(file)), user));
+        assertThrows(MinioResourceNotExistsException.class,
+                () -> storageService.getDirectoryObjectsList(getFullPath("") + escapingPath));
+        assertThrows(MinioResourceNotExistsException.class, () -> storageService.deleteResource(getFullPath("") + escapingPath));
+        assertThat(resourceService.getDirectoryContent(DIRECTORY_PATH, otherUser)).isEmpty();
+        assertThat(storageService.getDirectoryObjectsList(otherRootDirName + DIRECTORY_PATH)).isEmpty();
+    }
+
+    private void registerNewUser() {
+        UserCreateDto userCreateDto = new UserCreateDto("test-user", "test-password", "test-email@gmail.com");
+        userAccountService.registerNewUser(userCreateDto, new MockHttpServletRequest());
+    }
+
+    private User createUserDetails() {
+        return new User("test-user", "test-password", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+
+    private String getFullPath(String path) {
+        Long userId = currentUserService.getCurrentUserId(user);
+        return pathBuilderService.createFullDirectoryPath(userId, path);
+    }
+}
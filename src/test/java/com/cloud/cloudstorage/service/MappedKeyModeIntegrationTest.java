@@ -0,0 +1,193 @@
+package com.cloud.cloudstorage.service;
+
+import com.cloud.cloudstorage.BaseIntegrationTest;
+import com.cloud.cloudstorage.config.minio.MappedKeyImporter;
+import com.cloud.cloudstorage.config.minio.MinioProperties;
+import com.cloud.cloudstorage.config.minio.MinioShard;
+import com.cloud.cloudstorage.config.minio.MinioShardRouter;
+import com.cloud.cloudstorage.dto.BaseResourceResponseDto;
+import com.cloud.cloudstorage.dto.FileUploadDto;
+import com.cloud.cloudstorage.dto.StreamResourceDto;
+import com.cloud.cloudstorage.dto.UserCreateDto;
+import com.cloud.cloudstorage.exception.UnmappedObjectsException;
+import com.cloud.cloudstorage.repository.ResourceEntryRepository;
+import io.minio.PutObjectArgs;
+import io.minio.StatObjectArgs;
+import io.minio.errors.ErrorResponseException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(properties = {
+        "minio.key-mode=mapped",
+        "minio.import-unmapped-objects=true"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_CLASS)
+public class MappedKeyModeIntegrationTest extends BaseIntegrationTest {
+    private static final String DIRECTORY_PATH = "test-dir/";
+    private static final String FILE_NAME = "file.txt";
+    private static final String CONTENT = "Mapped key content";
+    private static final String LEGACY_PATH = "legacy/report.txt";
+    private static final String LEGACY_CONTENT = "Path mode content";
+
+    @Autowired
+    private ResourceService resourceService;
+
+    @Autowired
+    private PathBuilderService pathBuilderService;
+
+    @Autowired
+    private UserAccountService userAccountService;
+
+    @Autowired
+    private CurrentUserService currentUserService;
+
+    @Autowired
+    private MinioShardRouter minioShardRouter;
+
+    @Autowired
+    private MappedKeyImporter mappedKeyImporter;
+
+    @Autowired
+    private ResourceEntryRepository resourceEntryRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        UserCreateDto userCreateDto = new UserCreateDto("test-user", "test-password", "test-email@gmail.com");
+        userAccountService.registerNewUser(userCreateDto, new MockHttpServletRequest());
+        user = new User("test-user", "test-password", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        resourceService.createEmptyDirectory(DIRECTORY_PATH, user);
+        MockMultipartFile file = new MockMultipartFile("files", FILE_NAME, "text/plain", CONTENT.getBytes());
+        resourceService.uploadFiles(DIRECTORY_PATH, new FileUploadDto(List.of(file)), user);
+    }
+
+    @Test
+    void shouldStoreFilesUnderGeneratedKeys() {
+        List<BaseResourceResponseDto> result = resourceService.getDirectoryContent(DIRECTORY_PATH, user);
+
+        assertThat(result).hasSize(1);
+        assertThat(result.getFirst().getName()).isEqualTo(FILE_NAME);
+        assertThat(hasObject(DIRECTORY_PATH + FILE_NAME)).isFalse();
+    }
+
+    @Test
+    void shouldMoveDirectoryWithoutCopyingObjects() throws IOException {
+        String newPath = "moved-dir/";
+        String objectKey = getObjectKey(DIRECTORY_PATH + FILE_NAME);
+
+        resourceService.moveResource(DIRECTORY_PATH, newPath, user);
+
+        assertThat(resourceService.isResourceExisting(getFullPath(DIRECTORY_PATH))).isFalse();
+        assertThat(resourceService.getDirectoryContent(newPath, user)).hasSize(1);
+        assertThat(getObjectKey(newPath + FILE_NAME)).isEqualTo(objectKey);
+        assertThat(download(newPath + FILE_NAME)).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void shouldDownloadFile() throws IOException {
+        assertThat(download(DIRECTORY_PATH + FILE_NAME)).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void shouldDeleteDirectoryWithObjects() {
+        String objectKey = getObjectKey(DIRECTORY_PATH + FILE_NAME);
+
+        resourceService.deleteResource(DIRECTORY_PATH, user);
+
+        assertThat(resourceService.isResourceExisting(getFullPath(DIRECTORY_PATH))).isFalse();
+        assertThat(resourceService.isResourceExisting(getFullPath(DIRECTORY_PATH + FILE_NAME))).isFalse();
+        assertThat(hasObjectKey(objectKey)).isFalse();
+    }
+
+    @Test
+    void shouldImportPathModeObjects() throws Exception {
+        putLegacyObject();
+
+        mappedKeyImporter.run(null);
+
+        List<BaseResourceResponseDto> result = resourceService.getDirectoryContent("legacy/", user);
+        assertThat(result).hasSize(1);
+        assertThat(download(LEGACY_PATH)).isEqualTo(LEGACY_CONTENT);
+
+        resourceService.moveResource("legacy/", "archive/", user);
+
+        assertThat(download("archive/report.txt")).isEqualTo(LEGACY_CONTENT);
+        assertThat(resourceService.isResourceExisting(getFullPath("legacy/"))).isFalse();
+    }
+
+    @Test
+    void shouldRefuseUnmappedObjectsWhenImportIsDisabled() throws Exception {
+        putLegacyObject();
+        MinioProperties strictProperties = new MinioProperties();
+        strictProperties.setImportUnmappedObjects(false);
+        MappedKeyImporter strictImporter = new MappedKeyImporter(
+                minioShardRouter, strictProperties, resourceEntryRepository, transactionTemplate);
+
+        assertThrows(UnmappedObjectsException.class, () -> strictImporter.run(null));
+    }
+
+    private void putLegacyObject() throws Exception {
+        String fullPath = getFullPath(LEGACY_PATH);
+        MinioShard shard = minioShardRouter.route(fullPath);
+        byte[] content = LEGACY_CONTENT.getBytes();
+        shard.client().putObject(PutObjectArgs.builder()
+                .bucket(shard.bucket())
+                .object(fullPath)
+                .stream(new ByteArrayInputStream(content), content.length, -1)
+                .build());
+    }
+
+    private String download(String path) throws IOException {
+        StreamResourceDto result = resourceService.downloadResource(path, user);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        result.body().writeTo(outputStream);
+        return outputStream.toString();
+    }
+
+    private String getObjectKey(String path) {
+        return resourceEntryRepository.findByPath(getFullPath(path))
+                .orElseThrow()
+                .getObjectKey();
+    }
+
+    private boolean hasObject(String path) {
+        return hasObjectKey(getFullPath(path));
+    }
+
+    private boolean hasObjectKey(String objectKey) {
+        MinioShard shard = minioShardRouter.route(objectKey);
+        try {
+            shard.client().statObject(StatObjectArgs.builder().bucket(shard.bucket()).object(objectKey).build());
+            return true;
+        } catch (ErrorResponseException e) {
+            return false;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String getFullPath(String path) {
+        Long userId = currentUserService.getCurrentUserId(user);
+        return pathBuilderService.createFullDirectoryPath(userId, path);
+    }
+}
@@ -1,16 +1,24 @@
 package com.cloud.cloudstorage.service;
 
 import com.cloud.cloudstorage.BaseIntegrationTest;
+import com.cloud.cloudstorage.config.minio.MinioShardRouter;
 import com.cloud.cloudstorage.dto.BaseResourceResponseDto;
+import com.cloud.cloudstorage.dto.DirectoryResponseDto;
 import com.cloud.cloudstorage.dto.FileUploadDto;
+import com.cloud.cloudstorage.dto.ShardAssignmentResponseDto;
+import com.cloud.cloudstorage.dto.StorageUsageResponseDto;
 import com.cloud.cloudstorage.dto.StreamResourceDto;
 import com.cloud.cloudstorage.dto.UserCreateDto;
 import com.cloud.cloudstorage.dto.enums.ResourceType;
+import com.cloud.cloudstorage.dto.enums.ShardState;
+import com.cloud.cloudstorage.exception.MinioResourceAlreadyExistsException;
 import com.cloud.cloudstorage.exception.MinioResourceNotExistsException;
+import com.cloud.cloudstorage.exception.ShardMigrationWriteBlockedException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -46,6 +54,18 @@ public class ResourceServiceIntegrationTest extends BaseIntegrationTest {
    @Autowired
    private CurrentUserService currentUserService;
 
+   @Autowired
+   private StorageUsageService storageUsageService;
+
+   @Autowired
+   private JdbcTemplate jdbcTemplate;
+
+   @Autowired
+   private MinioShardRouter minioShardRouter;
+
+   @Autowired
+   private ShardService shardService;
+
    private User user;
 
     @BeforeEach
@@ -134,6 +154,25 @@ public class ResourceServiceIntegrationTest extends BaseIntegrationTest {
         assertThat(newResourcePathExists).isTrue();
     }
 
+    @Test
+    void shouldReportMissingSourceFirstWhenMovingToExistingResource() {
+        String existingDirPath = "test-dir2/";
+        resourceService.createEmptyDirectory(existingDirPath, user);
+
+        assertThrows(
+                MinioResourceNotExistsException.class,
+                () -> resourceService.moveResource(DIRECTORY_PATH, existingDirPath, user));
+    }
+
+    @Test
+    void shouldRejectCreatingExistingDirectory() {
+        resourceService.createEmptyDirectory(DIRECTORY_PATH, user);
+
+        assertThrows(
+                MinioResourceAlreadyExistsException.class,
+                () -> resourceService.createEmptyDirectory(DIRECTORY_PATH, user));
+    }
+
     @Test
     void shouldDownloadFile() throws IOException {
         String content = "Test";
@@ -158,6 +197,64 @@ public class ResourceServiceIntegrationTest extends BaseIntegrationTest {
         assertThat(responseContent).isEqualTo(content);
     }
 
+    @Test
+    void shouldDownloadNewContentAfterFileIsReplaced() throws IOException {
+        String filePath = DIRECTORY_PATH + "file.txt";
+        resourceService.createEmptyDirectory(DIRECTORY_PATH, user);
+        uploadFile("file.txt", "First version");
+        assertThat(downloadContent(filePath)).isEqualTo("First version");
+        assertThat(downloadContent(filePath)).isEqualTo("First version");
+
+        resourceService.deleteResource(filePath, user);
+        uploadFile("file.txt", "Second version");
+
+        assertThat(downloadContent(filePath)).isEqualTo("Second version");
+    }
+
+    @Test
+    void shouldRejectWritesWhileShardMigrationIsInProgress() {
+        resourceService.createEmptyDirectory(DIRECTORY_PATH, user);
+        String rootDirName = getFullPath("");
+        minioShardRouter.setWriteBlocked(rootDirName, true);
+        try {
+            assertThrows(
+                    ShardMigrationWriteBlockedException.class,
+                    () -> resourceService.deleteResource(DIRECTORY_PATH, user));
+            assertThrows(
+                    ShardMigrationWriteBlockedException.class,
+                    () -> resourceService.createEmptyDirectory("another-dir/", user));
+            assertThat(resourceService.getResourceInfo(DIRECTORY_PATH, user).getType()).isEqualTo(ResourceType.DIRECTORY);
+        } finally {
+            minioShardRouter.setWriteBlocked(rootDirName, false);
+        }
+
+        resourceService.deleteResource(DIRECTORY_PATH, user);
+        assertThat(resourceService.isResourceExisting(getFullPath(DIRECTORY_PATH))).isFalse();
+    }
+
+    @Test
+    void shouldUnblockWritesWhenInterruptedMigrationIsReset() {
+        resourceService.createEmptyDirectory(DIRECTORY_PATH, user);
+        String rootDirName = getFullPath("");
+        jdbcTemplate.update("""
+                INSERT INTO storage.user_shards (root_dir, shard_name, target_shard_name, state, updated_at)
+                VALUES (?, 'default', 'default', 'MIGRATING', now())
+                ON CONFLICT (root_dir) DO UPDATE SET target_shard_name = 'default', state = 'MIGRATING', updated_at = now()
+                """, rootDirName);
+        minioShardRouter.refreshAssignments();
+        assertThrows(
+                ShardMigrationWriteBlockedException.class,
+                () -> resourceService.createEmptyDirectory("another-dir/", user));
+
+        ShardAssignmentResponseDto assignment = shardService.resetMigration(currentUserService.getCurrentUserId(user));
+        minioShardRouter.refreshAssignments();
+        resourceService.createEmptyDirectory("another-dir/", user);
+
+        assertThat(assignment.state()).isEqualTo(ShardState.ACTIVE);
+        assertThat(assignment.targetShard()).isNull();
+        assertThat(resourceService.isResourceExisting(getFullPath("another-dir/"))).isTrue();
+    }
+
     @Test
     void shouldDeleteResource() {
         resourceService.createEmptyDirectory(DIRECTORY_PATH, user);
@@ -169,6 +266,77 @@ public class ResourceServiceIntegrationTest extends BaseIntegrationTest {
         assertThat(resourceExisting).isFalse();
     }
 
+    @Test
+    void shouldTrackStorageUsageOnUploadAndDelete() {
+        String content = "Test file for usage";
+        MockMultipartFile file = new MockMultipartFile(
+                "file",
+                "file.txt",
+                "text/plain",
+                content.getBytes()
+        );
+        resourceService.createEmptyDirectory(DIRECTORY_PATH, user);
+        resourceService.uploadFiles(DIRECTORY_PATH, new FileUploadDto(List.of(file)), user);
+        Long userId = currentUserService.getCurrentUserId(user);
+
+        StorageUsageResponseDto usageAfterUpload = storageUsageService.getUsage(userId);
+        assertThat(usageAfterUpload.usedBytes()).isEqualTo(content.length());
+        assertThat(usageAfterUpload.objectCount()).isEqualTo(1);
+
+        resourceService.deleteResource(DIRECTORY_PATH, user);
+        StorageUsageResponseDto usageAfterDelete = storageUsageService.getUsage(userId);
+        assertThat(usageAfterDelete.usedBytes()).isZero();
+        assertThat(usageAfterDelete.objectCount()).isZero();
+    }
+
+    @Test
+    void shouldAggregateDirectorySizeUpAncestorChain() {
+        String content = "Nested file";
+        MockMultipartFile file = new MockMultipartFile(
+                "file",
+                "nested/deeper/file.txt",
+                "text/plain",
+                content.getBytes()
+        );
+        resourceService.createEmptyDirectory(DIRECTORY_PATH, user);
+        resourceService.uploadFiles(DIRECTORY_PATH, new FileUploadDto(List.of(file)), user);
+
+        DirectoryResponseDto directory = (DirectoryResponseDto) resourceService.getResourceInfo(DIRECTORY_PATH, user);
+        assertThat(directory.getSize()).isEqualTo(content.length());
+        assertThat(directory.getObjectCount()).isEqualTo(1);
+
+        DirectoryResponseDto nested = (DirectoryResponseDto) resourceService.getDirectoryContent(DIRECTORY_PATH, user).getFirst();
+        assertThat(nested.getSize()).isEqualTo(content.length());
+        assertThat(nested.getObjectCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReportUnknownDirectorySizeUntilUsageIsReconciled() {
+        Long userId = currentUserService.getCurrentUserId(user);
+        jdbcTemplate.update("UPDATE storage.storage_usage SET reconciled_at = NULL WHERE user_id = ?", userId);
+        String content = "Nested file";
+        MockMultipartFile file = new MockMultipartFile(
+                "file",
+                "nested/file.txt",
+                "text/plain",
+                content.getBytes()
+        );
+        resourceService.createEmptyDirectory(DIRECTORY_PATH, user);
+        resourceService.uploadFiles(DIRECTORY_PATH, new FileUploadDto(List.of(file)), user);
+
+        DirectoryResponseDto unknown = (DirectoryResponseDto) resourceService.getResourceInfo(DIRECTORY_PATH, user);
+        assertThat(unknown.getSize()).isNull();
+        assertThat(unknown.getObjectCount()).isNull();
+        DirectoryResponseDto unknownNested = (DirectoryResponseDto) resourceService.getDirectoryContent(DIRECTORY_PATH, user).getFirst();
+        assertThat(unknownNested.getSize()).isNull();
+
+        assertThat(storageUsageService.reconcileUsage(userId)).isTrue();
+
+        DirectoryResponseDto directory = (DirectoryResponseDto) resourceService.getResourceInfo(DIRECTORY_PATH, user);
+        assertThat(directory.getSize()).isEqualTo(content.length());
+        assertThat(directory.getObjectCount()).isEqualTo(1);
+    }
+
     @Test
     void shouldGetResourceDetails() {
         resourceService.createEmptyDirectory(DIRECTORY_PATH, user);
@@ -207,6 +375,14 @@ public class ResourceServiceIntegrationTest extends BaseIntegrationTest {
 
     }
 
+    @Test
+    void shouldProvisionRootDirectoryOnFirstAccess() {
+        List<BaseResourceResponseDto> result = resourceService.getDirectoryContent("", user);
+
+        assertThatList(result).isEmpty();
+        assertThat(resourceService.isResourceExisting(getFullPath(""))).isTrue();
+    }
+
     private void registerNewUser() {
         UserCreateDto userCreateDto = new UserCreateDto("test-user", "test-password", "test-email@gmail.com");
         userAccountService.registerNewUser(userCreateDto, new MockHttpServletRequest());
@@ -221,4 +397,14 @@ public class ResourceServiceIntegrationTest extends BaseIntegrationTest {
         return pathBuilderService.createFullDirectoryPath(userId, path);
     }
 
+    private void uploadFile(String filename, String content) {
+        MockMultipartFile file = new MockMultipartFile("file", filename, "text/plain", content.getBytes());
+        resourceService.uploadFiles(DIRECTORY_PATH, new FileUploadDto(List.of(file)), user);
+    }
+
+    private String downloadContent(String path) throws IOException {
+        OutputStream outputStream = new ByteArrayOutputStream();
+        resourceService.downloadResource(path, user).body().writeTo(outputStream);
+        return outputStream.toString();
+    }
 }
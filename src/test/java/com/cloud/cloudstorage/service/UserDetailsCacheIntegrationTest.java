@@ -0,0 +1,59 @@
+package com.cloud.cloudstorage.service;
+
+import com.cloud.cloudstorage.BaseIntegrationTest;
+import com.cloud.cloudstorage.dto.UserCreateDto;
+import com.cloud.cloudstorage.model.User;
+import com.cloud.cloudstorage.repository.UserRepository;
+import com.cloud.cloudstorage.service.impl.MyUserDetailsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.annotation.DirtiesContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_CLASS)
+public class UserDetailsCacheIntegrationTest extends BaseIntegrationTest {
+    private static final String USERNAME = "test-user";
+    private static final String UPDATED_PASSWORD = "updated-encoded-password";
+
+    @Autowired
+    private MyUserDetailsService userDetailsService;
+
+    @Autowired
+    private UserAccountService userAccountService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        UserCreateDto userCreateDto = new UserCreateDto(USERNAME, "test-password", "test-email@gmail.com");
+        userAccountService.registerNewUser(userCreateDto, new MockHttpServletRequest());
+    }
+
+    @Test
+    void shouldLoadNewPasswordAfterUpdatePassword() {
+        UserDetails cachedUser = userDetailsService.loadUserByUsername(USERNAME);
+
+        userDetailsService.updatePassword(cachedUser, UPDATED_PASSWORD);
+
+        assertThat(userDetailsService.loadUserByUsername(USERNAME).getPassword()).isEqualTo(UPDATED_PASSWORD);
+    }
+
+    @Test
+    void shouldEvictCachedUserWhenEntityIsUpdated() {
+        UserDetails cachedUser = userDetailsService.loadUserByUsername(USERNAME);
+        User user = userRepository.findUserByUsername(USERNAME).orElseThrow();
+
+        user.setPassword(UPDATED_PASSWORD);
+        userRepository.saveAndFlush(user);
+
+        assertThat(cachedUser.getPassword()).isNotEqualTo(UPDATED_PASSWORD);
+        assertThat(userDetailsService.loadUserByUsername(USERNAME).getPassword()).isEqualTo(UPDATED_PASSWORD);
+    }
+}